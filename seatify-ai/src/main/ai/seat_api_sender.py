@@ -3,6 +3,7 @@ import json
 import hashlib
 import math
 import os
+import time
 
 HASH_CACHE_FILE = "layout_hash_cache.json"
 
@@ -98,7 +99,11 @@ def send_seat_layout_if_changed(cafe_id, seat_list):
         send_seat_layout(cafe_id, seat_list)
 
 
-def send_seat_status(cafe_id, status_list):
+def send_seat_status(cafe_id, status_list, seq=None):
+    # seq: 카페별로 단조 증가하는 프레임 순번. 지정하지 않으면 촬영(전송) 시각(ms)을 사용
+    if seq is None:
+        seq = int(time.time() * 1000)
+
     token = get_access_token_from_flask()
     if not token:
         print("🚫 토큰 없음 - Status 전송 취소")
@@ -110,6 +115,7 @@ def send_seat_status(cafe_id, status_list):
     } for seat in status_list]
 
     payload = {
+        "seq": seq,
         "status_list": status_entries
     }
 
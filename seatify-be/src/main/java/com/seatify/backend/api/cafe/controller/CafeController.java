@@ -1,22 +1,42 @@
 package com.seatify.backend.api.cafe.controller;
 
+import com.seatify.backend.api.cafe.dto.CafeDetailCacheStatsDTO;
+import com.seatify.backend.api.cafe.dto.CafeImportResultDTO;
 import com.seatify.backend.api.cafe.dto.CafeInfoResponseDTO;
+import com.seatify.backend.api.cafe.dto.CafePageDTO;
+import com.seatify.backend.api.cafe.dto.CafeRecommendationDTO;
 import com.seatify.backend.api.cafe.dto.CafeSaveRequestDTO;
+import com.seatify.backend.api.cafe.dto.NearbyCafeDTO;
 import com.seatify.backend.api.seat.dto.SeatDTO;
+import com.seatify.backend.api.seat.dto.SeatDeltaDTO;
+import com.seatify.backend.api.seat.dto.SeatLayoutDTO;
 import com.seatify.backend.api.seat.dto.SeatResponseDTO;
-import com.seatify.backend.domain.seat.constant.SeatState;
-import com.seatify.backend.domain.seat.entity.Seat;
-import com.seatify.backend.domain.seat.entity.SeatStatus;
+import com.seatify.backend.domain.seat.service.SeatLayoutRegistry;
+import com.seatify.backend.domain.seat.service.SeatLongPollService;
 import com.seatify.backend.domain.seat.service.SeatService;
-import com.seatify.backend.domain.seat.service.SeatStatusService;
+import com.seatify.backend.domain.seat.service.SeatStreamBroadcaster;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.seatify.backend.api.cafe.dto.CafeDTO;
+import com.seatify.backend.domain.cafe.service.CafeDetailCache;
+import com.seatify.backend.domain.cafe.service.CafeExportService;
+import com.seatify.backend.domain.cafe.service.CafeImportService;
+import com.seatify.backend.domain.cafe.service.CafeRecommendationService;
 import com.seatify.backend.domain.cafe.service.CafeService;
+import com.seatify.backend.domain.cafe.service.CafeVersionRegistry;
+import com.seatify.backend.domain.cafe.service.OpeningSchedule;
+import com.seatify.backend.domain.cafe.service.OpeningScheduleRegistry;
 import com.seatify.backend.domain.member.service.MemberService;
 import com.seatify.backend.domain.review.service.ReviewService;
 import com.seatify.backend.domain.viewedcafe.service.ViewedCafeService;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.EntityNotFoundException;
 import com.seatify.backend.global.resolver.MemberInfo;
 import com.seatify.backend.global.resolver.MemberInfoDTO;
 
@@ -28,9 +48,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import springfox.documentation.annotations.ApiIgnore;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Tag(name = "cafe", description = "카페 API")
 @Slf4j
@@ -41,27 +61,104 @@ public class CafeController {
 
 	private final MemberService	memberService;
 	private final CafeService cafeService;
+	private final CafeExportService cafeExportService;
+	private final CafeImportService cafeImportService;
+	private final CafeRecommendationService cafeRecommendationService;
 	private final ReviewService reviewService;
 	private final ViewedCafeService viewedCafeService;
 	private final SeatService seatService;
-	private final SeatStatusService seatStatusService;
+	private final SeatStreamBroadcaster seatStreamBroadcaster;
+	private final SeatLayoutRegistry seatLayoutRegistry;
+	private final SeatLongPollService seatLongPollService;
+	private final CafeVersionRegistry cafeVersionRegistry;
+	private final CafeDetailCache cafeDetailCache;
+	private final OpeningScheduleRegistry openingScheduleRegistry;
 
 	@Tag(name = "cafe")
-	@Operation(summary = "카페 정보 저장 API", description = "구글 맵에서 수집한 카페 데이터를 저장합니다.")
+	@Operation(summary = "카페 정보 저장 API", description = "구글 맵에서 수집한 카페 데이터를 저장합니다. "
+		+ "저장 규칙은 카페 일괄 가져오기 API와 같습니다.")
 	@PostMapping("/cafes")
 	public ResponseEntity<Void> saveCafes(@RequestBody List<CafeSaveRequestDTO> cafeList) {
-		cafeService.saveAllCafes(cafeList);
+		cafeImportService.importCafes(cafeList);
 		return ResponseEntity.ok().build();
 	}
 
 	@Tag(name = "cafe")
-	@Operation(summary = "카페 정보 조회 API", description = "DB에 저장된 카페 정보를 반환합니다.")
+	@Operation(summary = "카페 일괄 가져오기 API", description = "NDJSON(한 줄에 카페 하나) 또는 JSON 배열 본문을 읽는 대로 묶음 단위 배치로 저장하고, 추가/갱신/건너뜀 수를 반환합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "C-004", description = "카페 가져오기 요청 본문의 형식이 올바르지 않습니다.")
+	})
+	@PostMapping(value = "/cafes/import", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+	public ResponseEntity<CafeImportResultDTO> importCafes(@ApiIgnore InputStream body) throws IOException {
+		return ResponseEntity.ok(cafeImportService.importCafes(body));
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "카페 정보 조회 API", description = "DB에 저장된 카페 정보를 반환합니다. "
+		+ "afterId, size, fields 중 하나라도 주면 cafeId 순으로 afterId 다음 카페를 최대 size개 담은 페이지(CafePageDTO)를 반환합니다. "
+		+ "페이지에는 fields로 고른 항목만 포함하며, fields를 생략하면 영업 시간과 리뷰를 뺀 기본 항목을 담습니다. "
+		+ "다음 페이지는 응답의 nextCursor를 afterId로 넘겨 요청합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "C-003", description = "조회할 수 없는 카페 항목입니다.")
+	})
 	@GetMapping("/cafes")
-	public ResponseEntity<List<CafeInfoResponseDTO>> getAllCafeInfo() {
-		List<CafeInfoResponseDTO> cafeList = cafeService.getAllCafeInfo();
-		return ResponseEntity.ok(cafeList);
+	public ResponseEntity<?> getAllCafeInfo(@RequestParam(required = false) Long afterId,
+											@RequestParam(required = false) Integer size,
+											@RequestParam(required = false) List<String> fields) {
+		// 페이지 파라미터가 없으면 기존 클라이언트를 위해 전체 목록을 그대로 반환
+		if (afterId == null && size == null && fields == null) {
+			List<CafeInfoResponseDTO> cafeList = cafeService.getAllCafeInfo();
+			return ResponseEntity.ok(cafeList);
+		}
+		CafePageDTO page = cafeService.getCafePage(afterId, size, fields);
+		return ResponseEntity.ok(page);
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "카페 정보 전체 내보내기 API", description = "모든 카페 정보를 DB 커서에서 읽는 대로 JSON 배열로 스트리밍합니다.")
+	@GetMapping(value = "/cafes/export", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportCafes() {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(cafeExportService::writeAll);
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "주변 카페 조회 API", description = "기준 위치에서 반경(m) 안의 카페를 가까운 순으로 최대 limit개 반환합니다. openNow=true면 영업 중인 카페만 반환합니다.")
+	@GetMapping("/cafes/nearby")
+	public ResponseEntity<List<NearbyCafeDTO>> getNearbyCafes(@RequestParam double lat,
+															  @RequestParam double lng,
+															  @RequestParam(defaultValue = "1000") double radius,
+															  @RequestParam(defaultValue = "20") int limit,
+															  @RequestParam(defaultValue = "false") boolean openNow) {
+		return ResponseEntity.ok(cafeService.findNearbyCafes(lat, lng, radius, limit, openNow));
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "주변 한산한 카페 추천 API", description = "기준 위치 주변에서 빈자리가 많고 가까운 카페를 추천 점수 순으로 반환합니다.")
+	@GetMapping("/cafes/recommendations")
+	public ResponseEntity<List<CafeRecommendationDTO>> recommendCafes(@RequestParam double lat,
+																	  @RequestParam double lng,
+																	  @RequestParam(defaultValue = "1500") double radius,
+																	  @RequestParam(defaultValue = "5") int limit) {
+		return ResponseEntity.ok(cafeRecommendationService.recommend(lat, lng, radius, limit));
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "카페 주변 한산한 카페 추천 API", description = "보고 있는 카페 주변에서 빈자리가 많고 가까운 다른 카페를 추천 점수 순으로 반환합니다.")
+	@GetMapping("/cafe/{cafeId}/recommendations")
+	public ResponseEntity<List<CafeRecommendationDTO>> recommendAroundCafe(@PathVariable Long cafeId,
+																		   @RequestParam(defaultValue = "1500") double radius,
+																		   @RequestParam(defaultValue = "5") int limit) {
+		return ResponseEntity.ok(cafeRecommendationService.recommendAround(cafeId, radius, limit));
 	}
 
+	@Tag(name = "cafe")
+	@Operation(summary = "카페 상세 캐시 상태 조회 API", description = "카페 상세 캐시의 크기, 적중/미스/밀려남 수와 적중률을 반환합니다.")
+	@GetMapping("/cafes/detail-cache/stats")
+	public ResponseEntity<CafeDetailCacheStatsDTO> detailCacheStats() {
+		return ResponseEntity.ok(cafeDetailCache.stats());
+	}
 
 	@Tag(name = "cafe")
 	@Operation(summary = "카페 상세보기 API", description = "카페 정보를 조회하는 API")
@@ -70,8 +167,20 @@ public class CafeController {
 	})
 	@GetMapping("/cafe/{cafeId}")
 	public ResponseEntity<CafeDTO> cafeInfo(@PathVariable Long cafeId,
-										    @ApiIgnore @MemberInfo MemberInfoDTO memberInfoDTO) {
-		return ResponseEntity.ok(cafeService.findCafeInfoById(memberInfoDTO.getMemberId(), cafeId));
+										    @ApiIgnore @MemberInfo MemberInfoDTO memberInfoDTO,
+											@ApiIgnore WebRequest webRequest) {
+		// If-None-Match가 현재 버전과 같으면 DB 조회 없이 304. 영업 상태가 바뀌면 ETag도 바뀐다
+		// 없는 카페는 ETag를 만들지 않는다 (없는 ID도 시간표 캐시가 잠시 기억하므로 매번 DB를 읽지 않는다)
+		OpeningSchedule schedule = openingScheduleRegistry.find(cafeId)
+			.orElseThrow(() -> new EntityNotFoundException(ErrorCode.CAFE_NOT_EXIST));
+		boolean open = schedule.isOpen(openingScheduleRegistry.now());
+		String etag = cafeVersionRegistry.etag(open ? "cafe-open" : "cafe-closed", cafeId);
+		if (webRequest.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok()
+			.eTag(etag)
+			.body(cafeService.findCafeInfoById(memberInfoDTO.getMemberId(), cafeId));
 	}
 
 	@Tag(name = "cafe")
@@ -89,28 +198,47 @@ public class CafeController {
 	}
 
 	@GetMapping("/cafe/{cafeId}/seats")
-	public List<SeatResponseDTO> getSeats(@PathVariable Long cafeId) {
-		List<Seat> seats = seatService.findSeatsByCafeId(cafeId);
-
-		// 좌석 상태 정보도 함께 가져오기
-		List<SeatStatus> seatStatuses = seatStatusService.findStatusByCafeId(cafeId);
-
-		// seatNumber 기준으로 상태를 매핑
-		Map<Integer, SeatState> statusMap = seatStatuses.stream()
-				.collect(Collectors.toMap(SeatStatus::getSeatNumber, SeatStatus::getState));
-
-		return seats.stream()
-				.map(seat -> new SeatResponseDTO(
-						seat.getSeatId(),
-						seat.getSeatNumber(),
-						seat.isOccupied(),
-						seat.getX(),
-						seat.getY(),
-						seat.getWidth(),
-						seat.getHeight(),
-						statusMap.getOrDefault(seat.getSeatNumber(), SeatState.EMPTY).name() // ✅ 수정됨
-				))
-				.collect(Collectors.toList());
+	public ResponseEntity<List<SeatResponseDTO>> getSeats(@PathVariable Long cafeId, @ApiIgnore WebRequest webRequest) {
+		// 없는 카페에 ETag를 내주면 이후 같은 ID 요청이 304로 끝나므로 먼저 확인한다
+		if (openingScheduleRegistry.find(cafeId).isEmpty()) {
+			throw new EntityNotFoundException(ErrorCode.CAFE_NOT_EXIST);
+		}
+		String etag = cafeVersionRegistry.etag("seats", cafeId);
+		if (webRequest.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok()
+			.eTag(etag)
+			.body(seatService.findSeatsWithStatusByCafeId(cafeId));
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "카페 좌석 배치 조회 API", description = "현재 좌석 배치 또는 잠시 보관 중인 이전 버전의 배치를 반환합니다.")
+	@GetMapping("/cafe/{cafeId}/seats/layout")
+	public ResponseEntity<SeatLayoutDTO> getSeatLayout(@PathVariable Long cafeId,
+													   @RequestParam(required = false) Long version) {
+		if (version == null) {
+			return ResponseEntity.ok(SeatLayoutDTO.of(seatLayoutRegistry.current(cafeId)));
+		}
+		return seatLayoutRegistry.find(cafeId, version)
+			.map(snapshot -> ResponseEntity.ok(SeatLayoutDTO.of(snapshot)))
+			.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "카페 좌석 실시간 스트림 API", description = "처음에 전체 좌석(snapshot)을, 이후 바뀐 좌석(delta)만 SSE로 전송합니다.")
+	@GetMapping(value = "/cafe/{cafeId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSeats(@PathVariable Long cafeId) {
+		return seatStreamBroadcaster.subscribe(cafeId);
+	}
+
+	@Tag(name = "cafe")
+	@Operation(summary = "카페 좌석 변경 long-poll API", description = "since 토큰(직전 응답의 token) 이후 바뀐 좌석이 생길 때까지 기다렸다가 변경된 좌석만 반환합니다. 시간 초과 시 빈 목록을, 서버 재시작 전의 토큰이면 전체 좌석(full=true)을 반환합니다.")
+	@GetMapping("/cafe/{cafeId}/seats/changes")
+	public DeferredResult<ResponseEntity<SeatDeltaDTO>> pollSeatChanges(@PathVariable Long cafeId,
+																		 @RequestParam String since,
+																		 @RequestParam(required = false) Long timeoutMs) {
+		return seatLongPollService.await(cafeId, since, timeoutMs);
 	}
 
 	@Tag(name = "cafe")
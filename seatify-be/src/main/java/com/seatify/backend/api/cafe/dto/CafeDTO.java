@@ -13,7 +13,7 @@ import lombok.Getter;
 		"cafeInfo",
 		"comments"
 })
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class CafeDTO {
 	private CafeInfoResponseDTO cafeInfo;
@@ -0,0 +1,17 @@
+package com.seatify.backend.api.cafe.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CafeDetailCacheStatsDTO {
+	private long size;          // 현재 캐시된 카페 수
+	private long maximumSize;   // 최대 캐시 수
+	private long ttlSeconds;    // 저장 후 만료 시간
+	private long hits;          // 캐시 적중 수
+	private long misses;        // 캐시 미스 수 (DB 조회)
+	private long evictions;     // 크기/TTL로 밀려난 수 (명시적 무효화는 제외)
+	private double hitRate;     // 적중률
+	private int loadingCafes;   // DB에서 읽는 중인 카페 수
+}
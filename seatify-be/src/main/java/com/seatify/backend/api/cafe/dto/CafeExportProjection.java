@@ -0,0 +1,28 @@
+package com.seatify.backend.api.cafe.dto;
+
+public interface CafeExportProjection {
+
+	Long getCafeId();
+
+	String getName();
+
+	String getPhoneNumber();
+
+	String getAddress();
+
+	String getStatus();
+
+	String getRating();
+
+	String getLatitude();
+
+	String getLongitude();
+
+	String getOpeningHours();
+
+	String getReviews();
+
+	int getHasPlugCount();
+
+	int getIsCleanCount();
+}
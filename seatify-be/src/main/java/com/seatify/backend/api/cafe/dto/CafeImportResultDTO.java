@@ -0,0 +1,16 @@
+package com.seatify.backend.api.cafe.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CafeImportResultDTO {
+	private long received;     // 받은 행 수
+	private long inserted;     // 새로 저장한 카페 수
+	private long updated;      // 빈 칸(전화번호, 영업 시간)을 채운 기존 카페 수
+	private long unchanged;    // 이미 있고 채울 값이 없던 카페 수
+	private long skipped;      // 필수 항목(placeId, 이름, 상태)이 없거나 한글 주소가 아니거나 중복된 placeId인 행 수
+	private int chunks;        // 나눠서 커밋한 묶음 수
+	private long elapsedMs;    // 처리 시간
+}
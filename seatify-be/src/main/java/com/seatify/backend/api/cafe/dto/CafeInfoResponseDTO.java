@@ -1,5 +1,6 @@
 package com.seatify.backend.api.cafe.dto;
 
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,7 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CafeInfoResponseDTO {
@@ -47,4 +48,7 @@ public class CafeInfoResponseDTO {
 
     @Schema(description = "리뷰", example = "", required = true)
     private String reviews; // ✅ 추가된 필드
+
+    @Schema(description = "좌석 점유 현황 (좌석 정보가 없는 카페는 null)")
+    private SeatOccupancyDTO occupancy;
 }
@@ -0,0 +1,12 @@
+package com.seatify.backend.api.cafe.dto;
+
+public interface CafeLocationProjection {
+
+	Long getCafeId();
+
+	String getName();
+
+	String getLatitude();
+
+	String getLongitude();
+}
@@ -0,0 +1,8 @@
+package com.seatify.backend.api.cafe.dto;
+
+public interface CafeOpeningHoursProjection {
+
+	Long getCafeId();
+
+	String getOpeningHours();
+}
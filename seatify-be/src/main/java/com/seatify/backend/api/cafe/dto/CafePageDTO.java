@@ -0,0 +1,18 @@
+package com.seatify.backend.api.cafe.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CafePageDTO {
+
+	@Schema(description = "카페 목록 (cafeId와 fields로 요청한 항목만 포함)", required = true)
+	private List<CafeSummaryDTO> cafes;
+
+	@Schema(description = "다음 페이지 요청 시 afterId로 넘길 값 (마지막 페이지면 null)", example = "120")
+	private Long nextCursor;
+}
@@ -0,0 +1,38 @@
+package com.seatify.backend.api.cafe.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CafeRecommendationDTO {
+
+	@Schema(description = "카페 ID", example = "1", required = true)
+	private Long cafeId;
+
+	@Schema(description = "카페 이름", example = "5to7", required = true)
+	private String name;
+
+	@Schema(description = "위도", example = "37.5460707", required = true)
+	private double latitude;
+
+	@Schema(description = "경도", example = "127.043297", required = true)
+	private double longitude;
+
+	@Schema(description = "기준 위치로부터의 거리(m)", example = "350", required = true)
+	private int distanceMeters;
+
+	@Schema(description = "빈자리 비율(%)", example = "60", required = true)
+	private int vacancyPercentage;
+
+	@Schema(description = "빈자리 비율 근거: LIVE(실시간 좌석) | PREDICTED(혼잡도 예측) | UNKNOWN", example = "LIVE", required = true)
+	private String vacancySource;
+
+	@Schema(description = "추천 점수 (빈자리 + 가까움 가중합, 높을수록 추천)", example = "0.72", required = true)
+	private double score;
+}
@@ -0,0 +1,60 @@
+package com.seatify.backend.api.cafe.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카페 목록 페이지의 한 항목. fields로 요청하지 않은 항목은 null이고 응답에서 빠진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CafeSummaryDTO {
+
+	@Schema(description = "카페 ID", example = "1", required = true)
+	private Long cafeId;
+
+	@Schema(description = "카페 이름", example = "5to7")
+	private String name;
+
+	@Schema(description = "전화번호", example = "050713337616")
+	private String phoneNumber;
+
+	@Schema(description = "카페 주소", example = "서울시 성동구 서울숲2길44-13 1층")
+	private String address;
+
+	@Schema(description = "영업 상태", example = "영업중")
+	private String status;
+
+	@Schema(description = "별점 평균", example = "4.2")
+	private String rating;
+
+	@Schema(description = "위도", example = "37.5460707")
+	private String latitude;
+
+	@Schema(description = "경도", example = "127.043297")
+	private String longitude;
+
+	@Schema(description = "콘센트 리뷰 수", example = "5")
+	private Integer hasPlugCount;
+
+	@Schema(description = "청결도 리뷰 수", example = "0")
+	private Integer isCleanCount;
+
+	@Schema(description = "영업 시간", example = "{\"weekdayDescriptions\":[\"월요일: 오전 10:00 ~ 오후 10:00\"]}")
+	private String openingHours;
+
+	@Schema(description = "리뷰", example = "")
+	private String reviews;
+
+	@Schema(description = "좌석 점유 현황 (좌석 정보가 없는 카페는 생략)")
+	private SeatOccupancyDTO occupancy;
+}
@@ -0,0 +1,39 @@
+package com.seatify.backend.api.cafe.dto;
+
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyCafeDTO {
+
+	@Schema(description = "카페 ID", example = "1", required = true)
+	private Long cafeId;
+
+	@Schema(description = "카페 이름", example = "5to7", required = true)
+	private String name;
+
+	@Schema(description = "위도", example = "37.5460707", required = true)
+	private double latitude;
+
+	@Schema(description = "경도", example = "127.043297", required = true)
+	private double longitude;
+
+	@Schema(description = "기준 위치로부터의 거리(m)", example = "350", required = true)
+	private int distanceMeters;
+
+	@Schema(description = "좌석 점유 현황 (좌석 정보가 없는 카페는 null)")
+	private SeatOccupancyDTO occupancy;
+
+	@Schema(description = "영업 상태", example = "영업중", required = true)
+	private String status;
+
+	@Schema(description = "곧 마감 여부", example = "false", required = true)
+	private boolean closingSoon;
+}
@@ -1,13 +1,21 @@
 package com.seatify.backend.api.congestion.controller;
 
+import com.seatify.backend.api.congestion.dto.CongestionBulkDTO;
+import com.seatify.backend.api.congestion.dto.CongestionForecastDTO;
 import com.seatify.backend.api.congestion.dto.HourlyCongestionDTO;
+import com.seatify.backend.api.congestion.dto.OccupancyRollupDTO;
+import com.seatify.backend.domain.congestion.service.CongestionForecaster;
 import com.seatify.backend.domain.congestion.service.CongestionService;
+import com.seatify.backend.domain.congestion.service.OccupancyRollupStore;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "congestion", description = "혼잡도 예측 API")
@@ -17,14 +25,51 @@ import java.util.List;
 public class CongestionController {
 
     private final CongestionService congestionService;
+    private final CongestionForecaster congestionForecaster;
+    private final OccupancyRollupStore occupancyRollupStore;
 
-    @Operation(summary = "카페 시간대별 혼잡도 예측", description = "CSV 기반으로 혼잡도 예측 정보를 반환합니다.")
+    @Operation(summary = "카페 시간대별 혼잡도 예측", description = "미리 계산해 둔 혼잡도 모델로 예측 정보를 반환합니다.")
     @GetMapping("/cafe/{cafeId}")
     public ResponseEntity<List<HourlyCongestionDTO>> getCongestionByCafe(
             @PathVariable Long cafeId,
             @RequestParam String day
     ) {
-        List<HourlyCongestionDTO> predictions = congestionService.getPredictionsFromCsv(cafeId, day);
+        List<HourlyCongestionDTO> predictions = congestionService.getPredictions(cafeId, day);
         return ResponseEntity.ok(predictions);
     }
+
+    @Operation(summary = "카페 혼잡도 단기 예측", description = "요일/시간대 패턴과 최근 실측 추세로 현재부터 N시간 동안의 혼잡도를 예측합니다.")
+    @GetMapping("/cafe/{cafeId}/forecast")
+    public ResponseEntity<List<CongestionForecastDTO>> getForecastByCafe(
+            @PathVariable Long cafeId,
+            @RequestParam(defaultValue = "6") int hours
+    ) {
+        return ResponseEntity.ok(congestionForecaster.forecast(cafeId, hours));
+    }
+
+    @Operation(summary = "여러 카페 혼잡도 일괄 조회", description = "카페 ID 목록(ids) 또는 지도 범위(minLat, minLng, maxLat, maxLng) 안의 카페들에 대해 현재 시간대부터 hours시간 동안의 혼잡도를 한 번에 반환합니다. 지도 범위 안의 카페가 최대 개수를 넘으면 일부만 담고 truncated=true를 반환합니다.")
+    @GetMapping("/cafes")
+    public ResponseEntity<CongestionBulkDTO> getCongestionByCafes(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) Double minLat,
+            @RequestParam(required = false) Double minLng,
+            @RequestParam(required = false) Double maxLat,
+            @RequestParam(required = false) Double maxLng,
+            @RequestParam(required = false) String day,
+            @RequestParam(defaultValue = "3") int hours
+    ) {
+        return ResponseEntity.ok(congestionService.getBulkPredictions(ids, minLat, minLng, maxLat, maxLng, day, hours));
+    }
+
+    // 구간 점유율 추이 (예: ?from=2024-06-01T09:00:00&to=2024-06-01T18:00:00&stepMinutes=15)
+    @Operation(summary = "카페 점유율 추이", description = "분/시간/일 단위 롤업 중 요청 간격을 만족하는 가장 굵은 단위로 구간 점유율을 반환합니다.")
+    @GetMapping("/cafe/{cafeId}/occupancy")
+    public ResponseEntity<OccupancyRollupDTO> getOccupancyRollup(
+            @PathVariable Long cafeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "60") long stepMinutes
+    ) {
+        return ResponseEntity.ok(occupancyRollupStore.query(cafeId, from, to, Duration.ofMinutes(stepMinutes)));
+    }
 }
@@ -0,0 +1,28 @@
+package com.seatify.backend.api.congestion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 카페의 현재 시간대부터 몇 시간 동안의 혼잡도를 한 번에 담는 응답.
+ * 시간대 정보는 한 번만 싣고, 카페마다 퍼센트 배열만 보낸다.
+ */
+@Getter
+@AllArgsConstructor
+public class CongestionBulkDTO {
+    private String day;          // 기준 요일 (예: MONDAY)
+    private int startHour;       // percentages[0]의 시간대, 이후 한 시간씩 (24시 이후는 다음 날)
+    private int hours;
+    private boolean truncated;   // 지도 범위 안의 카페가 최대 개수를 넘어 일부만 담았는지 여부
+    private List<CafeCongestion> cafes;
+
+    @Getter
+    @AllArgsConstructor
+    public static class CafeCongestion {
+        private Long cafeId;
+        private Integer[] percentages;  // 데이터가 없는 시간대는 null
+        private String status;          // 현재 시간대 상태, 데이터가 없으면 null
+    }
+}
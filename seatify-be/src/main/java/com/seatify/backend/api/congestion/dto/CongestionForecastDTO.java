@@ -0,0 +1,18 @@
+package com.seatify.backend.api.congestion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CongestionForecastDTO {
+    private String dayOfWeek;     // 예측 대상 요일 (예: MONDAY)
+    private int hour;             // 예측 대상 시간대 (예: 14)
+    private int hoursAhead;       // 현재 시간대로부터 몇 시간 뒤인지 (0 = 현재)
+    private int percentage;       // 예측 점유율 퍼센트
+    private String status;        // "SPARE" | "AVERAGE" | "BUSY"
+}
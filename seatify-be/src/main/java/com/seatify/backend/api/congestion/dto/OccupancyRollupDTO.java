@@ -0,0 +1,29 @@
+package com.seatify.backend.api.congestion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 구간 점유율 추이. 요청한 간격을 만족하는 가장 굵은 롤업 단위에서 계산한다.
+ */
+@Getter
+@AllArgsConstructor
+public class OccupancyRollupDTO {
+    private Long cafeId;
+    private String resolution;   // 답에 사용한 롤업 단위: MINUTE | HOUR | DAY
+    private long stepMinutes;    // 실제 점 간격 (보관 기간 때문에 요청보다 굵어질 수 있음)
+    private List<Point> points;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime time;  // 이 점이 묶은 구간의 시작
+        private double mean;         // 평균 점유율 (0~1)
+        private double min;
+        private double max;
+        private long samples;
+    }
+}
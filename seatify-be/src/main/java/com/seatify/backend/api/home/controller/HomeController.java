@@ -1,6 +1,6 @@
 package com.seatify.backend.api.home.controller;
 
-import com.seatify.backend.api.cafe.dto.CafeInfoResponseDTO;
+import com.seatify.backend.api.home.dto.HomeCafeDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -28,11 +28,12 @@ public class HomeController {
 	private final CafeService cafeService;
 
 	@Tag(name = "home")
-	@Operation(summary = "홈 화면 API", description = "홈 화면에 필요한 모든 카페 정보를 반환하는 API 입니다.")
+	@Operation(summary = "홈 화면 API", description = "홈 화면에 필요한 모든 카페 정보를 반환하는 API 입니다. "
+		+ "카페 목록 항목에 리뷰/댓글 수(commentReviewCount)와 최근 혼잡도(recentCongestion)를 더해 반환합니다.")
 	@GetMapping("/home")
-	public ResponseEntity<List<CafeInfoResponseDTO>> home(@ApiIgnore @MemberInfo MemberInfoDTO memberInfoDTO) {
-		// 모든 카페 정보를 반환
-		List<CafeInfoResponseDTO> allCafeInfo = cafeService.getAllCafeInfo();
-		return ResponseEntity.ok(allCafeInfo);
+	public ResponseEntity<List<HomeCafeDTO>> home(@ApiIgnore @MemberInfo MemberInfoDTO memberInfoDTO) {
+		// 집계 테이블(cafe_stats)을 조인한 한 번의 쿼리로 모든 카페 정보를 반환
+		List<HomeCafeDTO> cafes = cafeService.getHomeData();
+		return ResponseEntity.ok(cafes);
 	}
 }
@@ -0,0 +1,67 @@
+package com.seatify.backend.api.home.dto;
+
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 영업 상태, 좌석 점유 현황, 최근 혼잡도를 메모리에서 채운 홈 카페 항목.
+ * 카페 목록 응답(CafeInfoResponseDTO)의 항목에 리뷰/댓글 수와 최근 혼잡도를 더한 모양이다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class HomeCafeDTO implements HomeProjection {
+
+	private String name;
+	private String cafeId;
+	private String phoneNumber;
+	private String address;
+	private String commentReviewCount;
+	private String status;
+	private String openingHours;
+	private String latitude;
+	private String longitude;
+
+	@Schema(description = "리뷰", example = "")
+	private String reviews;
+
+	@Schema(description = "별점 평균", example = "4.2")
+	private String rating;
+
+	@Schema(description = "콘센트 리뷰 수", example = "5", required = true)
+	private int hasPlugCount;
+
+	@Schema(description = "청결도 리뷰 수", example = "0", required = true)
+	private int isCleanCount;
+
+	@Schema(description = "좌석 점유 현황 (좌석 정보가 없는 카페는 null)")
+	private SeatOccupancyDTO occupancy;
+
+	@Schema(description = "최근 1시간 리뷰 혼잡도 평균 (1=여유 ~ 3=혼잡, 최근 리뷰가 없으면 null)", example = "1.5")
+	private Double recentCongestion;
+
+	public static HomeCafeDTO of(HomeStatsProjection source, String status, SeatOccupancyDTO occupancy,
+								 Double recentCongestion) {
+		HomeCafeDTO cafe = new HomeCafeDTO();
+		cafe.setName(source.getName());
+		cafe.setCafeId(source.getCafeId());
+		cafe.setPhoneNumber(source.getPhoneNumber());
+		cafe.setAddress(source.getAddress());
+		cafe.setCommentReviewCount(source.getCommentReviewCount());
+		cafe.setStatus(status);
+		cafe.setOpeningHours(source.getOpeningHours());
+		cafe.setLatitude(source.getLatitude());
+		cafe.setLongitude(source.getLongitude());
+		cafe.setReviews(source.getReviews());
+		cafe.setRating(source.getRating());
+		cafe.setHasPlugCount(source.getHasPlugCount() == null ? 0 : source.getHasPlugCount());
+		cafe.setIsCleanCount(source.getIsCleanCount() == null ? 0 : source.getIsCleanCount());
+		cafe.setOccupancy(occupancy);
+		cafe.setRecentCongestion(recentCongestion);
+		return cafe;
+	}
+}
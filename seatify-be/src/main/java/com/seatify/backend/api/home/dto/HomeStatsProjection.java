@@ -0,0 +1,26 @@
+package com.seatify.backend.api.home.dto;
+
+/**
+ * 홈 쿼리 결과. cafe_stats의 혼잡도 버킷 컬럼을 함께 읽어 최근 혼잡도를 메모리에서 계산한다.
+ * 카페 목록 응답(CafeInfoResponseDTO)과 같은 항목을 채우도록 리뷰, 별점, 키워드 리뷰 수도 함께 읽는다.
+ */
+public interface HomeStatsProjection extends HomeProjection {
+
+	String getReviews();
+
+	String getRating();
+
+	Integer getHasPlugCount();
+
+	Integer getIsCleanCount();
+
+	Long getCongestionBucket();
+
+	Long getCongestionSum();
+
+	Long getCongestionCount();
+
+	Long getPreviousCongestionSum();
+
+	Long getPreviousCongestionCount();
+}
@@ -1,14 +1,29 @@
 package com.seatify.backend.api.seat.controller;
 
+import com.seatify.backend.api.seat.dto.OccupancyPointDTO;
+import com.seatify.backend.api.seat.dto.SeatHistoryMapDTO;
+import com.seatify.backend.api.seat.dto.SeatIngestionStatsDTO;
+import com.seatify.backend.api.seat.dto.SeatStatusUpdateResponseDTO;
+import com.seatify.backend.domain.seat.history.SeatHistoryStore;
+import com.seatify.backend.domain.seat.service.SeatFrame;
+import com.seatify.backend.domain.seat.service.SeatFrameResult;
 import com.seatify.backend.domain.seat.service.SeatLayoutService;
+import com.seatify.backend.domain.seat.service.SeatStatusIngestionQueue;
 import com.seatify.backend.domain.seat.service.SeatStatusService;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/seat")
 @RequiredArgsConstructor
@@ -16,6 +31,8 @@ public class SeatController {
 
     private final SeatLayoutService seatLayoutService;
     private final SeatStatusService seatStatusService;
+    private final SeatStatusIngestionQueue seatStatusIngestionQueue;
+    private final SeatHistoryStore seatHistoryStore;
 
     // 좌석 배치 정보 수신
     @PostMapping("/{cafeId}/layout")
@@ -30,31 +47,94 @@ public class SeatController {
         }
     }
 
-    // 좌석 상태 정보 수신
+    /**
+     * 좌석 상태 정보 수신
+     * payload: {"seq": 1718000000000, "status_list": [{"seatID": 1, "state": 0}, ...]}
+     * seq는 카페별로 단조 증가하는 프레임 순번(또는 촬영 시각, ms)이며 생략 가능. 이미 반영한 seq 이하의 프레임은 버린다.
+     * seat.ingest.async-enabled=true 이면 큐에 넣고 바로 202를 반환한다.
+     */
     @PostMapping("/{cafeId}/status")
-    public ResponseEntity<String> receiveSeatStatus(@PathVariable Long cafeId, @RequestBody Map<String, Object> payload) {
+    public ResponseEntity<SeatStatusUpdateResponseDTO> receiveSeatStatus(@PathVariable Long cafeId, @RequestBody Map<String, Object> payload) {
+        // 본문 형식 오류와 없는 카페는 BusinessException으로 전역 핸들러가 400으로 응답한다
+        List<Map<String, Object>> statusList = toStatusList(payload.get("status_list"));
+        Long seq = toSequence(payload.get("seq"));
+
+        if (seatStatusIngestionQueue.isEnabled()) {
+            return enqueue(cafeId, SeatFrame.fromStatusList(statusList, seq), seq);
+        }
+
         try {
-            System.out.println("=== [AI 좌석 상태 수신] ===");
-            System.out.println("cafe_id (from path): " + cafeId);
+            SeatFrameResult result = seatStatusService.updateSeatStatusFromList(cafeId, statusList, seq);
+            log.debug("[AI 좌석 상태 수신] cafe_id: {}, seq: {}, 좌석 수: {}", cafeId, seq, statusList.size());
+            return ResponseEntity.ok(SeatStatusUpdateResponseDTO.of(seq, result));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("좌석 상태 저장 실패 - cafeId: {}", cafeId, e);
+            return ResponseEntity.internalServerError().body(SeatStatusUpdateResponseDTO.failed(seq));
+        }
+    }
 
-            // status_list 추출
-            List<Map<String, Object>> statusList = (List<Map<String, Object>>) payload.get("status_list");
+    // 비동기 수신 큐 상태 (대기 시간, 병합/거절 수 등)
+    @GetMapping("/ingest/stats")
+    public ResponseEntity<SeatIngestionStatsDTO> ingestionStats() {
+        return ResponseEntity.ok(seatStatusIngestionQueue.stats());
+    }
 
-            for (Map<String, Object> status : statusList) {
-                Integer seatID = (Integer) status.get("seatID");
-                Integer state = (Integer) status.get("state");
-                System.out.println("seatID: " + seatID + ", state: " + state);
-            }
-            System.out.println("===========================");
+    // 과거 특정 시각의 좌석 상태 (예: ?at=2024-06-01T13:00:00)
+    @GetMapping("/{cafeId}/history")
+    public ResponseEntity<SeatHistoryMapDTO> seatMapAt(@PathVariable Long cafeId,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(SeatHistoryMapDTO.of(at, seatHistoryStore.getSeatMapAt(cafeId, at)));
+    }
 
-            // 예시: 서비스 계층으로 넘겨 처리 (필요하면 json 변환 생략하고 객체 직접 전달)
-            seatStatusService.updateSeatStatusFromList(cafeId, statusList);
+    // 구간 점유 추이 (예: ?from=2024-06-01T09:00:00&to=2024-06-01T18:00:00)
+    @GetMapping("/{cafeId}/history/timeline")
+    public ResponseEntity<List<OccupancyPointDTO>> occupancyTimeline(@PathVariable Long cafeId,
+                                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(seatHistoryStore.getOccupancyTimeline(cafeId, from, to));
+    }
 
-            return ResponseEntity.ok("{\"message\": \"Seat status updated successfully.\"}");
-        } catch (Exception e) {
-            e.printStackTrace(); // 로그 출력
-            return ResponseEntity.internalServerError().body("{\"error\": \"Failed to store seat status.\"}");
+    // 어떤 결과든 같은 응답 형식으로 돌려주고, 바로 처리된 경우(STALE/PROCESSED)에는 처리 결과를 그대로 싣는다.
+    private ResponseEntity<SeatStatusUpdateResponseDTO> enqueue(Long cafeId, SeatFrame frame, Long seq) {
+        SeatStatusIngestionQueue.Submission submission = seatStatusIngestionQueue.submit(cafeId, frame);
+        switch (submission.getAdmission()) {
+            case QUEUED:
+                return ResponseEntity.accepted().body(SeatStatusUpdateResponseDTO.queued(seq));
+            case STALE:
+            case PROCESSED:
+                return ResponseEntity.ok(SeatStatusUpdateResponseDTO.of(seq, submission.getResult()));
+            default:
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(SeatStatusUpdateResponseDTO.queueFull(seq));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> toStatusList(Object statusList) {
+        if (!(statusList instanceof List)) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_STATUS_BODY);
+        }
+        for (Object status : (List<?>) statusList) {
+            if (!(status instanceof Map)) {
+                throw new BusinessException(ErrorCode.INVALID_SEAT_STATUS_BODY);
+            }
+        }
+        return (List<Map<String, Object>>) statusList;
+    }
+
+    private Long toSequence(Object seq) {
+        if (seq == null) {
+            return null;
+        }
+        if (seq instanceof Number) {
+            return ((Number) seq).longValue();
+        }
+        try {
+            return Long.parseLong(seq.toString());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_STATUS_BODY);
         }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.seatify.backend.api.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점유 추이의 한 점. time 시각부터 다음 점까지 이 값이 유지된다.
+ */
+@Getter
+@AllArgsConstructor
+public class OccupancyPointDTO {
+    private LocalDateTime time;
+    private int occupied;  // 사용 중 + 자리 비움 좌석 수
+    private int total;     // 기록된 전체 좌석 수
+}
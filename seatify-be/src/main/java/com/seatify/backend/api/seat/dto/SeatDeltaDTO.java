@@ -0,0 +1,47 @@
+package com.seatify.backend.api.seat.dto;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.repository.SeatStatusBulkRepository;
+import com.seatify.backend.domain.seat.service.SeatVersionToken;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 버전에서 상태가 바뀐 좌석 목록.
+ */
+@Getter
+@AllArgsConstructor
+public class SeatDeltaDTO {
+    private long version;
+    private String token;   // 다음 long-poll의 since로 그대로 보낼 값 ("{기동 epoch}-{version}")
+    private boolean full;   // true면 changes가 알려진 좌석 전체이므로 클라이언트 상태를 통째로 바꾼다
+    private List<Change> changes;
+
+    public static SeatDeltaDTO of(long epoch, long version, Map<Integer, SeatState> changes) {
+        return new SeatDeltaDTO(version, SeatVersionToken.format(epoch, version), false, toChanges(changes));
+    }
+
+    // 서버가 재시작되어 토큰을 비교할 수 없을 때 돌려주는 전체 상태
+    public static SeatDeltaDTO full(long epoch, long version, Map<Integer, SeatState> states) {
+        return new SeatDeltaDTO(version, SeatVersionToken.format(epoch, version), true, toChanges(states));
+    }
+
+    public static List<Change> toChanges(Map<Integer, SeatState> states) {
+        return states.entrySet().stream()
+                .map(entry -> new Change(entry.getKey(), entry.getValue().name(),
+                        SeatStatusBulkRepository.isOccupied(entry.getValue())))
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Change {
+        private int seatNumber;
+        private String state;
+        private boolean occupied;
+    }
+}
@@ -0,0 +1,24 @@
+package com.seatify.backend.api.seat.dto;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 과거 특정 시각의 좌석 상태.
+ */
+@Getter
+@AllArgsConstructor
+public class SeatHistoryMapDTO {
+    private LocalDateTime at;
+    private List<SeatDeltaDTO.Change> seats;
+
+    public static SeatHistoryMapDTO of(LocalDateTime at, Map<Integer, SeatState> states) {
+        return new SeatHistoryMapDTO(at, SeatDeltaDTO.toChanges(new TreeMap<>(states)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.seatify.backend.api.seat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeatIngestionStatsDTO {
+    private boolean enabled;        // 비동기 수신 모드 사용 여부
+    private String overloadPolicy;  // REJECT | CALLER_RUNS
+    private int capacity;           // 동시에 대기/처리할 수 있는 최대 카페 수
+    private int pendingCafes;       // 현재 대기/처리 중인 카페 수
+    private long accepted;          // 큐에 들어간 프레임 수
+    private long superseded;        // 처리 전에 새 프레임으로 덮어써진 프레임 수
+    private long stale;             // 대기 중인 프레임보다 오래되어 버려진 프레임 수
+    private long rejected;          // 과부하로 거절된 프레임 수
+    private long processed;         // 처리 완료된 (병합된) 프레임 수
+    private long failed;            // 처리 중 오류가 난 프레임 수
+    private long lastLagMs;         // 마지막 처리의 대기 시간
+    private long maxLagMs;          // 최대 대기 시간
+    private long avgLagMs;          // 평균 대기 시간
+}
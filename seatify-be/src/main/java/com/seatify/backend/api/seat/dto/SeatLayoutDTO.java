@@ -0,0 +1,22 @@
+package com.seatify.backend.api.seat.dto;
+
+import com.seatify.backend.domain.seat.service.SeatGeometry;
+import com.seatify.backend.domain.seat.service.SeatLayoutSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 특정 버전의 카페 좌석 배치.
+ */
+@Getter
+@AllArgsConstructor
+public class SeatLayoutDTO {
+    private long version;
+    private List<SeatGeometry> seats;
+
+    public static SeatLayoutDTO of(SeatLayoutSnapshot snapshot) {
+        return new SeatLayoutDTO(snapshot.getVersion(), snapshot.getSeats());
+    }
+}
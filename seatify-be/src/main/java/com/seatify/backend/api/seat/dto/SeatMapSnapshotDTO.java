@@ -0,0 +1,18 @@
+package com.seatify.backend.api.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 특정 버전 시점의 카페 좌석 전체 상태.
+ */
+@Getter
+@AllArgsConstructor
+public class SeatMapSnapshotDTO {
+    private long version;        // 좌석 상태 버전
+    private String token;        // long-poll since로 쓸 버전 토큰 ("{기동 epoch}-{version}")
+    private long layoutVersion;  // 좌석 배치 버전
+    private List<SeatResponseDTO> seats;
+}
@@ -0,0 +1,16 @@
+package com.seatify.backend.api.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카페 좌석 점유 현황 (불변).
+ */
+@Getter
+@AllArgsConstructor
+public class SeatOccupancyDTO {
+    private int occupied;  // 사용 중
+    private int stepOut;   // 자리 비움 (잠시 + 장시간)
+    private int empty;     // 빈 좌석 (상태를 아직 모르는 좌석 포함)
+    private int total;     // 배치상 전체 좌석 수
+}
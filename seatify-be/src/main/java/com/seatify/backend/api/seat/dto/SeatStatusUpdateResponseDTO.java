@@ -0,0 +1,51 @@
+package com.seatify.backend.api.seat.dto;
+
+import com.seatify.backend.domain.seat.service.SeatFrameResult;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeatStatusUpdateResponseDTO {
+    private String status;   // PROCESSED, STALE, QUEUED, REJECTED, FAILED
+    private String message;
+    private Long seq;        // 요청에 포함된 프레임 순번 (없으면 null)
+    private boolean stale;   // 더 최신 프레임이 이미 반영되어 버려졌는지 여부
+    private int changed;     // 상태가 바뀐 좌석 수
+    private int skipped;     // 상태 변화가 없어 건너뛴 좌석 수
+    private int rejected;    // 잘못된 값이거나 오래된 프레임이라 반영하지 않은 좌석 수
+
+    public static SeatStatusUpdateResponseDTO of(Long seq, SeatFrameResult result) {
+        return SeatStatusUpdateResponseDTO.builder()
+                .status(result.isStale() ? "STALE" : "PROCESSED")
+                .message(result.isStale() ? "Stale frame ignored." : "Seat status updated successfully.")
+                .seq(seq)
+                .stale(result.isStale())
+                .changed(result.getChanged())
+                .skipped(result.getSkipped())
+                .rejected(result.getRejected())
+                .build();
+    }
+
+    // 비동기 큐에 들어가 아직 반영 전인 경우 (좌석 수는 모두 0)
+    public static SeatStatusUpdateResponseDTO queued(Long seq) {
+        return withoutResult("QUEUED", "Seat status accepted.", seq);
+    }
+
+    // 큐 과부하로 프레임을 받지 않은 경우
+    public static SeatStatusUpdateResponseDTO queueFull(Long seq) {
+        return withoutResult("REJECTED", "Seat status queue is full.", seq);
+    }
+
+    public static SeatStatusUpdateResponseDTO failed(Long seq) {
+        return withoutResult("FAILED", "Failed to store seat status.", seq);
+    }
+
+    private static SeatStatusUpdateResponseDTO withoutResult(String status, String message, Long seq) {
+        return SeatStatusUpdateResponseDTO.builder()
+                .status(status)
+                .message(message)
+                .seq(seq)
+                .build();
+    }
+}
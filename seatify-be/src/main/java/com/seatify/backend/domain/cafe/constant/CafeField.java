@@ -0,0 +1,46 @@
+package com.seatify.backend.domain.cafe.constant;
+
+import java.util.Arrays;
+
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
+
+import lombok.Getter;
+
+/**
+ * 카페 목록 API에서 fields=로 고를 수 있는 항목.
+ * column이 false인 항목은 DB 컬럼이 아니라 메모리에서 채운다 (영업 상태는 영업 시간표, 점유 현황은 좌석 카운터).
+ */
+@Getter
+public enum CafeField {
+
+	NAME("name", true, true),
+	PHONE_NUMBER("phoneNumber", true, true),
+	ADDRESS("address", true, true),
+	STATUS("status", false, true),
+	RATING("rating", true, true),
+	LATITUDE("latitude", true, true),
+	LONGITUDE("longitude", true, true),
+	HAS_PLUG_COUNT("hasPlugCount", true, true),
+	IS_CLEAN_COUNT("isCleanCount", true, true),
+	OPENING_HOURS("openingHours", true, false),
+	REVIEWS("reviews", true, false),
+	OCCUPANCY("occupancy", false, true);
+
+	private final String fieldName;
+	private final boolean column;
+	private final boolean defaultField;  // fields=를 생략했을 때 포함 (큰 TEXT 컬럼은 제외)
+
+	CafeField(final String fieldName, final boolean column, final boolean defaultField) {
+		this.fieldName = fieldName;
+		this.column = column;
+		this.defaultField = defaultField;
+	}
+
+	public static CafeField from(String fieldName) {
+		return Arrays.stream(CafeField.values())
+			.filter(value -> value.getFieldName().equals(fieldName))
+			.findFirst()
+			.orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CAFE_FIELD));
+	}
+}
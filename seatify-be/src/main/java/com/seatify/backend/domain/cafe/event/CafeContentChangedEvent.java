@@ -0,0 +1,17 @@
+package com.seatify.backend.domain.cafe.event;
+
+import lombok.Getter;
+
+/**
+ * 카페 상세에 보이는 내용(카페 정보, 댓글, 리뷰 집계)이 바뀌었을 때 발행된다.
+ * 트랜잭션 안에서 발행하고, 리스너는 커밋 이후에 처리한다.
+ */
+@Getter
+public class CafeContentChangedEvent {
+
+	private final Long cafeId;
+
+	public CafeContentChangedEvent(Long cafeId) {
+		this.cafeId = cafeId;
+	}
+}
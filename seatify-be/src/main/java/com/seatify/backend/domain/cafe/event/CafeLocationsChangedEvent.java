@@ -0,0 +1,21 @@
+package com.seatify.backend.domain.cafe.event;
+
+import java.util.List;
+
+import com.seatify.backend.domain.cafe.service.CafeLocation;
+
+import lombok.Getter;
+
+/**
+ * 카페가 새로 저장되어 위치 정보가 바뀌었을 때 한 번에 묶어서 발행된다.
+ * 트랜잭션 안에서 발행하고, 리스너는 커밋 이후에 처리한다.
+ */
+@Getter
+public class CafeLocationsChangedEvent {
+
+	private final List<CafeLocation> locations;
+
+	public CafeLocationsChangedEvent(List<CafeLocation> locations) {
+		this.locations = locations;
+	}
+}
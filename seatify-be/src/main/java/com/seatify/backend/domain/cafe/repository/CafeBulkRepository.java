@@ -0,0 +1,135 @@
+package com.seatify.backend.domain.cafe.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.seatify.backend.api.cafe.dto.CafeSaveRequestDTO;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카페 일괄 가져오기용 JDBC 저장소.
+ * placeId 묶음을 IN 한 번으로 조회하고, INSERT/UPDATE는 JDBC 배치로 보낸다 (엔티티를 만들지 않음).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CafeBulkRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * placeId → 이미 저장된 카페. 채워 넣을 수 있는 빈 컬럼인지만 함께 읽는다 (TEXT 본문은 읽지 않음).
+	 */
+	public Map<String, StoredCafe> findByPlaceIds(Collection<String> placeIds) {
+		Map<String, StoredCafe> stored = new HashMap<>();
+		if (placeIds.isEmpty()) {
+			return stored;
+		}
+		jdbcTemplate.query(
+			"SELECT cafe_id, place_id, "
+				+ "(phone_number IS NULL OR TRIM(phone_number) = '') AS phone_missing, "
+				+ "(opening_hours IS NULL OR TRIM(opening_hours) IN ('', '{}') OR LOWER(opening_hours) = 'null') AS opening_hours_missing "
+				+ "FROM cafe WHERE place_id IN (" + String.join(", ", Collections.nCopies(placeIds.size(), "?")) + ")",
+			rs -> {
+				stored.put(rs.getString("place_id"), new StoredCafe(rs.getLong("cafe_id"),
+					rs.getBoolean("phone_missing"), rs.getBoolean("opening_hours_missing")));
+			},
+			placeIds.toArray());
+		return stored;
+	}
+
+	/**
+	 * 새 카페를 배치로 넣는다. 조회 이후 다른 요청이 같은 place_id를 먼저 저장했으면 그 행은 INSERT IGNORE로 건너뛴다.
+	 * 필수 컬럼과 길이는 호출하는 쪽에서 검사해야 한다 (IGNORE는 NULL, 길이 초과 같은 다른 오류도 경고로 낮춰 값을 잘라 넣으므로).
+	 * 드라이버는 행별 결과 대신 SUCCESS_NO_INFO만 돌려줄 수 있으므로, 추가 여부는 저장된 행을 다시 읽어 판단한다.
+	 *
+	 * @return 이번 배치로 추가된 행 (저장된 값 그대로)
+	 */
+	public List<InsertedCafe> insertAll(List<CafeSaveRequestDTO> cafes, List<String> openingHours, LocalDateTime now) {
+		if (cafes.isEmpty()) {
+			return Collections.emptyList();
+		}
+		// 다시 읽을 때 이번 배치의 행을 알아보도록 생성 시각을 초 단위로 맞춘다 (컬럼 정밀도와 상관없이 같은 값으로 저장됨)
+		Timestamp timestamp = Timestamp.valueOf(now.truncatedTo(ChronoUnit.SECONDS));
+		List<Object[]> rows = new ArrayList<>(cafes.size());
+		for (int i = 0; i < cafes.size(); i++) {
+			CafeSaveRequestDTO cafe = cafes.get(i);
+			rows.add(new Object[]{cafe.getPlaceId(), cafe.getName(), cafe.getStatus(), cafe.getAddress(),
+				cafe.getPhoneNumber(), cafe.getLatitude(), cafe.getLongitude(), openingHours.get(i), cafe.getReviews(),
+				cafe.getRating(), timestamp, timestamp});
+		}
+		int[] counts = jdbcTemplate.batchUpdate("INSERT IGNORE INTO cafe (place_id, name, status, address, phone_number, latitude, longitude, "
+			+ "opening_hours, reviews, rating, has_plug_count, is_clean_count, created_time, update_time) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)", rows);
+
+		// 무시된 것이 확실한 행(0)은 빼고, 나머지는 이번 생성 시각으로 저장되어 있는지 다시 읽어 확인한다
+		List<Object> args = new ArrayList<>(cafes.size() + 1);
+		args.add(timestamp);
+		for (int i = 0; i < cafes.size(); i++) {
+			if (counts[i] != 0) {
+				args.add(cafes.get(i).getPlaceId());
+			}
+		}
+		if (args.size() == 1) {
+			return Collections.emptyList();
+		}
+		return jdbcTemplate.query(
+			"SELECT cafe_id, place_id, name, latitude, longitude FROM cafe "
+				+ "WHERE created_time = ? AND place_id IN (" + String.join(", ", Collections.nCopies(args.size() - 1, "?")) + ") "
+				+ "ORDER BY cafe_id",
+			(rs, rowNum) -> new InsertedCafe(rs.getLong("cafe_id"), rs.getString("place_id"), rs.getString("name"),
+				rs.getString("latitude"), rs.getString("longitude")),
+			args.toArray());
+	}
+
+	// rows: (값, cafeId)
+	public void updatePhoneNumbers(List<Object[]> rows, LocalDateTime now) {
+		update("UPDATE cafe SET phone_number = ?, update_time = ? WHERE cafe_id = ?", rows, now);
+	}
+
+	// rows: (값, cafeId)
+	public void updateOpeningHours(List<Object[]> rows, LocalDateTime now) {
+		update("UPDATE cafe SET opening_hours = ?, update_time = ? WHERE cafe_id = ?", rows, now);
+	}
+
+	private void update(String sql, List<Object[]> rows, LocalDateTime now) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		Timestamp timestamp = Timestamp.valueOf(now);
+		List<Object[]> args = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			args.add(new Object[]{row[0], timestamp, row[1]});
+		}
+		jdbcTemplate.batchUpdate(sql, args);
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class StoredCafe {
+		private final Long cafeId;
+		private final boolean phoneMissing;
+		private final boolean openingHoursMissing;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class InsertedCafe {
+		private final Long cafeId;
+		private final String placeId;
+		private final String name;
+		private final String latitude;
+		private final String longitude;
+	}
+}
@@ -0,0 +1,17 @@
+package com.seatify.backend.domain.cafe.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.Tuple;
+
+import com.seatify.backend.domain.cafe.constant.CafeField;
+
+public interface CafeQueryRepository {
+
+	/**
+	 * cafeId가 afterId보다 큰 카페를 cafeId 순으로 최대 limit개, 요청한 컬럼만 조회한다.
+	 * 각 Tuple에는 cafeId와 컬럼 항목이 항목 이름을 별칭으로 들어 있다.
+	 */
+	List<Tuple> findCafeColumnsAfter(Long afterId, Set<CafeField> fields, int limit);
+}
@@ -0,0 +1,48 @@
+package com.seatify.backend.domain.cafe.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import com.seatify.backend.domain.cafe.constant.CafeField;
+import com.seatify.backend.domain.cafe.entity.Cafe;
+
+/**
+ * 엔티티를 만들지 않고 고른 컬럼만 SELECT 하는 카페 조회 (키셋 페이지네이션).
+ */
+public class CafeQueryRepositoryImpl implements CafeQueryRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<Tuple> findCafeColumnsAfter(Long afterId, Set<CafeField> fields, int limit) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<Cafe> cafe = query.from(Cafe.class);
+
+		List<Selection<?>> selections = new ArrayList<>();
+		selections.add(cafe.get("cafeId").alias("cafeId"));
+		for (CafeField field : fields) {
+			if (field.isColumn()) {
+				selections.add(cafe.get(field.getFieldName()).alias(field.getFieldName()));
+			}
+		}
+
+		query.multiselect(selections).orderBy(builder.asc(cafe.get("cafeId")));
+		if (afterId != null) {
+			query.where(builder.greaterThan(cafe.get("cafeId"), afterId));
+		}
+		return entityManager.createQuery(query)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+}
@@ -2,19 +2,27 @@ package com.seatify.backend.domain.cafe.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+import com.seatify.backend.api.cafe.dto.CafeExportProjection;
 import com.seatify.backend.api.cafe.dto.CafeInfoResponseDTO;
+import com.seatify.backend.api.cafe.dto.CafeLocationProjection;
+import com.seatify.backend.api.cafe.dto.CafeOpeningHoursProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import com.seatify.backend.api.home.dto.HomeProjection;
+import com.seatify.backend.api.home.dto.HomeStatsProjection;
 import com.seatify.backend.api.member.dto.CafeInfoViewedByMemberProjection;
 import com.seatify.backend.domain.cafe.entity.Cafe;
 import com.seatify.backend.domain.comment.entity.Comment;
 
-public interface CafeRepository extends JpaRepository<Cafe, Long> {
+public interface CafeRepository extends JpaRepository<Cafe, Long>, CafeQueryRepository {
 
+	// 리뷰/댓글 수와 혼잡도는 cafe_stats에서, 영업 상태는 OpeningScheduleRegistry가 메모리에서 채운다 (c.status는 시간표를 모를 때만 쓴다)
 	@Query(value = "SELECT "
 		+ "c.cafe_id AS 'cafeId', "
 		+ "c.name AS 'name', "
@@ -22,25 +30,22 @@ public interface CafeRepository extends JpaRepository<Cafe, Long> {
 		+ "c.longitude AS 'longitude', "
 		+ "COALESCE(c.phone_number, '등록된 전화번호가 없습니다') AS 'phoneNumber', "
 		+ "CONCAT(c.address) AS 'address', "
-		+ "(COALESCE(r.review_count, 0) + COALESCE(co.comment_count, 0)) AS 'commentReviewCount', "
-		+ "CASE WHEN CURRENT_TIME() BETWEEN oh.open_time AND oh.close_time THEN '영업중' ELSE '영업종료' END AS 'status', "
+		+ "c.status AS 'status', "
+		+ "c.opening_hours AS 'openingHours', "
+		+ "c.reviews AS 'reviews', "
+		+ "c.rating AS 'rating', "
+		+ "c.has_plug_count AS 'hasPlugCount', "
+		+ "c.is_clean_count AS 'isCleanCount', "
+		+ "(COALESCE(s.review_count, 0) + COALESCE(s.comment_count, 0)) AS 'commentReviewCount', "
+		+ "s.congestion_bucket AS 'congestionBucket', "
+		+ "s.congestion_sum AS 'congestionSum', "
+		+ "s.congestion_count AS 'congestionCount', "
+		+ "s.previous_congestion_sum AS 'previousCongestionSum', "
+		+ "s.previous_congestion_count AS 'previousCongestionCount' "
 		+ "FROM cafe c "
-		+ "LEFT JOIN "
-		+ "(SELECT cafe_id, COUNT(*) AS review_count FROM review GROUP BY cafe_id) r "
-		+ "ON c.cafe_id = r.cafe_id "
-		+ "LEFT JOIN (SELECT cafe_id, COUNT(*) AS comment_count FROM comment GROUP BY cafe_id) co "
-		+ "ON c.cafe_id = co.cafe_id "
-		+ "LEFT JOIN opening_hour oh "
-		+ "ON c.cafe_id = oh.cafe_id AND DATE_FORMAT(CURRENT_DATE(), '%W') = oh.day_of_week "
-		+ "LEFT JOIN "
-		+ "(SELECT cafe_id, AVG(CASE cafe_congestion WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END) AS avg_congestion "
-		+ "FROM review WHERE created_time >= DATE_SUB(NOW(), INTERVAL 1 HOUR) GROUP BY cafe_id) "
-		+ "avg_congestion ON c.cafe_id = avg_congestion.cafe_id "
-		+ "LEFT JOIN "
-		+ "viewed_cafe vc ON c.cafe_id = vc.cafe_id AND vc.member_id = :memberId "
-		+ "ORDER BY c.cafe_id, "
-		+ "(COALESCE(r.review_count, 0) + COALESCE(co.comment_count, 0)) DESC, c.name ", nativeQuery = true)
-	List<HomeProjection> getHomeData(@Param("memberId") Long memberId);
+		+ "LEFT JOIN cafe_stats s ON c.cafe_id = s.cafe_id "
+		+ "ORDER BY c.cafe_id", nativeQuery = true)
+	List<HomeStatsProjection> getHomeData();
 
 	@Query(value = "SELECT "
 		+ "c.cafe_id AS 'cafeId', "
@@ -114,4 +119,32 @@ public interface CafeRepository extends JpaRepository<Cafe, Long> {
 			nativeQuery = true)
 	List<CafeInfoResponseDTO> findAllCafeInfo();
 
+	@Query(value = "SELECT c.cafe_id FROM cafe c "
+		+ "WHERE CAST(c.latitude AS DECIMAL(10, 7)) BETWEEN :minLat AND :maxLat "
+		+ "AND CAST(c.longitude AS DECIMAL(10, 7)) BETWEEN :minLng AND :maxLng "
+		+ "ORDER BY c.cafe_id LIMIT :limit", nativeQuery = true)
+	List<Number> findCafeIdsInBounds(@Param("minLat") double minLat, @Param("minLng") double minLng,
+		@Param("maxLat") double maxLat, @Param("maxLng") double maxLng, @Param("limit") int limit);
+
+	@Query("SELECT c.cafeId AS cafeId, c.name AS name, c.latitude AS latitude, c.longitude AS longitude FROM Cafe c")
+	List<CafeLocationProjection> findAllLocations();
+
+	@Query("SELECT c.cafeId AS cafeId, c.openingHours AS openingHours FROM Cafe c")
+	List<CafeOpeningHoursProjection> findAllOpeningHours();
+
+	@Query("SELECT c.openingHours FROM Cafe c WHERE c.cafeId = :cafeId")
+	String findOpeningHoursByCafeId(@Param("cafeId") Long cafeId);
+
+	// MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 행을 한 건씩 스트리밍한다. 트랜잭션 안에서 닫을 것
+	@QueryHints({
+		@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "-2147483648"),
+		@QueryHint(name = org.hibernate.annotations.QueryHints.READ_ONLY, value = "true")
+	})
+	@Query("SELECT c.cafeId AS cafeId, c.name AS name, c.phoneNumber AS phoneNumber, c.address AS address, "
+		+ "c.status AS status, c.rating AS rating, c.latitude AS latitude, c.longitude AS longitude, "
+		+ "c.openingHours AS openingHours, c.reviews AS reviews, "
+		+ "c.hasPlugCount AS hasPlugCount, c.isCleanCount AS isCleanCount "
+		+ "FROM Cafe c ORDER BY c.cafeId")
+	Stream<CafeExportProjection> streamAllCafeInfo();
+
 }
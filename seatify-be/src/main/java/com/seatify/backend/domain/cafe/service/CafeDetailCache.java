@@ -0,0 +1,104 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.seatify.backend.api.cafe.dto.CafeDTO;
+import com.seatify.backend.api.cafe.dto.CafeDetailCacheStatsDTO;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+
+/**
+ * 카페 상세(CafeDTO) 캐시. 크기와 TTL로 제한하고, 카페/댓글/리뷰가 바뀌면 커밋 이후에 해당 카페만 비운다.
+ * 조회 도중 무효화가 끼어들면 읽어 온 값은 낡았을 수 있으므로 넣지 않는다.
+ * 이를 확인하는 세대 번호는 조회가 진행 중인 카페에만 두고, 마지막 조회가 끝나면 지운다.
+ */
+@Component
+public class CafeDetailCache {
+
+	private final Cache<Long, CafeDTO> cache;
+	private final Map<Long, Loading> loading = new ConcurrentHashMap<>();
+	private final long maximumSize;
+	private final long ttlSeconds;
+
+	public CafeDetailCache(@Value("${cafe.detail-cache.maximum-size:1000}") long maximumSize,
+						   @Value("${cafe.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+		this.maximumSize = maximumSize;
+		this.ttlSeconds = ttlSeconds;
+		this.cache = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+			.recordStats()
+			.build();
+	}
+
+	public CafeDTO get(Long cafeId, Supplier<CafeDTO> loader) {
+		CafeDTO cached = cache.getIfPresent(cafeId);
+		if (cached != null) {
+			return cached;
+		}
+		Loading current = loading.compute(cafeId, (id, existing) -> {
+			Loading started = existing == null ? new Loading() : existing;
+			started.loaders++;
+			return started;
+		});
+		long generation = current.generation;
+		CafeDTO loaded = null;
+		try {
+			loaded = loader.get();
+			return loaded;
+		} finally {
+			CafeDTO result = loaded;
+			// 무효화와 같은 키 잠금 안에서 확인하고 넣는다
+			loading.computeIfPresent(cafeId, (id, existing) -> {
+				if (result != null && existing.generation == generation) {
+					cache.put(id, result);
+				}
+				return --existing.loaders == 0 ? null : existing;
+			});
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCafeContentChanged(CafeContentChangedEvent event) {
+		invalidate(event.getCafeId());
+	}
+
+	public void invalidate(Long cafeId) {
+		loading.computeIfPresent(cafeId, (id, existing) -> {
+			existing.generation++;
+			return existing;
+		});
+		cache.invalidate(cafeId);
+	}
+
+	public CafeDetailCacheStatsDTO stats() {
+		CacheStats stats = cache.stats();
+		return CafeDetailCacheStatsDTO.builder()
+			.size(cache.size())
+			.maximumSize(maximumSize)
+			.ttlSeconds(ttlSeconds)
+			.hits(stats.hitCount())
+			.misses(stats.missCount())
+			.evictions(stats.evictionCount())
+			.hitRate(stats.hitRate())
+			.loadingCafes(loading.size())
+			.build();
+	}
+
+	// 한 카페를 동시에 읽고 있는 조회 수와 그동안의 무효화 횟수. 맵의 키 잠금 안에서만 바꾼다
+	private static final class Loading {
+
+		private int loaders;
+		private volatile long generation;
+	}
+}
@@ -0,0 +1,114 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.seatify.backend.api.cafe.dto.CafeExportProjection;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 카페 목록을 JSON 배열로 스트리밍한다.
+ * DB 커서에서 한 행씩 읽어 바로 쓰므로 카페 수와 상관없이 메모리 사용량이 일정하다.
+ * 트랜잭션(=커넥션)은 응답을 쓰는 동안에만 열려 있다.
+ */
+@Slf4j
+@Service
+public class CafeExportService {
+
+	private static final int FLUSH_EVERY = 500;
+
+	private final CafeRepository cafeRepository;
+	private final LiveSeatStateStore liveSeatStateStore;
+	private final OpeningScheduleRegistry openingScheduleRegistry;
+	private final MappingJackson2HttpMessageConverter jsonConverter;
+	private final TransactionTemplate transactionTemplate;
+
+	public CafeExportService(CafeRepository cafeRepository,
+							 LiveSeatStateStore liveSeatStateStore,
+							 OpeningScheduleRegistry openingScheduleRegistry,
+							 MappingJackson2HttpMessageConverter jsonEscapeConverter,
+							 PlatformTransactionManager transactionManager) {
+		this.cafeRepository = cafeRepository;
+		this.liveSeatStateStore = liveSeatStateStore;
+		this.openingScheduleRegistry = openingScheduleRegistry;
+		// /api/cafes 응답과 같은 이스케이프 규칙을 쓴다
+		this.jsonConverter = jsonEscapeConverter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	public void writeAll(OutputStream out) throws IOException {
+		try (JsonGenerator generator = jsonConverter.getObjectMapper().getFactory()
+			.createGenerator(out, JsonEncoding.UTF8)) {
+			generator.writeStartArray();
+			// 영업 상태는 영업 시간표로 계산한다 (목록 전체를 같은 시각 기준으로)
+			LocalDateTime now = openingScheduleRegistry.now();
+			int written = transactionTemplate.execute(status -> {
+				try (Stream<CafeExportProjection> cafes = cafeRepository.streamAllCafeInfo()) {
+					return writeRows(generator, cafes.iterator(), now);
+				}
+			});
+			generator.writeEndArray();
+			log.debug("카페 {}건 내보내기 완료", written);
+		} catch (UncheckedIOException e) {
+			// 클라이언트가 중간에 끊은 경우 등
+			throw e.getCause();
+		}
+	}
+
+	private int writeRows(JsonGenerator generator, Iterator<CafeExportProjection> cafes, LocalDateTime now) {
+		int written = 0;
+		try {
+			while (cafes.hasNext()) {
+				writeRow(generator, cafes.next(), now);
+				if (++written % FLUSH_EVERY == 0) {
+					generator.flush();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return written;
+	}
+
+	private void writeRow(JsonGenerator generator, CafeExportProjection cafe, LocalDateTime now) throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("cafeId", String.valueOf(cafe.getCafeId()));
+		generator.writeStringField("name", cafe.getName());
+		generator.writeStringField("phoneNumber", cafe.getPhoneNumber());
+		generator.writeStringField("address", cafe.getAddress());
+		// 스트리밍 중인 커넥션으로 다른 쿼리를 보낼 수 없으므로 이 행의 영업 시간(모르면 저장된 상태)으로 계산한다
+		generator.writeStringField("status",
+			openingScheduleRegistry.status(cafe.getCafeId(), cafe.getOpeningHours(), cafe.getStatus(), now));
+		generator.writeNumberField("hasPlugCount", cafe.getHasPlugCount());
+		generator.writeNumberField("isCleanCount", cafe.getIsCleanCount());
+		generator.writeStringField("rating", cafe.getRating());
+		generator.writeStringField("latitude", cafe.getLatitude());
+		generator.writeStringField("longitude", cafe.getLongitude());
+		generator.writeStringField("openingHours", cafe.getOpeningHours());
+		generator.writeStringField("reviews", cafe.getReviews());
+		SeatOccupancyDTO occupancy = liveSeatStateStore.findOccupancy(cafe.getCafeId());
+		generator.writeFieldName("occupancy");
+		if (occupancy == null) {
+			generator.writeNull();
+		} else {
+			generator.writeObject(occupancy);
+		}
+		generator.writeEndObject();
+	}
+}
@@ -0,0 +1,230 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.seatify.backend.api.cafe.dto.CafeImportResultDTO;
+import com.seatify.backend.api.cafe.dto.CafeSaveRequestDTO;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+import com.seatify.backend.domain.cafe.event.CafeLocationsChangedEvent;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository.InsertedCafe;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository.StoredCafe;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카페 일괄 가져오기.
+ * 요청 본문(NDJSON 또는 JSON 배열)을 한 행씩 읽어 chunk-size개씩 묶고, 묶음마다 트랜잭션 하나로
+ * placeId IN 조회 1회 + 배치 INSERT/UPDATE로 반영한다. 이미 읽어 둔 목록(POST /api/cafes)도 같은 묶음 단위로 저장한다.
+ * 새 카페는 비어 있는 기존 카페의 전화번호/영업 시간만 채우고, 나머지는 그대로 둔다.
+ */
+@Slf4j
+@Service
+public class CafeImportService {
+
+	private static final Pattern KOREAN = Pattern.compile("[ㄱ-ㅎㅏ-ㅣ가-힣]");
+	// cafe 테이블 컬럼 길이. INSERT IGNORE는 넘치는 값을 잘라 넣으므로 미리 거른다
+	private static final int MAX_TEXT_LENGTH = 255;
+	private static final int MAX_PHONE_NUMBER_LENGTH = 20;
+	private static final int MAX_COORDINATE_LENGTH = 20;
+	private static final int MAX_RATING_LENGTH = 10;
+
+	private final CafeBulkRepository cafeBulkRepository;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public CafeImportService(CafeBulkRepository cafeBulkRepository,
+							 ObjectMapper objectMapper,
+							 ApplicationEventPublisher eventPublisher,
+							 PlatformTransactionManager transactionManager,
+							 @Value("${cafe.import.chunk-size:500}") int chunkSize) {
+		this.cafeBulkRepository = cafeBulkRepository;
+		this.objectMapper = objectMapper;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = Math.max(1, chunkSize);
+	}
+
+	/**
+	 * 본문 전체를 메모리에 올리지 않고 읽는 대로 묶음 단위로 저장한다.
+	 * 중간에 형식 오류가 나면 그 전 묶음까지는 커밋된 상태로 남는다.
+	 */
+	public CafeImportResultDTO importCafes(InputStream body) throws IOException {
+		long startedAt = System.currentTimeMillis();
+		Counts counts = new Counts();
+		try (MappingIterator<CafeSaveRequestDTO> rows = objectMapper.readerFor(CafeSaveRequestDTO.class).readValues(body)) {
+			List<CafeSaveRequestDTO> chunk = new ArrayList<>(chunkSize);
+			while (rows.hasNextValue()) {
+				chunk.add(rows.nextValue());
+				if (chunk.size() == chunkSize) {
+					importChunk(chunk, counts);
+					chunk.clear();
+				}
+			}
+			importChunk(chunk, counts);
+		} catch (RuntimeJsonMappingException | JsonProcessingException e) {
+			log.warn("카페 가져오기 본문 오류 - {}행까지 반영됨", counts.received, e);
+			throw new BusinessException(ErrorCode.INVALID_CAFE_IMPORT_BODY);
+		}
+		return result(counts, startedAt);
+	}
+
+	/**
+	 * 이미 읽어 둔 목록을 같은 묶음 단위로 저장한다.
+	 */
+	public CafeImportResultDTO importCafes(List<CafeSaveRequestDTO> cafes) {
+		long startedAt = System.currentTimeMillis();
+		Counts counts = new Counts();
+		for (int from = 0; from < cafes.size(); from += chunkSize) {
+			importChunk(cafes.subList(from, Math.min(from + chunkSize, cafes.size())), counts);
+		}
+		return result(counts, startedAt);
+	}
+
+	private CafeImportResultDTO result(Counts counts, long startedAt) {
+		log.info("카페 가져오기 - 받음 {}, 추가 {}, 갱신 {}, 유지 {}, 건너뜀 {}",
+			counts.received, counts.inserted, counts.updated, counts.unchanged, counts.skipped);
+		return CafeImportResultDTO.builder()
+			.received(counts.received)
+			.inserted(counts.inserted)
+			.updated(counts.updated)
+			.unchanged(counts.unchanged)
+			.skipped(counts.skipped)
+			.chunks(counts.chunks)
+			.elapsedMs(System.currentTimeMillis() - startedAt)
+			.build();
+	}
+
+	private void importChunk(List<CafeSaveRequestDTO> chunk, Counts counts) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		counts.received += chunk.size();
+		counts.chunks++;
+
+		// 필수 항목이 있고 주소가 한글인 행만, 같은 placeId는 처음 것만
+		Map<String, CafeSaveRequestDTO> candidates = new LinkedHashMap<>();
+		for (CafeSaveRequestDTO dto : chunk) {
+			if (!isImportable(dto) || candidates.putIfAbsent(dto.getPlaceId(), dto) != null) {
+				counts.skipped++;
+			}
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			Map<String, StoredCafe> stored = cafeBulkRepository.findByPlaceIds(candidates.keySet());
+
+			List<CafeSaveRequestDTO> inserts = new ArrayList<>();
+			List<String> insertOpeningHours = new ArrayList<>();
+			List<Object[]> phoneUpdates = new ArrayList<>();
+			List<Object[]> openingHoursUpdates = new ArrayList<>();
+			List<Long> updatedCafeIds = new ArrayList<>();
+
+			for (CafeSaveRequestDTO dto : candidates.values()) {
+				StoredCafe cafe = stored.get(dto.getPlaceId());
+				if (cafe == null) {
+					inserts.add(dto);
+					insertOpeningHours.add(openingHoursOrDefault(dto.getOpeningHours()));
+					continue;
+				}
+				boolean updated = false;
+				if (cafe.isPhoneMissing() && dto.getPhoneNumber() != null && !dto.getPhoneNumber().isBlank()) {
+					phoneUpdates.add(new Object[]{dto.getPhoneNumber(), cafe.getCafeId()});
+					updated = true;
+				}
+				if (cafe.isOpeningHoursMissing()) {
+					openingHoursUpdates.add(new Object[]{openingHoursOrDefault(dto.getOpeningHours()), cafe.getCafeId()});
+					updated = true;
+				}
+				if (updated) {
+					updatedCafeIds.add(cafe.getCafeId());
+				} else {
+					counts.unchanged++;
+				}
+			}
+
+			List<InsertedCafe> inserted = cafeBulkRepository.insertAll(inserts, insertOpeningHours, now);
+			cafeBulkRepository.updatePhoneNumbers(phoneUpdates, now);
+			cafeBulkRepository.updateOpeningHours(openingHoursUpdates, now);
+			counts.inserted += inserted.size();
+			// 조회 이후 다른 요청이 먼저 저장한 placeId
+			counts.skipped += inserts.size() - inserted.size();
+			counts.updated += updatedCafeIds.size();
+
+			// 캐시/색인 갱신은 커밋 이후 리스너가 처리
+			updatedCafeIds.forEach(cafeId -> eventPublisher.publishEvent(new CafeContentChangedEvent(cafeId)));
+			publishInserted(inserted);
+		});
+	}
+
+	// 새 카페도 ID별 캐시를 비우고, 위치는 저장된 값으로 공간 색인에 한 번에 넘긴다
+	private void publishInserted(List<InsertedCafe> inserted) {
+		List<CafeLocation> locations = new ArrayList<>(inserted.size());
+		for (InsertedCafe cafe : inserted) {
+			eventPublisher.publishEvent(new CafeContentChangedEvent(cafe.getCafeId()));
+			CafeLocation location = CafeLocation.parse(cafe.getCafeId(), cafe.getName(), cafe.getLatitude(), cafe.getLongitude());
+			if (location != null) {
+				locations.add(location);
+			}
+		}
+		if (!locations.isEmpty()) {
+			eventPublisher.publishEvent(new CafeLocationsChangedEvent(locations));
+		}
+	}
+
+	// cafe 테이블의 NOT NULL 컬럼(placeId, name, status, address)이 채워져 있고, 길이 제한이 있는 컬럼은 그 안에 들어와야 한다
+	private static boolean isImportable(CafeSaveRequestDTO dto) {
+		return hasText(dto.getPlaceId()) && hasText(dto.getName()) && dto.getStatus() != null
+			&& dto.getAddress() != null && KOREAN.matcher(dto.getAddress()).find()
+			&& fits(dto.getPlaceId(), MAX_TEXT_LENGTH) && fits(dto.getName(), MAX_TEXT_LENGTH)
+			&& fits(dto.getStatus(), MAX_TEXT_LENGTH) && fits(dto.getAddress(), MAX_TEXT_LENGTH)
+			&& fits(dto.getPhoneNumber(), MAX_PHONE_NUMBER_LENGTH)
+			&& fits(dto.getLatitude(), MAX_COORDINATE_LENGTH) && fits(dto.getLongitude(), MAX_COORDINATE_LENGTH)
+			&& fits(dto.getRating(), MAX_RATING_LENGTH);
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+
+	// VARCHAR 길이는 문자 수로 센다
+	private static boolean fits(String value, int maxLength) {
+		return value == null || value.codePointCount(0, value.length()) <= maxLength;
+	}
+
+	private static String openingHoursOrDefault(String raw) {
+		return (raw == null || raw.trim().isEmpty() || "{}".equals(raw) || "null".equalsIgnoreCase(raw))
+			? CafeService.getDefaultOpeningHoursJson()
+			: raw;
+	}
+
+	private static final class Counts {
+		private long received;
+		private long inserted;
+		private long updated;
+		private long unchanged;
+		private long skipped;
+		private int chunks;
+	}
+}
@@ -0,0 +1,247 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * 카페 위치로 만든 불변 k-d 트리.
+ * 위도/경도를 단위 구 위의 3차원 좌표로 바꿔 담는다. 두 점 사이의 직선(현) 거리는 대원 거리와 순서가 같으므로
+ * 투영 왜곡 없이 가지치기할 수 있다. 트리는 배열 하나에 중앙값 순서로 들어 있어 노드 객체를 따로 만들지 않는다.
+ */
+public final class CafeKdTree {
+
+	public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+	private static final CafeKdTree EMPTY = new CafeKdTree(new CafeLocation[0], new double[0][3]);
+
+	private final CafeLocation[] locations;
+	private final double[][] points;
+
+	private CafeKdTree(CafeLocation[] locations, double[][] points) {
+		this.locations = locations;
+		this.points = points;
+	}
+
+	public static CafeKdTree empty() {
+		return EMPTY;
+	}
+
+	public static CafeKdTree build(Collection<CafeLocation> source) {
+		if (source.isEmpty()) {
+			return EMPTY;
+		}
+		CafeLocation[] locations = source.toArray(new CafeLocation[0]);
+		double[][] points = new double[locations.length][];
+		for (int i = 0; i < locations.length; i++) {
+			points[i] = toPoint(locations[i].getLatitude(), locations[i].getLongitude());
+		}
+		Integer[] order = new Integer[locations.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		arrange(order, points, 0, order.length, 0);
+
+		CafeLocation[] arrangedLocations = new CafeLocation[order.length];
+		double[][] arrangedPoints = new double[order.length][];
+		for (int i = 0; i < order.length; i++) {
+			arrangedLocations[i] = locations[order[i]];
+			arrangedPoints[i] = points[order[i]];
+		}
+		return new CafeKdTree(arrangedLocations, arrangedPoints);
+	}
+
+	public int size() {
+		return locations.length;
+	}
+
+	/**
+	 * (latitude, longitude)에서 maxMeters 이내의 가까운 카페를 최대 k개, 가까운 순으로 돌려준다.
+	 * 크기 k의 최대 힙만 유지하므로 평균 O(log n + k log k)이다.
+	 */
+	public List<Hit> nearest(double latitude, double longitude, int k, double maxMeters) {
+		if (k <= 0 || locations.length == 0) {
+			return Collections.emptyList();
+		}
+		double[] target = toPoint(latitude, longitude);
+		double maxChord = chordOf(maxMeters);
+		Search search = new Search(target, k, maxChord * maxChord);
+		search(search, 0, locations.length, 0);
+
+		List<Hit> hits = new ArrayList<>(search.heap.size());
+		for (Candidate candidate : search.heap) {
+			hits.add(new Hit(locations[candidate.index], metersOf(Math.sqrt(candidate.squaredChord))));
+		}
+		hits.sort(Comparator.comparingDouble(Hit::getDistanceMeters));
+		return hits;
+	}
+
+	/**
+	 * (latitude, longitude)에서 maxMeters 이내의 카페를 모두 (카페, 거리 m)로 visitor에 넘긴다.
+	 * 개수 제한과 정렬 없이 반경을 벗어나는 가지만 잘라 내므로, 호출하는 쪽이 자기 기준으로 바로 골라 담을 수 있다.
+	 */
+	public void forEachWithin(double latitude, double longitude, double maxMeters, ObjDoubleConsumer<CafeLocation> visitor) {
+		if (locations.length == 0) {
+			return;
+		}
+		double maxChord = chordOf(maxMeters);
+		visitWithin(toPoint(latitude, longitude), maxChord * maxChord, 0, locations.length, 0, visitor);
+	}
+
+	/**
+	 * 두 지점 사이의 대원 거리(m).
+	 */
+	public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+		double[] a = toPoint(lat1, lng1);
+		double[] b = toPoint(lat2, lng2);
+		return metersOf(Math.sqrt(squaredDistance(a, b)));
+	}
+
+	private void search(Search search, int from, int to, int depth) {
+		if (from >= to) {
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		int axis = depth % 3;
+		double[] point = points[mid];
+		search.offer(mid, squaredDistance(point, search.target));
+
+		double diff = search.target[axis] - point[axis];
+		int nearFrom = diff < 0 ? from : mid + 1;
+		int nearTo = diff < 0 ? mid : to;
+		int farFrom = diff < 0 ? mid + 1 : from;
+		int farTo = diff < 0 ? to : mid;
+		search(search, nearFrom, nearTo, depth + 1);
+		// 분할 평면까지의 거리가 지금까지의 k번째 거리보다 멀면 반대쪽은 볼 필요가 없다
+		if (diff * diff <= search.bound()) {
+			search(search, farFrom, farTo, depth + 1);
+		}
+	}
+
+	private void visitWithin(double[] target, double maxSquaredChord, int from, int to, int depth,
+							 ObjDoubleConsumer<CafeLocation> visitor) {
+		if (from >= to) {
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		int axis = depth % 3;
+		double squaredChord = squaredDistance(points[mid], target);
+		if (squaredChord <= maxSquaredChord) {
+			visitor.accept(locations[mid], metersOf(Math.sqrt(squaredChord)));
+		}
+
+		double diff = target[axis] - points[mid][axis];
+		// 분할 평면이 반경 밖이면 그쪽 전체가 반경 밖이다
+		if (diff < 0 || diff * diff <= maxSquaredChord) {
+			visitWithin(target, maxSquaredChord, from, mid, depth + 1, visitor);
+		}
+		if (diff >= 0 || diff * diff <= maxSquaredChord) {
+			visitWithin(target, maxSquaredChord, mid + 1, to, depth + 1, visitor);
+		}
+	}
+
+	private static void arrange(Integer[] order, double[][] points, int from, int to, int depth) {
+		if (to - from <= 1) {
+			return;
+		}
+		int axis = depth % 3;
+		Arrays.sort(order, from, to, Comparator.comparingDouble(index -> points[index][axis]));
+		int mid = (from + to) >>> 1;
+		arrange(order, points, from, mid, depth + 1);
+		arrange(order, points, mid + 1, to, depth + 1);
+	}
+
+	private static double[] toPoint(double latitude, double longitude) {
+		double lat = Math.toRadians(latitude);
+		double lng = Math.toRadians(longitude);
+		double cosLat = Math.cos(lat);
+		return new double[]{cosLat * Math.cos(lng), cosLat * Math.sin(lng), Math.sin(lat)};
+	}
+
+	private static double squaredDistance(double[] a, double[] b) {
+		double dx = a[0] - b[0];
+		double dy = a[1] - b[1];
+		double dz = a[2] - b[2];
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	// 단위 구 위의 현 길이 <-> 지표면 거리(m)
+	private static double chordOf(double meters) {
+		double angle = Math.min(Math.PI, meters / EARTH_RADIUS_METERS);
+		return 2 * Math.sin(angle / 2);
+	}
+
+	private static double metersOf(double chord) {
+		return 2 * Math.asin(Math.min(1.0, chord / 2)) * EARTH_RADIUS_METERS;
+	}
+
+	/**
+	 * 검색 결과 한 건.
+	 */
+	public static final class Hit {
+
+		private final CafeLocation location;
+		private final double distanceMeters;
+
+		private Hit(CafeLocation location, double distanceMeters) {
+			this.location = location;
+			this.distanceMeters = distanceMeters;
+		}
+
+		public CafeLocation getLocation() {
+			return location;
+		}
+
+		public double getDistanceMeters() {
+			return distanceMeters;
+		}
+	}
+
+	private static final class Candidate {
+
+		private final int index;
+		private final double squaredChord;
+
+		private Candidate(int index, double squaredChord) {
+			this.index = index;
+			this.squaredChord = squaredChord;
+		}
+	}
+
+	private static final class Search {
+
+		private final double[] target;
+		private final int k;
+		private final double maxSquaredChord;
+		// 가장 먼 후보가 맨 앞에 오는 최대 힙
+		private final PriorityQueue<Candidate> heap = new PriorityQueue<>(
+			Comparator.comparingDouble((Candidate candidate) -> candidate.squaredChord).reversed());
+
+		private Search(double[] target, int k, double maxSquaredChord) {
+			this.target = target;
+			this.k = k;
+			this.maxSquaredChord = maxSquaredChord;
+		}
+
+		private void offer(int index, double squaredChord) {
+			if (squaredChord > maxSquaredChord) {
+				return;
+			}
+			if (heap.size() < k) {
+				heap.add(new Candidate(index, squaredChord));
+			} else if (squaredChord < heap.peek().squaredChord) {
+				heap.poll();
+				heap.add(new Candidate(index, squaredChord));
+			}
+		}
+
+		private double bound() {
+			return heap.size() < k ? maxSquaredChord : heap.peek().squaredChord;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.seatify.backend.domain.cafe.service;
+
+import lombok.Getter;
+
+/**
+ * 공간 색인에 들어가는 카페 위치 (불변).
+ */
+@Getter
+public class CafeLocation {
+
+	private final Long cafeId;
+	private final String name;
+	private final double latitude;
+	private final double longitude;
+
+	public CafeLocation(Long cafeId, String name, double latitude, double longitude) {
+		this.cafeId = cafeId;
+		this.name = name;
+		this.latitude = latitude;
+		this.longitude = longitude;
+	}
+
+	/**
+	 * 문자열로 저장된 위도/경도를 해석한다. 비어 있거나 범위를 벗어나면 null.
+	 */
+	public static CafeLocation parse(Long cafeId, String name, String latitude, String longitude) {
+		if (cafeId == null || latitude == null || longitude == null) {
+			return null;
+		}
+		try {
+			double lat = Double.parseDouble(latitude.trim());
+			double lng = Double.parseDouble(longitude.trim());
+			if (Double.isNaN(lat) || Double.isNaN(lng) || Math.abs(lat) > 90 || Math.abs(lng) > 180) {
+				return null;
+			}
+			return new CafeLocation(cafeId, name, lat, lng);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
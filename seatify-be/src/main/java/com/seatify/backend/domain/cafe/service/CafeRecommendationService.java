@@ -0,0 +1,127 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.seatify.backend.api.cafe.dto.CafeRecommendationDTO;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.congestion.service.CongestionService;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.EntityNotFoundException;
+
+/**
+ * 주변의 덜 붐비는 카페 추천.
+ * 공간 색인이 반경 안의 카페를 하나씩 넘겨 주면, 실시간 좌석 현황(없으면 예측 혼잡도)으로 빈자리 비율을 구해
+ * 거리 점수와 합친 점수 상위 k개를 크기 k의 최소 힙으로 바로 고른다. 후보 개수 제한, DB 조회, 정렬이 없다.
+ */
+@Service
+public class CafeRecommendationService {
+
+	private static final double UNKNOWN_VACANCY = 0.5;
+	private static final int MAX_LIMIT = 50;
+	private static final double MAX_RADIUS_METERS = 20_000;
+
+	private final CafeSpatialIndex cafeSpatialIndex;
+	private final LiveSeatStateStore liveSeatStateStore;
+	private final CongestionService congestionService;
+	private final double vacancyWeight;
+	private final double distanceWeight;
+
+	public CafeRecommendationService(CafeSpatialIndex cafeSpatialIndex,
+									 LiveSeatStateStore liveSeatStateStore,
+									 CongestionService congestionService,
+									 @Value("${recommendation.vacancy-weight:0.6}") double vacancyWeight,
+									 @Value("${recommendation.distance-weight:0.4}") double distanceWeight) {
+		this.cafeSpatialIndex = cafeSpatialIndex;
+		this.liveSeatStateStore = liveSeatStateStore;
+		this.congestionService = congestionService;
+		this.vacancyWeight = vacancyWeight;
+		this.distanceWeight = distanceWeight;
+	}
+
+	/**
+	 * 기준 위치 주변 추천.
+	 */
+	public List<CafeRecommendationDTO> recommend(double latitude, double longitude, double radiusMeters, int limit) {
+		return recommend(latitude, longitude, radiusMeters, limit, null);
+	}
+
+	/**
+	 * 보고 있는 카페 주변 추천. 기준 카페 자신은 제외한다.
+	 */
+	public List<CafeRecommendationDTO> recommendAround(Long cafeId, double radiusMeters, int limit) {
+		CafeLocation base = cafeSpatialIndex.find(cafeId);
+		if (base == null) {
+			throw new EntityNotFoundException(ErrorCode.CAFE_NOT_EXIST);
+		}
+		return recommend(base.getLatitude(), base.getLongitude(), radiusMeters, limit, cafeId);
+	}
+
+	private List<CafeRecommendationDTO> recommend(double latitude, double longitude, double radiusMeters, int limit,
+												  Long excludedCafeId) {
+		double radius = Math.max(1, Math.min(radiusMeters, MAX_RADIUS_METERS));
+		int k = Math.max(1, Math.min(limit, MAX_LIMIT));
+		LocalDateTime now = congestionService.now();
+		int day = now.getDayOfWeek().getValue() - 1;
+		int hour = now.getHour();
+
+		// 점수가 가장 낮은 추천이 맨 앞에 오는 최소 힙
+		PriorityQueue<CafeRecommendationDTO> top = new PriorityQueue<>(k + 1,
+			Comparator.comparingDouble(CafeRecommendationDTO::getScore));
+		cafeSpatialIndex.forEachWithin(latitude, longitude, radius, (location, distanceMeters) -> {
+			if (Objects.equals(location.getCafeId(), excludedCafeId)) {
+				return;
+			}
+			CafeRecommendationDTO candidate = score(location, distanceMeters, radius, day, hour);
+			if (top.size() < k) {
+				top.add(candidate);
+			} else if (candidate.getScore() > top.peek().getScore()) {
+				top.poll();
+				top.add(candidate);
+			}
+		});
+
+		// 최소 힙에서 꺼낸 순서를 뒤집어 점수 높은 순으로 담는다
+		CafeRecommendationDTO[] result = new CafeRecommendationDTO[top.size()];
+		for (int i = result.length - 1; i >= 0; i--) {
+			result[i] = top.poll();
+		}
+		return Arrays.asList(result);
+	}
+
+	private CafeRecommendationDTO score(CafeLocation location, double distanceMeters, double radius, int day, int hour) {
+		Long cafeId = location.getCafeId();
+		double vacancy;
+		String source;
+		SeatOccupancyDTO occupancy = liveSeatStateStore.findOccupancy(cafeId);
+		if (occupancy != null && occupancy.getTotal() > 0) {
+			vacancy = (double) occupancy.getEmpty() / occupancy.getTotal();
+			source = "LIVE";
+		} else {
+			double expected = congestionService.expectedRatio(cafeId, day, hour);
+			vacancy = Double.isNaN(expected) ? UNKNOWN_VACANCY : 1 - expected;
+			source = Double.isNaN(expected) ? "UNKNOWN" : "PREDICTED";
+		}
+		double closeness = 1 - Math.min(1.0, distanceMeters / radius);
+		double score = vacancyWeight * vacancy + distanceWeight * closeness;
+
+		return CafeRecommendationDTO.builder()
+			.cafeId(cafeId)
+			.name(location.getName())
+			.latitude(location.getLatitude())
+			.longitude(location.getLongitude())
+			.distanceMeters((int) Math.round(distanceMeters))
+			.vacancyPercentage((int) Math.round(vacancy * 100))
+			.vacancySource(source)
+			.score(score)
+			.build();
+	}
+}
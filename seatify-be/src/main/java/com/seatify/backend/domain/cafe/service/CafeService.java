@@ -1,20 +1,33 @@
 package com.seatify.backend.domain.cafe.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.persistence.Tuple;
+
 import com.seatify.backend.api.cafe.dto.CafeInfoResponseDTO;
-import com.seatify.backend.api.cafe.dto.CafeSaveRequestDTO;
+import com.seatify.backend.api.cafe.dto.CafePageDTO;
+import com.seatify.backend.api.cafe.dto.CafeSummaryDTO;
+import com.seatify.backend.api.cafe.dto.NearbyCafeDTO;
 import com.seatify.backend.domain.seat.repository.SeatRepository;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.seatify.backend.api.cafe.dto.CafeDTO;
 import com.seatify.backend.api.comment.dto.CommentInfoDTO;
-import com.seatify.backend.api.home.dto.HomeResponseDTO;
+import com.seatify.backend.api.home.dto.HomeCafeDTO;
+import com.seatify.backend.api.home.dto.HomeStatsProjection;
 import com.seatify.backend.api.member.dto.CafeInfoViewedByMemberProjection;
+import com.seatify.backend.domain.cafe.constant.CafeField;
 import com.seatify.backend.domain.cafe.entity.Cafe;
 import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.cafestats.entity.CafeStats;
 import com.seatify.backend.domain.comment.constant.Keyword;
 import com.seatify.backend.domain.comment.entity.Comment;
 import com.seatify.backend.domain.commentkeyword.entity.CommentKeyword;
@@ -30,14 +43,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CafeService {
 
+	private static final double MAX_NEARBY_RADIUS_METERS = 20_000;
+	private static final int MAX_NEARBY_LIMIT = 100;
+	private static final int MAX_NEARBY_CANDIDATES = 1000;
+	private static final int DEFAULT_PAGE_SIZE = 50;
+	private static final int MAX_PAGE_SIZE = 200;
+
 	private final CafeRepository cafeRepository;
 	private final SeatRepository seatRepository;
+	private final LiveSeatStateStore liveSeatStateStore;
+	private final CafeSpatialIndex cafeSpatialIndex;
+	private final OpeningScheduleRegistry openingScheduleRegistry;
+	private final CafeDetailCache cafeDetailCache;
 
-	private boolean containsKorean(String address) {
-		return address != null && address.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣]+.*");
-	}
-
-	private String getDefaultOpeningHoursJson() {
+	static String getDefaultOpeningHoursJson() {
 		return "{"
 				+ "\"periods\": ["
 				+ "{\"open\": {\"day\": 0, \"hour\": 10, \"minute\": 0}, \"close\": {\"day\": 0, \"hour\": 17, \"minute\": 0}},"
@@ -61,90 +80,60 @@ public class CafeService {
 	}
 
 
+	// 홈 화면 카페 목록. 리뷰/댓글 수와 혼잡도는 cafe_stats 한 번의 조인으로, 영업 상태와 좌석 현황은 메모리에서 채운다
 	@Transactional(readOnly = true)
-	public HomeResponseDTO getHomeData(Long memberId) {
-		return HomeResponseDTO.builder()
-			.cafeCount(cafeRepository.count())
-			.cafes(cafeRepository.getHomeData(memberId))
-			.build();
+	public List<HomeCafeDTO> getHomeData() {
+		LocalDateTime now = openingScheduleRegistry.now();
+		long nowMillis = System.currentTimeMillis();
+		return cafeRepository.getHomeData().stream()
+			.map(cafe -> {
+				Long cafeId = Long.valueOf(cafe.getCafeId());
+				return HomeCafeDTO.of(cafe,
+					openingScheduleRegistry.status(cafeId, cafe.getOpeningHours(), cafe.getStatus(), now),
+					liveSeatStateStore.findOccupancy(cafeId),
+					recentCongestion(cafe, nowMillis));
+			})
+			.collect(Collectors.toList());
 	}
-	@Transactional
-	public void saveAllCafes(List<CafeSaveRequestDTO> cafeList) {
-		for (CafeSaveRequestDTO dto : cafeList) {
-			System.out.println("📌 카페 처리 중: " + dto.getName() + " / " + dto.getAddress());
-
-			if (!containsKorean(dto.getAddress())) {
-				System.out.println("⛔ 한글 주소가 아님 → 저장 생략: " + dto.getAddress());
-				continue;
-			}
-
-			if (cafeRepository.existsByPlaceId(dto.getPlaceId())) {
-				Cafe existingCafe = cafeRepository.findByPlaceId(dto.getPlaceId())
-						.orElseThrow(() -> new IllegalStateException("존재한다고 했는데 못 찾음"));
-
-				boolean updated = false;
-
-				// 필드별로 값이 비어있으면 dto 값으로 채우기
-				if (existingCafe.getPhoneNumber() == null || existingCafe.getPhoneNumber().isBlank()) {
-					existingCafe.setPhoneNumber(dto.getPhoneNumber());
-					updated = true;
-				}
-
-				if (existingCafe.getOpeningHours() == null || existingCafe.getOpeningHours().isBlank() ||
-						"null".equalsIgnoreCase(existingCafe.getOpeningHours()) || "{}".equals(existingCafe.getOpeningHours())) {
-					String raw = dto.getOpeningHours();
-					String newOpeningHours = (raw == null || raw.trim().isEmpty() ||
-							"null".equalsIgnoreCase(raw) || "{}".equals(raw))
-							? getDefaultOpeningHoursJson()
-							: raw;
-					existingCafe.setOpeningHours(newOpeningHours);
-					updated = true;
-				}
-
-				if (updated) {
-					cafeRepository.save(existingCafe);  // update 수행
-					System.out.println("♻️ 기존 카페 정보 업데이트됨: " + existingCafe.getName());
-				} else {
-					System.out.println("✅ 기존 카페 정보 유지됨 (변경 없음): " + existingCafe.getName());
-				}
 
-				continue;
-			}
-
-			String openingHoursRaw = dto.getOpeningHours();
-			System.out.println("🕒 받은 openingHoursRaw: " + openingHoursRaw);
-
-			String openingHours = (openingHoursRaw == null || openingHoursRaw.trim().isEmpty()
-					|| "{}".equals(openingHoursRaw) || "null".equalsIgnoreCase(openingHoursRaw))
-					? getDefaultOpeningHoursJson()
-					: openingHoursRaw;
-
-			System.out.println("✅ 최종 저장할 openingHours: " + openingHours);
-
-			Cafe cafe = Cafe.builder()
-					.placeId(dto.getPlaceId())
-					.name(dto.getName())
-					.status(dto.getStatus())
-					.latitude(dto.getLatitude())
-					.longitude(dto.getLongitude())
-					.address(dto.getAddress())
-					.phoneNumber(dto.getPhoneNumber())
-					.rating(dto.getRating())
-					.openingHours(openingHours)
-					.reviews(dto.getReviews())
-					.hasPlugCount(0)
-					.isCleanCount(0)
-					.build();
-
-			cafeRepository.save(cafe);
-			System.out.println("✅ 저장 완료: " + dto.getName());
+	private Double recentCongestion(HomeStatsProjection cafe, long nowMillis) {
+		if (cafe.getCongestionBucket() == null) {
+			return null;
 		}
+		return CafeStats.recentCongestion(cafe.getCongestionBucket(), cafe.getCongestionSum(), cafe.getCongestionCount(),
+			cafe.getPreviousCongestionSum(), cafe.getPreviousCongestionCount(), nowMillis);
+	}
+
+	// 기준 위치 주변 카페 (공간 색인 + 메모리 좌석 카운터 + 영업 시간표, 쿼리 없음)
+	@Transactional(readOnly = true)
+	public List<NearbyCafeDTO> findNearbyCafes(double latitude, double longitude, double radiusMeters, int limit,
+											   boolean openNow) {
+		double radius = Math.max(0, Math.min(radiusMeters, MAX_NEARBY_RADIUS_METERS));
+		int size = Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+		LocalDateTime now = openingScheduleRegistry.now();
+		// 영업 중인 곳만 볼 때는 후보를 넉넉히 꺼낸 뒤 거른다
+		int candidates = openNow ? MAX_NEARBY_CANDIDATES : size;
+		return cafeSpatialIndex.nearest(latitude, longitude, radius, candidates).stream()
+				.filter(hit -> !openNow || openingScheduleRegistry.isOpen(hit.getLocation().getCafeId(), now))
+				.limit(size)
+				.map(hit -> NearbyCafeDTO.builder()
+						.cafeId(hit.getLocation().getCafeId())
+						.name(hit.getLocation().getName())
+						.latitude(hit.getLocation().getLatitude())
+						.longitude(hit.getLocation().getLongitude())
+						.distanceMeters((int) Math.round(hit.getDistanceMeters()))
+						.occupancy(liveSeatStateStore.findOccupancy(hit.getLocation().getCafeId()))
+						.status(openingScheduleRegistry.status(hit.getLocation().getCafeId(), now))
+						.closingSoon(openingScheduleRegistry.isClosingSoon(hit.getLocation().getCafeId(), now))
+						.build())
+				.collect(Collectors.toList());
 	}
 
 
 	// 모든 카페 정보를 가져오는 메소드
 	public List<CafeInfoResponseDTO> getAllCafeInfo() {
 		List<Cafe> cafes = cafeRepository.findAll();  // 모든 카페 정보를 DB에서 가져옵니다.
+		LocalDateTime now = openingScheduleRegistry.now();
 
 		// 각 카페의 정보를 CafeInfoResponseDTO로 변환하여 리스트로 반환
 		return cafes.stream()
@@ -154,7 +143,7 @@ public class CafeService {
 							.name(cafe.getName())
 							.phoneNumber(cafe.getPhoneNumber())
 							.address(cafe.getAddress())
-							.status(cafe.getStatus())
+							.status(openingScheduleRegistry.status(cafe.getCafeId(), cafe.getOpeningHours(), cafe.getStatus(), now))  // 영업 시간표로 계산 (모르면 저장된 값)
 							.rating(cafe.getRating())
 							.latitude(cafe.getLatitude())
 							.longitude(cafe.getLongitude())
@@ -162,13 +151,108 @@ public class CafeService {
 							.reviews(cafe.getReviews())
 							.hasPlugCount(cafe.getHasPlugCount())  // 실제 값 사용
 							.isCleanCount(cafe.getIsCleanCount())  // 실제 값 사용
+							.occupancy(liveSeatStateStore.findOccupancy(cafe.getCafeId()))  // 메모리 카운터 (쿼리 없음)
 							.build();
 				})
 				.collect(Collectors.toList());  // 리스트로 반환
 	}
 
+	// 카페 목록 한 페이지 (cafeId 키셋 + 요청한 컬럼만 조회, 엔티티를 만들지 않음)
 	@Transactional(readOnly = true)
+	public CafePageDTO getCafePage(Long afterId, Integer size, List<String> fieldNames) {
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		Set<CafeField> fields = resolveFields(fieldNames);
+
+		// 한 건 더 읽어 다음 페이지가 있는지 확인
+		List<Tuple> rows = cafeRepository.findCafeColumnsAfter(afterId, fields, pageSize + 1);
+		LocalDateTime now = openingScheduleRegistry.now();
+		boolean hasNext = rows.size() > pageSize;
+		List<CafeSummaryDTO> cafes = new ArrayList<>(Math.min(rows.size(), pageSize));
+		for (Tuple row : rows.subList(0, Math.min(rows.size(), pageSize))) {
+			cafes.add(toSummary(row, fields, now));
+		}
+		Long nextCursor = hasNext ? cafes.get(cafes.size() - 1).getCafeId() : null;
+		return new CafePageDTO(cafes, nextCursor);
+	}
+
+	// 요청한 항목만 채우고 나머지는 null로 둔다 (응답에서 빠짐)
+	private CafeSummaryDTO toSummary(Tuple row, Set<CafeField> fields, LocalDateTime now) {
+		Long cafeId = row.get("cafeId", Long.class);
+		CafeSummaryDTO.CafeSummaryDTOBuilder summary = CafeSummaryDTO.builder().cafeId(cafeId);
+		for (CafeField field : fields) {
+			switch (field) {
+				case NAME:
+					summary.name(row.get(field.getFieldName(), String.class));
+					break;
+				case PHONE_NUMBER:
+					summary.phoneNumber(row.get(field.getFieldName(), String.class));
+					break;
+				case ADDRESS:
+					summary.address(row.get(field.getFieldName(), String.class));
+					break;
+				case STATUS:
+					summary.status(openingScheduleRegistry.status(cafeId, now));
+					break;
+				case RATING:
+					summary.rating(row.get(field.getFieldName(), String.class));
+					break;
+				case LATITUDE:
+					summary.latitude(row.get(field.getFieldName(), String.class));
+					break;
+				case LONGITUDE:
+					summary.longitude(row.get(field.getFieldName(), String.class));
+					break;
+				case HAS_PLUG_COUNT:
+					summary.hasPlugCount(row.get(field.getFieldName(), Integer.class));
+					break;
+				case IS_CLEAN_COUNT:
+					summary.isCleanCount(row.get(field.getFieldName(), Integer.class));
+					break;
+				case OPENING_HOURS:
+					summary.openingHours(row.get(field.getFieldName(), String.class));
+					break;
+				case REVIEWS:
+					summary.reviews(row.get(field.getFieldName(), String.class));
+					break;
+				case OCCUPANCY:
+					summary.occupancy(liveSeatStateStore.findOccupancy(cafeId));
+					break;
+			}
+		}
+		return summary.build();
+	}
+
+	private Set<CafeField> resolveFields(List<String> fieldNames) {
+		Set<CafeField> fields = EnumSet.noneOf(CafeField.class);
+		if (fieldNames == null || fieldNames.isEmpty()) {
+			for (CafeField field : CafeField.values()) {
+				if (field.isDefaultField()) {
+					fields.add(field);
+				}
+			}
+			return fields;
+		}
+		for (String fieldName : fieldNames) {
+			if (!fieldName.isBlank() && !"cafeId".equals(fieldName.trim())) {
+				fields.add(CafeField.from(fieldName.trim()));
+			}
+		}
+		return fields;
+	}
+
+	// 캐시 적중 시 커넥션을 잡지 않도록 실제 트랜잭션은 열지 않는다
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	public CafeDTO findCafeInfoById(Long memberId, Long cafeId) {
+		CafeDTO cafe = cafeDetailCache.get(cafeId, () -> loadCafeInfo(cafeId));
+		// 영업 상태는 시간에 따라 바뀌므로 캐시 값에 매번 새로 채운다
+		return cafe.toBuilder()
+				.cafeInfo(cafe.getCafeInfo().toBuilder()
+						.status(openingScheduleRegistry.status(cafeId, openingScheduleRegistry.now()))
+						.build())
+				.build();
+	}
+
+	private CafeDTO loadCafeInfo(Long cafeId) {
 		Cafe cafe = cafeRepository.findById(cafeId)
 				.orElseThrow(() -> new EntityNotFoundException(ErrorCode.CAFE_NOT_EXIST));
 
@@ -177,7 +261,6 @@ public class CafeService {
 				.name(cafe.getName())
 				.phoneNumber(cafe.getPhoneNumber())
 				.address(cafe.getAddress())
-				.status(cafe.getStatus())
 				.rating(cafe.getRating())
 				.latitude(cafe.getLatitude())
 				.longitude(cafe.getLongitude())
@@ -189,7 +272,7 @@ public class CafeService {
 
 		return CafeDTO.builder()
 				.cafeInfo(cafeInfo)
-				.comments(getComments(cafeId))
+				.comments(List.copyOf(getComments(cafeId)))
 				.build();
 	}
 
@@ -0,0 +1,98 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjDoubleConsumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seatify.backend.api.cafe.dto.CafeLocationProjection;
+import com.seatify.backend.domain.cafe.event.CafeLocationsChangedEvent;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카페 위치 공간 색인.
+ * 기동 시 위치 컬럼만 읽어 {@link CafeKdTree}를 만들고, 카페가 저장되면 커밋 이후에 새 트리로 통째로 바꿔 끼운다.
+ * 조회는 잠금 없이 현재 트리를 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CafeSpatialIndex {
+
+	private final CafeRepository cafeRepository;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(Map.of(), CafeKdTree.empty()));
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void load() {
+		Map<Long, CafeLocation> locations = new HashMap<>();
+		for (CafeLocationProjection cafe : cafeRepository.findAllLocations()) {
+			CafeLocation location = CafeLocation.parse(cafe.getCafeId(), cafe.getName(), cafe.getLatitude(), cafe.getLongitude());
+			if (location != null) {
+				locations.put(location.getCafeId(), location);
+			}
+		}
+		snapshot.set(new Snapshot(locations, CafeKdTree.build(locations.values())));
+		log.info("카페 공간 색인 생성 - 카페 {}곳", locations.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCafeLocationsChanged(CafeLocationsChangedEvent event) {
+		upsert(event.getLocations());
+	}
+
+	/**
+	 * 위치를 추가하거나 바꾼다. 묶음 하나당 트리를 한 번만 다시 만든다.
+	 */
+	public synchronized void upsert(List<CafeLocation> changed) {
+		if (changed.isEmpty()) {
+			return;
+		}
+		Map<Long, CafeLocation> locations = new HashMap<>(snapshot.get().locations);
+		changed.forEach(location -> locations.put(location.getCafeId(), location));
+		snapshot.set(new Snapshot(locations, CafeKdTree.build(locations.values())));
+	}
+
+	/**
+	 * 기준 위치에서 radiusMeters 이내의 가까운 카페를 최대 limit개, 가까운 순으로.
+	 */
+	public List<CafeKdTree.Hit> nearest(double latitude, double longitude, double radiusMeters, int limit) {
+		return snapshot.get().tree.nearest(latitude, longitude, limit, radiusMeters);
+	}
+
+	/**
+	 * 기준 위치에서 radiusMeters 이내의 카페를 모두 (카페, 거리 m)로 visitor에 넘긴다. 순서는 정해져 있지 않다.
+	 */
+	public void forEachWithin(double latitude, double longitude, double radiusMeters, ObjDoubleConsumer<CafeLocation> visitor) {
+		snapshot.get().tree.forEachWithin(latitude, longitude, radiusMeters, visitor);
+	}
+
+	public CafeLocation find(Long cafeId) {
+		return snapshot.get().locations.get(cafeId);
+	}
+
+	public int size() {
+		return snapshot.get().tree.size();
+	}
+
+	private static final class Snapshot {
+
+		private final Map<Long, CafeLocation> locations;
+		private final CafeKdTree tree;
+
+		private Snapshot(Map<Long, CafeLocation> locations, CafeKdTree tree) {
+			this.locations = locations;
+			this.tree = tree;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+import com.seatify.backend.domain.seat.event.SeatFrameAppliedEvent;
+import com.seatify.backend.domain.seat.event.SeatLayoutChangedEvent;
+
+/**
+ * 카페별 버전. 좌석 상태, 좌석 배치, 댓글, 리뷰가 바뀔 때마다 1씩 올라간다.
+ * 조회 API는 이 값으로 ETag를 만들어 바뀐 것이 없으면 DB를 거치지 않고 304를 돌려준다.
+ */
+@Component
+public class CafeVersionRegistry {
+
+	// 재시작하면 버전이 0부터 다시 시작하므로, 이전 프로세스의 ETag와 겹치지 않게 기동 시각을 섞는다
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+	private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+	public long current(Long cafeId) {
+		AtomicLong version = versions.get(cafeId);
+		return version == null ? 0L : version.get();
+	}
+
+	public long bump(Long cafeId) {
+		return versions.computeIfAbsent(cafeId, id -> new AtomicLong()).incrementAndGet();
+	}
+
+	/**
+	 * 강한 ETag. resource로 응답 종류(좌석, 상세 등)를 구분한다.
+	 */
+	public String etag(String resource, Long cafeId) {
+		return "\"" + resource + "-" + epoch + "-" + cafeId + "-" + current(cafeId) + "\"";
+	}
+
+	@EventListener
+	public void onSeatFrameApplied(SeatFrameAppliedEvent event) {
+		bump(event.getCafeId());
+	}
+
+	@EventListener
+	public void onSeatLayoutChanged(SeatLayoutChangedEvent event) {
+		bump(event.getCafeId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCafeContentChanged(CafeContentChangedEvent event) {
+		bump(event.getCafeId());
+	}
+}
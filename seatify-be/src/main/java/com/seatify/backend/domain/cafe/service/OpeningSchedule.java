@@ -0,0 +1,144 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 한 카페의 주간 영업 시간표 (불변).
+ * 월요일 00:00부터 10분 단위 칸 1008개를 비트 하나씩 long[16]에 담는다.
+ * 구글 Places의 opening_hours JSON(periods)을 한 번만 해석해 두고, 영업 여부는 비트 검사로 판단한다.
+ */
+public final class OpeningSchedule {
+
+	public static final int SLOT_MINUTES = 10;
+	private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+	private static final int WEEK_SLOTS = 7 * SLOTS_PER_DAY;
+
+	// 시간표를 알 수 없는 카페 (항상 영업종료로 본다)
+	public static final OpeningSchedule UNKNOWN = new OpeningSchedule(new long[(WEEK_SLOTS + 63) / 64], false);
+
+	private final long[] slots;
+	private final boolean known;
+
+	private OpeningSchedule(long[] slots, boolean known) {
+		this.slots = slots;
+		this.known = known;
+	}
+
+	/**
+	 * periods 배열을 해석한다. 비어 있거나 형식이 맞지 않으면 {@link #UNKNOWN}.
+	 * open만 있고 close가 없는 기간은 24시간 영업으로 본다.
+	 */
+	public static OpeningSchedule parse(ObjectMapper objectMapper, String json) {
+		if (json == null || json.isBlank() || "null".equalsIgnoreCase(json.trim())) {
+			return UNKNOWN;
+		}
+		JsonNode periods;
+		try {
+			periods = objectMapper.readTree(json).path("periods");
+		} catch (JsonProcessingException e) {
+			return UNKNOWN;
+		}
+		if (!periods.isArray() || periods.size() == 0) {
+			return UNKNOWN;
+		}
+
+		long[] slots = new long[(WEEK_SLOTS + 63) / 64];
+		boolean any = false;
+		for (JsonNode period : periods) {
+			int open = slotOf(period.path("open"), false);
+			if (open < 0) {
+				continue;
+			}
+			any = true;
+			if (period.path("close").isMissingNode() || period.path("close").isNull()) {
+				Arrays.fill(slots, -1L);
+				continue;
+			}
+			int close = slotOf(period.path("close"), true);
+			if (close < 0) {
+				continue;
+			}
+			if (close <= open) {
+				close += WEEK_SLOTS;  // 자정이나 주말을 넘어가는 영업
+			}
+			for (int slot = open; slot < close; slot++) {
+				int index = slot % WEEK_SLOTS;
+				slots[index >>> 6] |= 1L << index;
+			}
+		}
+		return any ? new OpeningSchedule(slots, true) : UNKNOWN;
+	}
+
+	public boolean isKnown() {
+		return known;
+	}
+
+	public boolean isOpen(LocalDateTime time) {
+		return isSet(slotOf(time));
+	}
+
+	/**
+	 * 지금부터 마감까지 남은 분. 영업 중이 아니면 -1, 일주일 내내 닫지 않으면 Integer.MAX_VALUE.
+	 */
+	public int minutesUntilClose(LocalDateTime time) {
+		int slot = slotOf(time);
+		if (!isSet(slot)) {
+			return -1;
+		}
+		for (int offset = 1; offset < WEEK_SLOTS; offset++) {
+			if (!isSet((slot + offset) % WEEK_SLOTS)) {
+				return offset * SLOT_MINUTES - time.getMinute() % SLOT_MINUTES;
+			}
+		}
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * 영업 중이고 withinMinutes 안에 마감하면 true.
+	 */
+	public boolean isClosingSoon(LocalDateTime time, int withinMinutes) {
+		int left = minutesUntilClose(time);
+		return left >= 0 && left <= withinMinutes;
+	}
+
+	private boolean isSet(int slot) {
+		return (slots[slot >>> 6] & (1L << slot)) != 0;
+	}
+
+	private static int slotOf(LocalDateTime time) {
+		return (time.getDayOfWeek().getValue() - 1) * SLOTS_PER_DAY
+			+ (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+	}
+
+	// 구글 형식의 요일(0=일요일)과 시각을 월요일 기준 칸 번호로. 마감은 올림한다. 형식이 맞지 않으면 -1
+	private static int slotOf(JsonNode point, boolean roundUp) {
+		if (!point.path("day").canConvertToInt()) {
+			return -1;
+		}
+		int day = point.path("day").asInt();
+		int hour;
+		int minute;
+		if (point.hasNonNull("time")) {  // 이전 API 형식 "0930"
+			String time = point.path("time").asText();
+			if (!time.matches("\\d{4}")) {
+				return -1;
+			}
+			hour = Integer.parseInt(time.substring(0, 2));
+			minute = Integer.parseInt(time.substring(2));
+		} else {
+			hour = point.path("hour").asInt(0);
+			minute = point.path("minute").asInt(0);
+		}
+		if (day < 0 || day > 6 || hour < 0 || hour > 24 || minute < 0 || minute > 59) {
+			return -1;
+		}
+		int minutes = hour * 60 + minute;
+		int slot = (roundUp ? (minutes + SLOT_MINUTES - 1) : minutes) / SLOT_MINUTES;
+		return ((day + 6) % 7) * SLOTS_PER_DAY + slot;
+	}
+}
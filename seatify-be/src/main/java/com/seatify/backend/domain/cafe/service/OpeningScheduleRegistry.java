@@ -0,0 +1,142 @@
+package com.seatify.backend.domain.cafe.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.seatify.backend.api.cafe.dto.CafeOpeningHoursProjection;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카페별 {@link OpeningSchedule} 캐시.
+ * 기동 시 전체를 한 번 해석해 두고, 카페가 추가되거나 바뀌면 커밋 이후에 해당 카페만 비운다 (다음 조회 때 다시 읽음).
+ * 없는 카페 ID는 개수와 기간을 제한한 별도 캐시에 잠시 기억해, 없는 ID로 반복해 조회해도 DB를 매번 읽지 않는다.
+ * 영업중/영업종료, 곧 마감 여부는 DB 없이 여기서 계산한다.
+ */
+@Slf4j
+@Component
+public class OpeningScheduleRegistry {
+
+	public static final String OPEN = "영업중";
+	public static final String CLOSED = "영업종료";
+
+	private static final int ABSENT_CACHE_SIZE = 10_000;
+	private static final long ABSENT_TTL_SECONDS = 60;
+
+	private final Map<Long, OpeningSchedule> schedules = new ConcurrentHashMap<>();
+	// 없는 카페 ID. 카페가 추가되면 CafeContentChangedEvent로 지워지고, 놓치더라도 TTL이 지나면 다시 읽는다
+	private final Cache<Long, Boolean> absent = CacheBuilder.newBuilder()
+		.maximumSize(ABSENT_CACHE_SIZE)
+		.expireAfterWrite(ABSENT_TTL_SECONDS, TimeUnit.SECONDS)
+		.build();
+
+	private final CafeRepository cafeRepository;
+	private final ObjectMapper objectMapper;
+	private final ZoneId zone;
+	private final int closingSoonMinutes;
+
+	public OpeningScheduleRegistry(CafeRepository cafeRepository,
+								   ObjectMapper objectMapper,
+								   @Value("${opening-hours.zone:Asia/Seoul}") String zone,
+								   @Value("${opening-hours.closing-soon-minutes:30}") int closingSoonMinutes) {
+		this.cafeRepository = cafeRepository;
+		this.objectMapper = objectMapper;
+		this.zone = ZoneId.of(zone);
+		this.closingSoonMinutes = closingSoonMinutes;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		for (CafeOpeningHoursProjection cafe : cafeRepository.findAllOpeningHours()) {
+			schedules.put(cafe.getCafeId(), OpeningSchedule.parse(objectMapper, cafe.getOpeningHours()));
+		}
+		log.info("영업 시간표 해석 - 카페 {}곳", schedules.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCafeContentChanged(CafeContentChangedEvent event) {
+		schedules.remove(event.getCafeId());
+		absent.invalidate(event.getCafeId());
+	}
+
+	public OpeningSchedule get(Long cafeId) {
+		return find(cafeId).orElse(OpeningSchedule.UNKNOWN);
+	}
+
+	/**
+	 * 카페의 영업 시간표. 없는 카페면 empty이므로 존재 확인에도 쓴다.
+	 */
+	public Optional<OpeningSchedule> find(Long cafeId) {
+		OpeningSchedule schedule = schedules.get(cafeId);
+		if (schedule != null) {
+			return Optional.of(schedule);
+		}
+		if (absent.getIfPresent(cafeId) != null) {
+			return Optional.empty();
+		}
+		schedule = schedules.computeIfAbsent(cafeId, this::loadSchedule);
+		if (schedule == null) {
+			absent.put(cafeId, Boolean.TRUE);
+		}
+		return Optional.ofNullable(schedule);
+	}
+
+	// 없는 카페면 null을 돌려 시간표 맵에는 넣지 않는다 (없는 ID는 absent에서 따로 기억)
+	private OpeningSchedule loadSchedule(Long cafeId) {
+		String openingHours = cafeRepository.findOpeningHoursByCafeId(cafeId);
+		if (openingHours == null && !cafeRepository.existsById(cafeId)) {
+			return null;
+		}
+		return OpeningSchedule.parse(objectMapper, openingHours);
+	}
+
+	public LocalDateTime now() {
+		return LocalDateTime.now(zone);
+	}
+
+	public boolean isOpen(Long cafeId, LocalDateTime time) {
+		return get(cafeId).isOpen(time);
+	}
+
+	public boolean isClosingSoon(Long cafeId, LocalDateTime time) {
+		return get(cafeId).isClosingSoon(time, closingSoonMinutes);
+	}
+
+	/**
+	 * 기존 쿼리와 같은 표기의 영업 상태. 시간표를 모르면 영업종료.
+	 */
+	public String status(Long cafeId, LocalDateTime time) {
+		return isOpen(cafeId, time) ? OPEN : CLOSED;
+	}
+
+	/**
+	 * 영업 시간 JSON과 저장된 영업 상태를 이미 읽어 온 경우. 캐시에 있으면 캐시를 쓰고, 없으면 넘겨받은 JSON을 해석만 한다.
+	 * 넘겨받은 값은 커밋 전이거나 이미 지난 값일 수 있으므로 캐시에는 넣지 않는다. 시간표를 모르면 저장된 상태를 그대로 쓴다.
+	 */
+	public String status(Long cafeId, String openingHours, String storedStatus, LocalDateTime time) {
+		OpeningSchedule schedule = schedules.get(cafeId);
+		if (schedule == null) {
+			schedule = OpeningSchedule.parse(objectMapper, openingHours);
+		}
+		if (!schedule.isKnown()) {
+			return storedStatus;
+		}
+		return schedule.isOpen(time) ? OPEN : CLOSED;
+	}
+}
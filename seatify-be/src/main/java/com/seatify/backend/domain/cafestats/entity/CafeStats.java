@@ -0,0 +1,75 @@
+package com.seatify.backend.domain.cafestats.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카페별 집계 (리뷰 수, 댓글 수, 최근 1시간 혼잡도 평균).
+ * 리뷰/댓글이 저장되는 트랜잭션 안에서 {@code CafeStatsRepository}의 upsert 한 문장으로 함께 갱신한다.
+ * 혼잡도는 한 시간 단위 버킷 두 개(현재, 직전)만 두고, 직전 버킷을 경과 비율만큼 덜 반영해 최근 1시간 평균을 근사한다.
+ */
+@Entity
+@Getter
+@Table(name = "cafe_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CafeStats {
+
+	public static final long HOUR_MILLIS = 3_600_000L;
+
+	@Id
+	private Long cafeId;
+
+	@Column(nullable = false)
+	private long reviewCount;
+
+	@Column(nullable = false)
+	private long commentCount;
+
+	// 현재 버킷의 시작 시각 (epoch 기준 시간 단위)
+	@Column(nullable = false)
+	private long congestionBucket;
+
+	@Column(nullable = false)
+	private long congestionSum;
+
+	@Column(nullable = false)
+	private long congestionCount;
+
+	@Column(nullable = false)
+	private long previousCongestionSum;
+
+	@Column(nullable = false)
+	private long previousCongestionCount;
+
+	public Double recentCongestion(long nowMillis) {
+		return recentCongestion(congestionBucket, congestionSum, congestionCount,
+			previousCongestionSum, previousCongestionCount, nowMillis);
+	}
+
+	/**
+	 * 최근 1시간 혼잡도 평균 (1=LOW ~ 3=HIGH). 최근 리뷰가 없으면 null.
+	 */
+	public static Double recentCongestion(long bucket, long sum, long count, long previousSum, long previousCount,
+		long nowMillis) {
+		long nowBucket = nowMillis / HOUR_MILLIS;
+		double previousWeight = 1 - (double) (nowMillis % HOUR_MILLIS) / HOUR_MILLIS;
+		double weightedSum;
+		double weightedCount;
+		if (bucket == nowBucket) {
+			weightedSum = sum + previousSum * previousWeight;
+			weightedCount = count + previousCount * previousWeight;
+		} else if (bucket == nowBucket - 1) {
+			weightedSum = sum * previousWeight;
+			weightedCount = count * previousWeight;
+		} else {
+			return null;
+		}
+		return weightedCount <= 0 ? null : weightedSum / weightedCount;
+	}
+}
@@ -0,0 +1,56 @@
+package com.seatify.backend.domain.cafestats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.seatify.backend.domain.cafestats.entity.CafeStats;
+
+public interface CafeStatsRepository extends JpaRepository<CafeStats, Long> {
+
+	// 아래 갱신은 모두 INSERT ... ON DUPLICATE KEY UPDATE 한 문장이다.
+	// 행이 없으면 만들고, 있으면 그 행만 배타 잠금으로 고치므로 읽고 다시 쓰는 잠금 경쟁(교착)이 없다.
+
+	@Modifying
+	@Query(value = "INSERT INTO cafe_stats (cafe_id, review_count, comment_count, congestion_bucket, "
+		+ "congestion_sum, congestion_count, previous_congestion_sum, previous_congestion_count) "
+		+ "VALUES (:cafeId, 0, 1, 0, 0, 0, 0, 0) "
+		+ "ON DUPLICATE KEY UPDATE comment_count = comment_count + 1", nativeQuery = true)
+	void incrementCommentCount(@Param("cafeId") Long cafeId);
+
+	@Modifying
+	@Query(value = "INSERT INTO cafe_stats (cafe_id, review_count, comment_count, congestion_bucket, "
+		+ "congestion_sum, congestion_count, previous_congestion_sum, previous_congestion_count) "
+		+ "VALUES (:cafeId, 0, 0, 0, 0, 0, 0, 0) "
+		+ "ON DUPLICATE KEY UPDATE comment_count = GREATEST(comment_count - 1, 0)", nativeQuery = true)
+	void decrementCommentCount(@Param("cafeId") Long cafeId);
+
+	// 버킷이 바뀌었으면 현재 버킷을 직전 버킷으로 넘긴다 (한 시간 넘게 비었으면 비운다).
+	// MySQL은 대입을 왼쪽부터 적용하므로 congestion_bucket을 맨 마지막에 바꿔야 앞의 CASE가 이전 버킷을 본다
+	@Modifying
+	@Query(value = "INSERT INTO cafe_stats (cafe_id, review_count, comment_count, congestion_bucket, "
+		+ "congestion_sum, congestion_count, previous_congestion_sum, previous_congestion_count) "
+		+ "VALUES (:cafeId, 1, 0, :bucket, :score, 1, 0, 0) "
+		+ "ON DUPLICATE KEY UPDATE "
+		+ "review_count = review_count + 1, "
+		+ "previous_congestion_sum = CASE WHEN congestion_bucket = :bucket THEN previous_congestion_sum "
+		+ "WHEN congestion_bucket = :bucket - 1 THEN congestion_sum ELSE 0 END, "
+		+ "previous_congestion_count = CASE WHEN congestion_bucket = :bucket THEN previous_congestion_count "
+		+ "WHEN congestion_bucket = :bucket - 1 THEN congestion_count ELSE 0 END, "
+		+ "congestion_sum = CASE WHEN congestion_bucket = :bucket THEN congestion_sum + :score ELSE :score END, "
+		+ "congestion_count = CASE WHEN congestion_bucket = :bucket THEN congestion_count + 1 ELSE 1 END, "
+		+ "congestion_bucket = :bucket", nativeQuery = true)
+	void addReview(@Param("cafeId") Long cafeId, @Param("bucket") long bucket, @Param("score") int score);
+
+	// 집계 행이 없는 카페만 현재 리뷰/댓글 수로 채운다 (기존 행은 건드리지 않음)
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO cafe_stats (cafe_id, review_count, comment_count, congestion_bucket, "
+		+ "congestion_sum, congestion_count, previous_congestion_sum, previous_congestion_count) "
+		+ "SELECT c.cafe_id, "
+		+ "(SELECT COUNT(*) FROM review r WHERE r.cafe_id = c.cafe_id), "
+		+ "(SELECT COUNT(*) FROM comment co WHERE co.cafe_id = c.cafe_id), "
+		+ "0, 0, 0, 0, 0 "
+		+ "FROM cafe c LEFT JOIN cafe_stats s ON s.cafe_id = c.cafe_id WHERE s.cafe_id IS NULL", nativeQuery = true)
+	int backfillMissing();
+}
@@ -0,0 +1,51 @@
+package com.seatify.backend.domain.cafestats.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.seatify.backend.domain.cafestats.entity.CafeStats;
+import com.seatify.backend.domain.cafestats.repository.CafeStatsRepository;
+import com.seatify.backend.domain.review.constant.CafeCongestion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰/댓글 작성·삭제와 같은 트랜잭션에서 카페 집계를 갱신한다.
+ * 행을 읽지 않고 원자적인 upsert 한 문장으로 고치므로 같은 카페에 동시에 써도 카운트가 빠지지 않고 교착도 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CafeStatsService {
+
+	private final CafeStatsRepository cafeStatsRepository;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfill() {
+		int inserted = cafeStatsRepository.backfillMissing();
+		if (inserted > 0) {
+			log.info("카페 집계 행 {}건 생성", inserted);
+		}
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void reviewAdded(final Long cafeId, final CafeCongestion cafeCongestion) {
+		cafeStatsRepository.addReview(cafeId, System.currentTimeMillis() / CafeStats.HOUR_MILLIS,
+			Integer.parseInt(cafeCongestion.getCafeCongestion()));
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void commentAdded(final Long cafeId) {
+		cafeStatsRepository.incrementCommentCount(cafeId);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void commentRemoved(final Long cafeId) {
+		cafeStatsRepository.decrementCommentCount(cafeId);
+	}
+}
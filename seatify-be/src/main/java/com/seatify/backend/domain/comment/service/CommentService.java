@@ -8,11 +8,14 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.seatify.backend.api.comment.dto.CommentInfoDTO;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.seatify.backend.domain.cafe.entity.Cafe;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
 import com.seatify.backend.domain.cafe.service.CafeService;
+import com.seatify.backend.domain.cafestats.service.CafeStatsService;
 import com.seatify.backend.domain.comment.constant.Keyword;
 import com.seatify.backend.domain.comment.entity.Comment;
 import com.seatify.backend.domain.comment.repository.CommentRepository;
@@ -36,10 +39,15 @@ public class CommentService {
 	private final CommentKeywordRepository commentKeywordRepository;
 	private final MemberService memberService;
 	private final CafeService cafeService;
+	private final CafeStatsService cafeStatsService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public Long addComment(final CommentRequest commentRequestDTO, final Long cafeId, final Long memberId) {
 		Comment comment = createCafeComment(commentRequestDTO, cafeId, memberId);
-		return commentRepository.save(comment).getCommentId();
+		Long commentId = commentRepository.save(comment).getCommentId();
+		cafeStatsService.commentAdded(cafeId);
+		eventPublisher.publishEvent(new CafeContentChangedEvent(cafeId));
+		return commentId;
 	}
 
 	private Comment createCafeComment(final CommentRequest commentRequestDTO, final Long cafeId, final Long memberId) {
@@ -75,6 +83,8 @@ public class CommentService {
 	public void deleteComment(final Long cafeId, final Long commentId) {
 		validateCafeComment(cafeId, commentId);
 		commentRepository.deleteById(commentId);
+		cafeStatsService.commentRemoved(cafeId);
+		eventPublisher.publishEvent(new CafeContentChangedEvent(cafeId));
 	}
 
 	public void validateCafeComment(final Long cafeId, final Long commentId) {
@@ -102,6 +112,7 @@ public class CommentService {
 
 		comment.updateContent(commentRequestDTO.getContent());
 		comment.updateRating(commentRequestDTO.getRating()); // rating 업데이트
+		eventPublisher.publishEvent(new CafeContentChangedEvent(cafeId));
 	}
 
 	private void updateCommentKeyword(final CommentRequest commentRequestDTO, final Comment comment) {
@@ -0,0 +1,205 @@
+package com.seatify.backend.domain.congestion.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 좌석 프레임으로 카페 × 요일 × 시간대별 점유율 통계를 누적한다.
+ * 최신 점유율은 {@link OccupancySampler}가 들고 있고, 여기서는 일정 간격으로 표본을 한 번씩 접어 넣는다.
+ * 프레임이 잦은 시간대에 표본이 몰리지 않도록 시간 가중으로 모으기 위함이다.
+ * 평균과 분산은 Welford 방식으로 표본 하나당 상수 시간에 갱신하고, 주기적으로 파일에 체크포인트한다.
+ */
+@Slf4j
+@Component
+public class CongestionAggregator {
+
+    private static final int MAGIC = 0x43474147;  // "CGAG"
+    private static final int SLOTS = CongestionModel.DAYS * CongestionModel.HOURS;
+
+    private final Map<Long, CafeStats> stats = new ConcurrentHashMap<>();
+
+    private final OccupancySampler occupancySampler;
+    private final boolean enabled;
+    private final Path checkpointFile;
+    private final ZoneId zone;
+
+    public CongestionAggregator(OccupancySampler occupancySampler,
+                                @Value("${congestion.online.enabled:true}") boolean enabled,
+                                @Value("${congestion.online.checkpoint-path:./data/congestion-online.bin}") String checkpointPath,
+                                @Value("${congestion.online.zone:Asia/Seoul}") String zone) {
+        this.occupancySampler = occupancySampler;
+        this.enabled = enabled;
+        this.checkpointFile = Path.of(checkpointPath).toAbsolutePath();
+        this.zone = ZoneId.of(zone);
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (!enabled || !Files.exists(checkpointFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointFile)))) {
+            if (in.readInt() != MAGIC) {
+                log.warn("혼잡도 체크포인트 형식이 아닙니다: {}", checkpointFile);
+                return;
+            }
+            int cafeCount = in.readInt();
+            for (int i = 0; i < cafeCount; i++) {
+                long cafeId = in.readLong();
+                CafeStats cafeStats = new CafeStats();
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    cafeStats.counts[slot] = in.readLong();
+                    cafeStats.means[slot] = in.readDouble();
+                    cafeStats.m2[slot] = in.readDouble();
+                }
+                stats.put(cafeId, cafeStats);
+            }
+            log.info("혼잡도 통계 복원 - 카페 {}곳", cafeCount);
+        } catch (IOException e) {
+            log.error("혼잡도 체크포인트 읽기 실패: {}", checkpointFile, e);
+        }
+    }
+
+    // 최근에 프레임이 들어온 카페마다 현재 점유율을 표본 하나로 반영한다
+    @Scheduled(fixedRateString = "${congestion.online.sample-interval-ms:60000}")
+    public void sample() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        ZonedDateTime time = Instant.ofEpochMilli(now).atZone(zone);
+        int slot = (time.getDayOfWeek().getValue() - 1) * CongestionModel.HOURS + time.getHour();
+        occupancySampler.forEachRecent(now,
+                (cafeId, ratio) -> stats.computeIfAbsent(cafeId, id -> new CafeStats()).add(slot, ratio));
+    }
+
+    /**
+     * 최근 프레임 기준 현재 점유율(0~1). 프레임이 끊긴 지 오래되었거나 없으면 NaN.
+     */
+    public double latestRatio(long cafeId) {
+        return occupancySampler.latestRatio(cafeId);
+    }
+
+    public Set<Long> cafeIds() {
+        Set<Long> cafeIds = new HashSet<>(stats.keySet());
+        cafeIds.addAll(occupancySampler.cafeIds());
+        return cafeIds;
+    }
+
+    /**
+     * 누적된 표본 수. day는 월요일 0 ~ 일요일 6.
+     */
+    public long count(long cafeId, int day, int hour) {
+        CafeStats cafeStats = stats.get(cafeId);
+        return cafeStats == null ? 0L : cafeStats.count(slot(day, hour));
+    }
+
+    /**
+     * 평균 점유율(0~1). 표본이 없으면 NaN.
+     */
+    public double mean(long cafeId, int day, int hour) {
+        CafeStats cafeStats = stats.get(cafeId);
+        return cafeStats == null ? Double.NaN : cafeStats.mean(slot(day, hour));
+    }
+
+    /**
+     * 점유율의 표본 분산. 표본이 두 개 미만이면 NaN.
+     */
+    public double variance(long cafeId, int day, int hour) {
+        CafeStats cafeStats = stats.get(cafeId);
+        return cafeStats == null ? Double.NaN : cafeStats.variance(slot(day, hour));
+    }
+
+    @Scheduled(fixedDelayString = "${congestion.online.checkpoint-ms:300000}")
+    public void checkpoint() {
+        if (!enabled || stats.isEmpty()) {
+            return;
+        }
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(checkpointFile.getParent());
+            Map<Long, CafeStats> cafes = Map.copyOf(stats);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(cafes.size());
+                for (Map.Entry<Long, CafeStats> entry : cafes.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+            // 쓰는 도중 죽어도 이전 체크포인트는 남도록 다 쓴 뒤에 바꿔 끼운다
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("혼잡도 체크포인트 저장 실패: {}", checkpointFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    private static int slot(int day, int hour) {
+        if (day < 0 || day >= CongestionModel.DAYS || hour < 0 || hour >= CongestionModel.HOURS) {
+            throw new IllegalArgumentException("잘못된 요일/시간대: " + day + "/" + hour);
+        }
+        return day * CongestionModel.HOURS + hour;
+    }
+
+    /**
+     * 카페 하나의 요일 × 시간대별 표본 수, 평균, 편차 제곱합.
+     */
+    private static final class CafeStats {
+
+        private final long[] counts = new long[SLOTS];
+        private final double[] means = new double[SLOTS];
+        private final double[] m2 = new double[SLOTS];
+
+        private synchronized void add(int slot, double value) {
+            long count = ++counts[slot];
+            double delta = value - means[slot];
+            means[slot] += delta / count;
+            m2[slot] += delta * (value - means[slot]);
+        }
+
+        private synchronized long count(int slot) {
+            return counts[slot];
+        }
+
+        private synchronized double mean(int slot) {
+            return counts[slot] == 0 ? Double.NaN : means[slot];
+        }
+
+        private synchronized double variance(int slot) {
+            return counts[slot] < 2 ? Double.NaN : m2[slot] / (counts[slot] - 1);
+        }
+
+        private synchronized void writeTo(DataOutputStream out) throws IOException {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                out.writeLong(counts[slot]);
+                out.writeDouble(means[slot]);
+                out.writeDouble(m2[slot]);
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.seatify.backend.domain.congestion.service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 혼잡도 표본을 컬럼별 고정 폭 배열로 저장한 바이너리 파일. 읽을 때는 메모리 매핑으로 연다.
+ * <pre>
+ * 헤더   : magic(int) version(int) rowCount(int) cafeCount(int)
+ * 인덱스 : cafeCount × (cafeId long, 시작 행 int, 행 수 int)  - cafeId 오름차순
+ * 컬럼   : cafeId long[rows], day byte[rows], hour byte[rows], seatTotal int[rows], seatVacant int[rows]
+ * </pre>
+ * 행은 카페 ID 순으로 정렬되어 있어 인덱스로 카페 하나의 구간을 바로 찾을 수 있다.
+ */
+public final class CongestionColumnarFile {
+
+    private static final int MAGIC = 0x43474346;  // "CGCF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int INDEX_ENTRY_BYTES = 16;
+
+    private final ByteBuffer buffer;
+    private final int rowCount;
+    private final int cafeCount;
+    private final int cafeIdColumn;
+    private final int dayColumn;
+    private final int hourColumn;
+    private final int seatTotalColumn;
+    private final int seatVacantColumn;
+
+    private CongestionColumnarFile(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("혼잡도 컬럼 파일 형식이 아닙니다");
+        }
+        this.buffer = buffer;
+        this.rowCount = buffer.getInt(8);
+        this.cafeCount = buffer.getInt(12);
+        this.cafeIdColumn = HEADER_BYTES + cafeCount * INDEX_ENTRY_BYTES;
+        this.dayColumn = cafeIdColumn + rowCount * Long.BYTES;
+        this.hourColumn = dayColumn + rowCount;
+        this.seatTotalColumn = hourColumn + rowCount;
+        this.seatVacantColumn = seatTotalColumn + rowCount * Integer.BYTES;
+        if (rowCount < 0 || cafeCount < 0 || (long) seatVacantColumn + (long) rowCount * Integer.BYTES != buffer.capacity()) {
+            throw new IOException("혼잡도 컬럼 파일 크기가 헤더와 맞지 않습니다");
+        }
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑한다. 매핑은 채널을 닫은 뒤에도 유효하다.
+     */
+    public static CongestionColumnarFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CongestionColumnarFile(mapped);
+        }
+    }
+
+    /**
+     * CSV를 컬럼 파일로 변환한다. 임시 파일에 다 쓴 뒤 바꿔 끼우므로 읽는 쪽은 반쯤 쓴 파일을 보지 않는다.
+     */
+    public static void convert(Path csvFile, Path target) throws IOException {
+        Rows rows = new Rows();
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            CongestionModel.readCsv(reader, rows);
+        }
+        write(rows, target);
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public int cafeCount() {
+        return cafeCount;
+    }
+
+    /**
+     * 카페 하나의 행 구간 [시작 행, 시작 행 + 행 수). 없으면 null.
+     */
+    public int[] rowRange(long cafeId) {
+        int low = 0;
+        int high = cafeCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long found = buffer.getLong(HEADER_BYTES + mid * INDEX_ENTRY_BYTES);
+            if (found < cafeId) {
+                low = mid + 1;
+            } else if (found > cafeId) {
+                high = mid - 1;
+            } else {
+                int entry = HEADER_BYTES + mid * INDEX_ENTRY_BYTES;
+                int start = buffer.getInt(entry + Long.BYTES);
+                return new int[]{start, start + buffer.getInt(entry + Long.BYTES + Integer.BYTES)};
+            }
+        }
+        return null;
+    }
+
+    public long cafeId(int row) {
+        return buffer.getLong(cafeIdColumn + row * Long.BYTES);
+    }
+
+    public int day(int row) {
+        return buffer.get(dayColumn + row);
+    }
+
+    public int hour(int row) {
+        return buffer.get(hourColumn + row);
+    }
+
+    public int seatTotal(int row) {
+        return buffer.getInt(seatTotalColumn + row * Integer.BYTES);
+    }
+
+    public int seatVacant(int row) {
+        return buffer.getInt(seatVacantColumn + row * Integer.BYTES);
+    }
+
+    private static void write(Rows rows, Path target) throws IOException {
+        // 카페 ID 순으로 정렬 (같은 카페 안에서는 원래 순서 유지)
+        Integer[] order = new Integer[rows.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(rows.cafeIds[a], rows.cafeIds[b]));
+
+        int cafeCount = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i == 0 || rows.cafeIds[order[i]] != rows.cafeIds[order[i - 1]]) {
+                cafeCount++;
+            }
+        }
+
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows.size);
+            out.writeInt(cafeCount);
+
+            int start = 0;
+            for (int i = 1; i <= order.length; i++) {
+                if (i == order.length || rows.cafeIds[order[i]] != rows.cafeIds[order[start]]) {
+                    out.writeLong(rows.cafeIds[order[start]]);
+                    out.writeInt(start);
+                    out.writeInt(i - start);
+                    start = i;
+                }
+            }
+            for (int row : order) {
+                out.writeLong(rows.cafeIds[row]);
+            }
+            for (int row : order) {
+                out.writeByte(rows.days[row]);
+            }
+            for (int row : order) {
+                out.writeByte(rows.hours[row]);
+            }
+            for (int row : order) {
+                out.writeInt(rows.seatTotals[row]);
+            }
+            for (int row : order) {
+                out.writeInt(rows.seatVacants[row]);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 변환 중 CSV 행을 컬럼별 배열에 모아 둔다.
+     */
+    private static final class Rows implements CongestionModel.RowConsumer {
+
+        private long[] cafeIds = new long[1024];
+        private byte[] days = new byte[1024];
+        private byte[] hours = new byte[1024];
+        private int[] seatTotals = new int[1024];
+        private int[] seatVacants = new int[1024];
+        private int size;
+
+        @Override
+        public void accept(long cafeId, int day, int hour, int seatTotal, int seatVacant) {
+            if (size == cafeIds.length) {
+                int capacity = size * 2;
+                cafeIds = Arrays.copyOf(cafeIds, capacity);
+                days = Arrays.copyOf(days, capacity);
+                hours = Arrays.copyOf(hours, capacity);
+                seatTotals = Arrays.copyOf(seatTotals, capacity);
+                seatVacants = Arrays.copyOf(seatVacants, capacity);
+            }
+            cafeIds[size] = cafeId;
+            days[size] = (byte) day;
+            hours[size] = (byte) hour;
+            seatTotals[size] = seatTotal;
+            seatVacants[size] = seatVacant;
+            size++;
+        }
+    }
+}
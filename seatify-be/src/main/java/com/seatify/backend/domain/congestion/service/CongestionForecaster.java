@@ -0,0 +1,160 @@
+package com.seatify.backend.domain.congestion.service;
+
+import com.seatify.backend.api.congestion.dto.CongestionForecastDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카페별 다음 N시간 혼잡도 예측.
+ * 요일 × 시간대 계절 성분은 {@link CongestionService#expectedRatio}에서 가져오고,
+ * 최근 실측치와 계절 성분의 차이(잔차)를 지수 평활해서 가까운 시간일수록 크게, 멀어질수록 감쇠시켜 더한다.
+ * 모델은 백그라운드에서 주기적으로 다시 맞추고, 요청 시에는 미리 만든 배열만 읽으므로 시간당 O(1)이다.
+ */
+@Slf4j
+@Component
+public class CongestionForecaster {
+
+    private static final int SLOTS = CongestionModel.DAYS * CongestionModel.HOURS;
+
+    private final Map<Long, CafeForecast> forecasts = new ConcurrentHashMap<>();
+
+    private final CongestionService congestionService;
+    private final CongestionAggregator congestionAggregator;
+    private final ZoneId zone;
+    private final double alpha;
+    private final double[] damping;  // 시간 h 뒤 잔차에 곱할 계수 (phi^h)
+    private final int maxHours;
+
+    public CongestionForecaster(CongestionService congestionService,
+                                CongestionAggregator congestionAggregator,
+                                @Value("${congestion.online.zone:Asia/Seoul}") String zone,
+                                @Value("${congestion.forecast.alpha:0.3}") double alpha,
+                                @Value("${congestion.forecast.damping:0.7}") double phi,
+                                @Value("${congestion.forecast.max-hours:24}") int maxHours) {
+        this.congestionService = congestionService;
+        this.congestionAggregator = congestionAggregator;
+        this.zone = ZoneId.of(zone);
+        this.alpha = alpha;
+        this.maxHours = maxHours;
+        this.damping = new double[maxHours];
+        for (int h = 0; h < maxHours; h++) {
+            damping[h] = Math.pow(phi, h);
+        }
+    }
+
+    /**
+     * 현재 시간대부터 hours시간 동안의 예측. 아직 모델이 없는 카페는 빈 목록.
+     */
+    public List<CongestionForecastDTO> forecast(Long cafeId, int hours) {
+        return forecast(cafeId, hours, ZonedDateTime.now(zone));
+    }
+
+    /**
+     * now가 속한 시간대부터 hours시간 동안의 예측. 일요일 23시 다음은 월요일 0시로 이어진다.
+     */
+    public List<CongestionForecastDTO> forecast(Long cafeId, int hours, ZonedDateTime now) {
+        CafeForecast forecast = forecasts.get(cafeId);
+        if (forecast == null) {
+            return Collections.emptyList();
+        }
+        int start = slotOf(now);
+        int count = Math.max(0, Math.min(hours, maxHours));
+
+        List<CongestionForecastDTO> result = new ArrayList<>(count);
+        for (int h = 0; h < count; h++) {
+            int slot = (start + h) % SLOTS;
+            float seasonal = forecast.seasonal[slot];
+            if (Float.isNaN(seasonal)) {
+                continue;
+            }
+            double ratio = Math.min(1.0, Math.max(0.0, seasonal + forecast.residual * damping[h]));
+            int percentage = (int) Math.round(ratio * 100);
+            result.add(CongestionForecastDTO.builder()
+                    .dayOfWeek(DayOfWeek.of(slot / CongestionModel.HOURS + 1).name())
+                    .hour(slot % CongestionModel.HOURS)
+                    .hoursAhead(h)
+                    .percentage(percentage)
+                    .status(CongestionService.getStatus(percentage))
+                    .build());
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialFit() {
+        refit();
+    }
+
+    // 계절 성분을 다시 모으고, 현재 실측치로 잔차를 한 단계 평활한다
+    @Scheduled(fixedDelayString = "${congestion.forecast.refit-ms:300000}")
+    public void refit() {
+        refit(ZonedDateTime.now(zone));
+    }
+
+    /**
+     * now가 속한 시간대의 실측치로 잔차를 갱신하는 {@link #refit()}.
+     */
+    public void refit(ZonedDateTime now) {
+        int currentSlot = slotOf(now);
+        Set<Long> cafeIds = congestionService.knownCafeIds();
+        int fitted = 0;
+        for (Long cafeId : cafeIds) {
+            float[] seasonal = new float[SLOTS];
+            boolean any = false;
+            for (int slot = 0; slot < SLOTS; slot++) {
+                double ratio = congestionService.expectedRatio(cafeId, slot / CongestionModel.HOURS, slot % CongestionModel.HOURS);
+                seasonal[slot] = (float) ratio;
+                any |= !Double.isNaN(ratio);
+            }
+            if (!any) {
+                forecasts.remove(cafeId);
+                continue;
+            }
+
+            CafeForecast previous = forecasts.get(cafeId);
+            double residual = previous == null ? 0.0 : previous.residual;
+            double observed = congestionAggregator.latestRatio(cafeId);
+            if (!Double.isNaN(observed) && !Float.isNaN(seasonal[currentSlot])) {
+                residual = alpha * (observed - seasonal[currentSlot]) + (1 - alpha) * residual;
+            } else {
+                residual *= 1 - alpha;  // 실측이 없으면 잔차를 서서히 잊는다
+            }
+            forecasts.put(cafeId, new CafeForecast(seasonal, residual));
+            fitted++;
+        }
+        forecasts.keySet().retainAll(cafeIds);
+        log.debug("혼잡도 예측 모델 갱신 - 카페 {}곳", fitted);
+    }
+
+    private static int slotOf(ZonedDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * CongestionModel.HOURS + time.getHour();
+    }
+
+    /**
+     * 카페 하나의 예측 상태 (불변). 계절 성분에 값이 없는 시간대는 NaN.
+     */
+    private static final class CafeForecast {
+
+        private final float[] seasonal;
+        private final double residual;
+
+        private CafeForecast(float[] seasonal, double residual) {
+            this.seasonal = seasonal;
+            this.residual = residual;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.seatify.backend.domain.congestion.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 카페 × 요일 × 시간대별 평균 점유율을 미리 계산해 둔 불변 모델.
+ * 값은 (카페 순번 * 7 + 요일) * 24 + 시간 위치의 기본형 배열에 들어 있어 조회 시 파일이나 컬렉션을 거치지 않는다.
+ */
+public final class CongestionModel {
+
+    public static final int DAYS = 7;
+    public static final int HOURS = 24;
+    private static final int SLOTS = DAYS * HOURS;
+
+    private static final CongestionModel EMPTY = new CongestionModel(new long[0], new float[0], new int[0]);
+
+    private final long[] cafeIds;  // 오름차순, 이진 탐색으로 카페 순번을 찾는다
+    private final float[] ratios;
+    private final int[] samples;
+
+    private CongestionModel(long[] cafeIds, float[] ratios, int[] samples) {
+        this.cafeIds = cafeIds;
+        this.ratios = ratios;
+        this.samples = samples;
+    }
+
+    public static CongestionModel empty() {
+        return EMPTY;
+    }
+
+    /**
+     * cafe_id,day_of_week,hour,seat_total,seat_vacant 형식의 CSV를 읽어 모델을 만든다. 형식이 맞지 않는 줄은 건너뛴다.
+     */
+    public static CongestionModel load(Path csvFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    public static CongestionModel parse(BufferedReader reader) throws IOException {
+        Accumulator accumulator = new Accumulator();
+        readCsv(reader, accumulator);
+        return accumulator.build();
+    }
+
+    /**
+     * 컬럼 파일에서 모델을 만든다. 텍스트 파싱 없이 고정 폭 컬럼을 순서대로 읽기만 한다.
+     */
+    public static CongestionModel from(CongestionColumnarFile file) {
+        Accumulator accumulator = new Accumulator();
+        for (int row = 0; row < file.rowCount(); row++) {
+            int day = file.day(row);
+            int hour = file.hour(row);
+            int seatTotal = file.seatTotal(row);
+            if (day >= 0 && day < DAYS && hour >= 0 && hour < HOURS && seatTotal > 0) {
+                accumulator.accept(file.cafeId(row), day, hour, seatTotal, file.seatVacant(row));
+            }
+        }
+        return accumulator.build();
+    }
+
+    /**
+     * CSV의 각 줄을 해석해서 넘겨준다. 형식이 맞지 않거나 값이 범위를 벗어난 줄은 건너뛴다.
+     */
+    public static void readCsv(BufferedReader reader, RowConsumer consumer) throws IOException {
+        String line = reader.readLine();  // 헤더
+        while ((line = reader.readLine()) != null) {
+            int c1 = line.indexOf(',');
+            int c2 = line.indexOf(',', c1 + 1);
+            int c3 = line.indexOf(',', c2 + 1);
+            int c4 = line.indexOf(',', c3 + 1);
+            if (c1 < 0 || c2 < 0 || c3 < 0 || c4 < 0) {
+                continue;
+            }
+            try {
+                long cafeId = Long.parseLong(line.substring(0, c1).trim());
+                int day = dayIndex(line.substring(c1 + 1, c2));
+                int hour = Integer.parseInt(line.substring(c2 + 1, c3).trim());
+                int seatTotal = Integer.parseInt(line.substring(c3 + 1, c4).trim());
+                int end = line.indexOf(',', c4 + 1);
+                int seatVacant = Integer.parseInt(line.substring(c4 + 1, end < 0 ? line.length() : end).trim());
+                if (day < 0 || hour < 0 || hour >= HOURS || seatTotal <= 0) {
+                    continue;
+                }
+                consumer.accept(cafeId, day, hour, seatTotal, seatVacant);
+            } catch (NumberFormatException e) {
+                // 깨진 줄은 무시
+            }
+        }
+    }
+
+    /**
+     * 요일 이름(Monday, MON 등 대소문자 무관)을 월요일 0 ~ 일요일 6으로 바꾼다. 알 수 없으면 -1.
+     */
+    public static int dayIndex(String day) {
+        if (day == null) {
+            return -1;
+        }
+        String name = day.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (name.length() >= 3 && dayOfWeek.name().startsWith(name)) {
+                return dayOfWeek.getValue() - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 평균 점유율(0~1). 표본이 없으면 NaN.
+     */
+    public double ratio(long cafeId, int day, int hour) {
+        int slot = slot(cafeId, day, hour);
+        return slot < 0 || samples[slot] == 0 ? Double.NaN : ratios[slot];
+    }
+
+    public int samples(long cafeId, int day, int hour) {
+        int slot = slot(cafeId, day, hour);
+        return slot < 0 ? 0 : samples[slot];
+    }
+
+    public boolean contains(long cafeId) {
+        return Arrays.binarySearch(cafeIds, cafeId) >= 0;
+    }
+
+    public long[] cafeIds() {
+        return cafeIds.clone();
+    }
+
+    public int cafeCount() {
+        return cafeIds.length;
+    }
+
+    private int slot(long cafeId, int day, int hour) {
+        int index = Arrays.binarySearch(cafeIds, cafeId);
+        if (index < 0 || day < 0 || day >= DAYS || hour < 0 || hour >= HOURS) {
+            return -1;
+        }
+        return index * SLOTS + day * HOURS + hour;
+    }
+
+    /**
+     * 표본 한 줄. day는 월요일 0 ~ 일요일 6.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(long cafeId, int day, int hour, int seatTotal, int seatVacant);
+    }
+
+    /**
+     * 표본을 카페 × 요일 × 시간대별로 합산하고, 끝나면 카페 ID 순의 조밀한 배열로 다시 배치한다.
+     */
+    private static final class Accumulator implements RowConsumer {
+
+        private final Map<Long, Integer> cafeIndex = new HashMap<>();
+        private double[] sums = new double[SLOTS * 16];
+        private int[] counts = new int[SLOTS * 16];
+
+        @Override
+        public void accept(long cafeId, int day, int hour, int seatTotal, int seatVacant) {
+            int index = cafeIndex.computeIfAbsent(cafeId, id -> cafeIndex.size());
+            int slot = index * SLOTS + day * HOURS + hour;
+            if (slot >= sums.length) {
+                sums = Arrays.copyOf(sums, Math.max(slot + 1, sums.length * 2));
+                counts = Arrays.copyOf(counts, sums.length);
+            }
+            sums[slot] += (double) (seatTotal - seatVacant) / seatTotal;
+            counts[slot]++;
+        }
+
+        private CongestionModel build() {
+            long[] cafeIds = cafeIndex.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            float[] ratios = new float[cafeIds.length * SLOTS];
+            int[] samples = new int[cafeIds.length * SLOTS];
+            for (int i = 0; i < cafeIds.length; i++) {
+                int from = cafeIndex.get(cafeIds[i]) * SLOTS;
+                for (int s = 0; s < SLOTS; s++) {
+                    int count = counts[from + s];
+                    samples[i * SLOTS + s] = count;
+                    ratios[i * SLOTS + s] = count == 0 ? 0f : (float) (sums[from + s] / count);
+                }
+            }
+            return new CongestionModel(cafeIds, ratios, samples);
+        }
+    }
+}
@@ -1,59 +1,89 @@
 package com.seatify.backend.domain.congestion.service;
 
+import com.seatify.backend.api.congestion.dto.CongestionBulkDTO;
 import com.seatify.backend.api.congestion.dto.HourlyCongestionDTO;
-import com.seatify.backend.api.seat.dto.SeatResponseDTO;
-import lombok.RequiredArgsConstructor;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.*;
+import javax.annotation.PostConstruct;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.time.format.TextStyle;
-import java.util.*;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+/**
+ * 시간대별 혼잡도 예측.
+ * CSV는 {@link CongestionModel}로 한 번만 읽어 두고, 파일이 바뀌면 새 모델을 만들어 참조를 통째로 바꿔 끼운다.
+ * congestion.columnar-path가 지정되면 CSV를 {@link CongestionColumnarFile}로 변환해 두고 그 파일을 메모리 매핑으로 읽는다.
+ * 실시간 프레임으로 모은 표본({@link CongestionAggregator})이 충분한 시간대는 그 평균을 우선한다.
+ * 현재 요일/시간대는 표본을 모을 때와 같은 congestion.online.zone 기준으로 잡는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CongestionService {
 
-    private final ResourceLoader resourceLoader;
-
-    @Value("${congestion.csv-path}")
-    private String csvPath; // 예: data/cafe_congestion.csv
-
-    private Path getCsvPath() {
-        return Path.of(csvPath).toAbsolutePath(); // 로그로 확인 가능
+    private final AtomicReference<CongestionModel> model = new AtomicReference<>(CongestionModel.empty());
+    private final CongestionAggregator congestionAggregator;
+    private final CafeRepository cafeRepository;
+    private final Path csvPath;
+    private final Path columnarPath;  // null이면 CSV를 직접 읽는다
+    private final long minOnlineSamples;
+    private final int maxBulkCafes;
+    private final ZoneId zone;
+    private volatile FileTime loadedModifiedTime;
+    private volatile long loadedSize = -1;
+
+    public CongestionService(CongestionAggregator congestionAggregator,
+                             CafeRepository cafeRepository,
+                             @Value("${congestion.csv-path}") String csvPath,
+                             @Value("${congestion.columnar-path:}") String columnarPath,
+                             @Value("${congestion.online.min-samples:30}") long minOnlineSamples,
+                             @Value("${congestion.bulk.max-cafes:500}") int maxBulkCafes,
+                             @Value("${congestion.online.zone:Asia/Seoul}") String zone) {
+        this.congestionAggregator = congestionAggregator;
+        this.cafeRepository = cafeRepository;
+        this.csvPath = Path.of(csvPath).toAbsolutePath(); // 예: data/cafe_congestion.csv
+        this.columnarPath = columnarPath.isBlank() ? null : Path.of(columnarPath).toAbsolutePath(); // 예: data/cafe_congestion.cgcf
+        this.minOnlineSamples = minOnlineSamples;
+        this.maxBulkCafes = maxBulkCafes;
+        this.zone = ZoneId.of(zone);
     }
 
-    public List<HourlyCongestionDTO> getPredictionsFromCsv(Long cafeId, String day) {
-        List<CSVRecord> records = loadCsvRecords();
-
-        List<CSVRecord> filtered = records.stream()
-                .filter(r -> r.getCafeId().equals(cafeId.toString()) && r.getDayOfWeek().equalsIgnoreCase(day))
-                .collect(Collectors.toList());
+    @PostConstruct
+    public void init() {
+        reloadIfChanged();
+    }
 
-        Map<Integer, List<CSVRecord>> grouped = filtered.stream()
-                .collect(Collectors.groupingBy(CSVRecord::getHour));
+    public List<HourlyCongestionDTO> getPredictions(Long cafeId, String day) {
+        CongestionModel current = model.get();
+        int dayIndex = CongestionModel.dayIndex(day);
+        if (dayIndex < 0) {
+            return Collections.emptyList();
+        }
 
-        int currentHour = LocalDateTime.now().getHour();
+        int currentHour = now().getHour();
         List<HourlyCongestionDTO> result = new ArrayList<>();
 
         for (int hour = 9; hour <= 23; hour++) {
-            List<CSVRecord> entries = grouped.get(hour);
-            if (entries == null || entries.isEmpty()) continue;
-
-            double avgRatio = entries.stream()
-                    .mapToDouble(e -> (double) (e.getSeatTotal() - e.getSeatVacant()) / e.getSeatTotal())
-                    .average()
-                    .orElse(0.0);
+            double ratio = ratio(current, cafeId, dayIndex, hour);
+            if (Double.isNaN(ratio)) continue;
 
-            int percentage = (int) Math.round(avgRatio * 100);
+            int percentage = (int) Math.round(ratio * 100);
             String status = getStatus(percentage);
 
             result.add(HourlyCongestionDTO.builder()
@@ -68,68 +98,146 @@ public class CongestionService {
         return result;
     }
 
-    private List<CSVRecord> loadCsvRecords() {
-        log.info("사용 중인 CSV 경로: {}", getCsvPath());
-
-        List<CSVRecord> records = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(csvPath))) {
-            String line;
-            boolean isFirstLine = true;
-
-            while ((line = reader.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
+    /**
+     * 여러 카페의 현재 시간대부터 hours시간 동안의 혼잡도. 카페 ID 목록이 없으면 지도 범위 안의 카페를 조회한다.
+     * 지도 범위 안의 카페가 최대 개수보다 많으면 카페 ID 순으로 앞쪽만 담고 truncated를 true로 돌려준다.
+     * 모델 하나를 잡고 카페 × 시간대를 한 번씩만 훑는다.
+     */
+    public CongestionBulkDTO getBulkPredictions(List<Long> cafeIds, Double minLat, Double minLng,
+                                                Double maxLat, Double maxLng, String day, int hours) {
+        return getBulkPredictions(cafeIds, minLat, minLng, maxLat, maxLng, day, hours, now());
+    }
 
-                String[] tokens = line.split(",");
-                if (tokens.length < 5) continue;
+    /**
+     * now 시각을 기준으로 한 {@link #getBulkPredictions(List, Double, Double, Double, Double, String, int)}.
+     */
+    public CongestionBulkDTO getBulkPredictions(List<Long> cafeIds, Double minLat, Double minLng,
+                                                Double maxLat, Double maxLng, String day, int hours, LocalDateTime now) {
+        List<Long> targets = resolveCafeIds(cafeIds, minLat, minLng, maxLat, maxLng);
+        boolean truncated = targets.size() > maxBulkCafes;
+        if (truncated) {
+            targets = targets.subList(0, maxBulkCafes);
+        }
+        int dayIndex = day == null || day.isBlank() ? now.getDayOfWeek().getValue() - 1 : CongestionModel.dayIndex(day);
+        if (dayIndex < 0) {
+            throw new BusinessException(ErrorCode.INVALID_CONGESTION_BULK_QUERY);
+        }
+        int count = Math.max(1, Math.min(hours, CongestionModel.HOURS));
+        int startHour = now.getHour();
+
+        CongestionModel current = model.get();
+        List<CongestionBulkDTO.CafeCongestion> cafes = new ArrayList<>(targets.size());
+        for (Long cafeId : targets) {
+            Integer[] percentages = new Integer[count];
+            for (int h = 0; h < count; h++) {
+                int hour = startHour + h;
+                double ratio = ratio(current, cafeId, (dayIndex + hour / CongestionModel.HOURS) % CongestionModel.DAYS,
+                        hour % CongestionModel.HOURS);
+                percentages[h] = Double.isNaN(ratio) ? null : (int) Math.round(ratio * 100);
+            }
+            cafes.add(new CongestionBulkDTO.CafeCongestion(cafeId, percentages,
+                    percentages[0] == null ? null : getStatus(percentages[0])));
+        }
+        return new CongestionBulkDTO(DayOfWeek.of(dayIndex + 1).name(), startHour, count, truncated, cafes);
+    }
 
-                records.add(new CSVRecord(
-                        tokens[0].trim(),
-                        tokens[1].trim(),
-                        Integer.parseInt(tokens[2].trim()),
-                        Integer.parseInt(tokens[3].trim()),
-                        Integer.parseInt(tokens[4].trim())
-                ));
+    private List<Long> resolveCafeIds(List<Long> cafeIds, Double minLat, Double minLng, Double maxLat, Double maxLng) {
+        if (cafeIds != null && !cafeIds.isEmpty()) {
+            List<Long> distinct = cafeIds.stream().distinct().collect(Collectors.toList());
+            if (distinct.size() > maxBulkCafes) {
+                throw new BusinessException(ErrorCode.TOO_MANY_CONGESTION_CAFES);
             }
-        } catch (Exception e) {
-            log.error("CSV 파일 읽기 실패", e);
+            return distinct;
         }
+        if (minLat == null || minLng == null || maxLat == null || maxLng == null) {
+            throw new BusinessException(ErrorCode.INVALID_CONGESTION_BULK_QUERY);
+        }
+        // 잘렸는지 알 수 있도록 하나 더 읽는다
+        return cafeRepository.findCafeIdsInBounds(Math.min(minLat, maxLat), Math.min(minLng, maxLng),
+                        Math.max(minLat, maxLat), Math.max(minLng, maxLng), maxBulkCafes + 1).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+    }
 
-        return records;
+    /**
+     * 해당 요일/시간대의 평균 점유율(0~1). 실시간 표본이 충분하면 그 평균을, 아니면 CSV 모델 값을 쓴다. 둘 다 없으면 NaN.
+     */
+    public double expectedRatio(long cafeId, int day, int hour) {
+        return ratio(model.get(), cafeId, day, hour);
     }
 
-    private String getStatus(int percentage) {
-        if (percentage > 70) return "BUSY";
-        else if (percentage > 30) return "AVERAGE";
-        else return "SPARE";
+    /**
+     * congestion.online.zone 기준의 현재 시각.
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.now(zone);
     }
 
-    private static class CSVRecord {
-        private final String cafeId;
-        private final String dayOfWeek;
-        private final int hour;
-        private final int seatTotal;
-        private final int seatVacant;
-
-        public CSVRecord(String cafeId, String dayOfWeek, int hour, int seatTotal, int seatVacant) {
-            this.cafeId = cafeId;
-            this.dayOfWeek = dayOfWeek;
-            this.hour = hour;
-            this.seatTotal = seatTotal;
-            this.seatVacant = seatVacant;
+    /**
+     * CSV 모델이나 실시간 통계에 데이터가 있는 카페 ID.
+     */
+    public Set<Long> knownCafeIds() {
+        Set<Long> cafeIds = new HashSet<>();
+        for (long cafeId : model.get().cafeIds()) {
+            cafeIds.add(cafeId);
         }
+        cafeIds.addAll(congestionAggregator.cafeIds());
+        return cafeIds;
+    }
 
-        public String getCafeId() { return cafeId; }
+    private double ratio(CongestionModel current, long cafeId, int day, int hour) {
+        if (congestionAggregator.count(cafeId, day, hour) >= minOnlineSamples) {
+            return congestionAggregator.mean(cafeId, day, hour);
+        }
+        return current.ratio(cafeId, day, hour);
+    }
 
-        public String getDayOfWeek() { return dayOfWeek; }
+    // 파일의 수정 시각이나 크기가 바뀌었을 때만 다시 읽는다. 읽기에 실패하면 기존 모델을 유지한다
+    @Scheduled(fixedDelayString = "${congestion.reload-check-ms:30000}")
+    public synchronized void reloadIfChanged() {
+        Path source = columnarPath == null ? csvPath : columnarPath;
+        try {
+            if (columnarPath != null) {
+                convertIfStale();
+            }
+            if (!Files.exists(source)) {
+                log.warn("혼잡도 데이터 파일이 없습니다: {}", source);
+                return;
+            }
+            FileTime modifiedTime = Files.getLastModifiedTime(source);
+            long size = Files.size(source);
+            if (modifiedTime.equals(loadedModifiedTime) && size == loadedSize) {
+                return;
+            }
 
-        public int getHour() { return hour; }
+            CongestionModel loaded = columnarPath == null
+                    ? CongestionModel.load(csvPath)
+                    : CongestionModel.from(CongestionColumnarFile.open(columnarPath));
+            model.set(loaded);
+            loadedModifiedTime = modifiedTime;
+            loadedSize = size;
+            log.info("혼잡도 모델 로드 - 경로: {}, 카페 {}곳", source, loaded.cafeCount());
+        } catch (IOException e) {
+            log.error("혼잡도 데이터 파일 읽기 실패: {}", source, e);
+        }
+    }
 
-        public int getSeatTotal() { return seatTotal; }
+    // CSV가 컬럼 파일보다 새로우면 다시 변환한다
+    private void convertIfStale() throws IOException {
+        if (!Files.exists(csvPath)) {
+            return;
+        }
+        if (Files.exists(columnarPath)
+                && Files.getLastModifiedTime(columnarPath).compareTo(Files.getLastModifiedTime(csvPath)) >= 0) {
+            return;
+        }
+        CongestionColumnarFile.convert(csvPath, columnarPath);
+        log.info("혼잡도 CSV를 컬럼 파일로 변환 - {} -> {}", csvPath, columnarPath);
+    }
 
-        public int getSeatVacant() { return seatVacant; }
+    public static String getStatus(int percentage) {
+        if (percentage > 70) return "BUSY";
+        else if (percentage > 30) return "AVERAGE";
+        else return "SPARE";
     }
 }
@@ -0,0 +1,310 @@
+package com.seatify.backend.domain.congestion.service;
+
+import com.seatify.backend.api.congestion.dto.OccupancyRollupDTO;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 카페별 점유율을 분 / 시간 / 일 단위로 묶어 두는 롤업 저장소.
+ * {@link OccupancySampler}의 최신 점유율로 일정 간격마다 표본을 만들고, 표본 하나를 세 단위 버킷에 동시에 더한다.
+ * 단위마다 보관 기간이 있어 오래된 세밀한 버킷부터 지워지고, 조회는 요청한 간격을 만족하는 가장 굵은 단위에서 답한다.
+ */
+@Slf4j
+@Component
+public class OccupancyRollupStore {
+
+    private static final int MAGIC = 0x43475255;  // "CGRU"
+
+    /**
+     * 롤업 단위. 굵은 단위일수록 뒤에 온다.
+     */
+    public enum Resolution {
+        MINUTE(Duration.ofMinutes(1)),
+        HOUR(Duration.ofHours(1)),
+        DAY(Duration.ofDays(1));
+
+        private final long millis;
+
+        Resolution(Duration duration) {
+            this.millis = duration.toMillis();
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+    }
+
+    private final Map<Long, CafeRollups> rollups = new ConcurrentHashMap<>();
+
+    private final OccupancySampler occupancySampler;
+    private final boolean enabled;
+    private final Path checkpointFile;
+    private final ZoneId zone;
+    private final long[] retentionMillis = new long[Resolution.values().length];
+
+    public OccupancyRollupStore(OccupancySampler occupancySampler,
+                                @Value("${congestion.rollup.enabled:true}") boolean enabled,
+                                @Value("${congestion.rollup.checkpoint-path:./data/occupancy-rollup.bin}") String checkpointPath,
+                                @Value("${congestion.online.zone:Asia/Seoul}") String zone,
+                                @Value("${congestion.rollup.minute-retention-hours:48}") long minuteRetentionHours,
+                                @Value("${congestion.rollup.hour-retention-days:60}") long hourRetentionDays,
+                                @Value("${congestion.rollup.day-retention-days:730}") long dayRetentionDays) {
+        this.occupancySampler = occupancySampler;
+        this.enabled = enabled;
+        this.checkpointFile = Path.of(checkpointPath).toAbsolutePath();
+        this.zone = ZoneId.of(zone);
+        this.retentionMillis[Resolution.MINUTE.ordinal()] = Duration.ofHours(minuteRetentionHours).toMillis();
+        this.retentionMillis[Resolution.HOUR.ordinal()] = Duration.ofDays(hourRetentionDays).toMillis();
+        this.retentionMillis[Resolution.DAY.ordinal()] = Duration.ofDays(dayRetentionDays).toMillis();
+    }
+
+    // 최근에 프레임이 들어온 카페마다 표본 하나를 분 / 시간 / 일 버킷에 더한다
+    @Scheduled(fixedRateString = "${congestion.rollup.sample-interval-ms:10000}")
+    public void sample() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        occupancySampler.forEachRecent(now, (cafeId, ratio) -> record(cafeId, now, ratio));
+    }
+
+    /**
+     * time 시각의 표본 하나를 분 / 시간 / 일 버킷에 더한다.
+     */
+    public void record(Long cafeId, long time, double ratio) {
+        CafeRollups cafeRollups = rollups.computeIfAbsent(cafeId, id -> new CafeRollups());
+        for (Resolution resolution : Resolution.values()) {
+            cafeRollups.levels[resolution.ordinal()]
+                    .computeIfAbsent(bucketStart(resolution, time), start -> new Bucket())
+                    .add(ratio);
+        }
+    }
+
+    /**
+     * [from, to) 구간을 step 간격으로 묶은 점유율.
+     * step 이하이면서 step을 나누어떨어지게 하는 단위 중 가장 굵은 것을 고르고, 그 단위의 보관 기간이 from을 덮지 못하면 더 굵은 단위로 올라간다.
+     */
+    public OccupancyRollupDTO query(Long cafeId, LocalDateTime from, LocalDateTime to, Duration step) {
+        long fromMillis = from.atZone(zone).toInstant().toEpochMilli();
+        long toMillis = to.atZone(zone).toInstant().toEpochMilli();
+        long stepMillis = Math.max(step.toMillis(), Resolution.MINUTE.millis);
+        if (toMillis <= fromMillis) {
+            throw new BusinessException(ErrorCode.INVALID_OCCUPANCY_RANGE);
+        }
+
+        Resolution resolution = choose(fromMillis, stepMillis);
+        stepMillis = Math.max(stepMillis, resolution.millis);
+        List<OccupancyRollupDTO.Point> points = new ArrayList<>();
+        CafeRollups cafeRollups = rollups.get(cafeId);
+        if (cafeRollups != null) {
+            NavigableMap<Long, Bucket> buckets = cafeRollups.levels[resolution.ordinal()]
+                    .subMap(bucketStart(resolution, fromMillis), true, toMillis, false);
+            long origin = bucketStart(resolution, fromMillis);
+            long groupStart = Long.MIN_VALUE;
+            Bucket group = null;
+            for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+                long start = origin + Math.floorDiv(entry.getKey() - origin, stepMillis) * stepMillis;
+                if (group == null || start != groupStart) {
+                    if (group != null) {
+                        points.add(group.toPoint(toLocal(groupStart)));
+                    }
+                    groupStart = start;
+                    group = new Bucket();
+                }
+                group.merge(entry.getValue());
+            }
+            if (group != null) {
+                points.add(group.toPoint(toLocal(groupStart)));
+            }
+        }
+        return new OccupancyRollupDTO(cafeId, resolution.name(), stepMillis / 60_000, points);
+    }
+
+    private Resolution choose(long fromMillis, long stepMillis) {
+        long now = System.currentTimeMillis();
+        Resolution[] resolutions = Resolution.values();
+        Resolution chosen = Resolution.MINUTE;
+        for (Resolution resolution : resolutions) {
+            if (resolution.millis <= stepMillis && stepMillis % resolution.millis == 0) {
+                chosen = resolution;
+            }
+        }
+        while (chosen.ordinal() < resolutions.length - 1 && fromMillis < now - retentionMillis[chosen.ordinal()]) {
+            chosen = resolutions[chosen.ordinal() + 1];
+        }
+        return chosen;
+    }
+
+    private LocalDateTime toLocal(long time) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(time), zone);
+    }
+
+    // 일 단위는 설정된 시간대의 자정에 맞춘다
+    private long bucketStart(Resolution resolution, long time) {
+        if (resolution == Resolution.DAY) {
+            return Instant.ofEpochMilli(time).atZone(zone).toLocalDate().atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+        return Math.floorDiv(time, resolution.millis) * resolution.millis;
+    }
+
+    // 단위별 보관 기간이 지난 버킷을 지운다
+    @Scheduled(fixedDelayString = "${congestion.rollup.expire-check-ms:600000}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        rollups.values().forEach(cafeRollups -> {
+            for (Resolution resolution : Resolution.values()) {
+                cafeRollups.levels[resolution.ordinal()]
+                        .headMap(bucketStart(resolution, now - retentionMillis[resolution.ordinal()]))
+                        .clear();
+            }
+        });
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (!enabled || !Files.exists(checkpointFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointFile)))) {
+            if (in.readInt() != MAGIC) {
+                log.warn("점유율 롤업 체크포인트 형식이 아닙니다: {}", checkpointFile);
+                return;
+            }
+            int cafeCount = in.readInt();
+            for (int i = 0; i < cafeCount; i++) {
+                CafeRollups cafeRollups = new CafeRollups();
+                long cafeId = in.readLong();
+                for (NavigableMap<Long, Bucket> level : cafeRollups.levels) {
+                    int bucketCount = in.readInt();
+                    for (int b = 0; b < bucketCount; b++) {
+                        level.put(in.readLong(), Bucket.readFrom(in));
+                    }
+                }
+                rollups.put(cafeId, cafeRollups);
+            }
+            expire();
+            log.info("점유율 롤업 복원 - 카페 {}곳", cafeCount);
+        } catch (IOException e) {
+            log.error("점유율 롤업 체크포인트 읽기 실패: {}", checkpointFile, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${congestion.rollup.checkpoint-ms:300000}")
+    public void checkpoint() {
+        if (!enabled || rollups.isEmpty()) {
+            return;
+        }
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(checkpointFile.getParent());
+            Map<Long, CafeRollups> cafes = Map.copyOf(rollups);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(cafes.size());
+                for (Map.Entry<Long, CafeRollups> entry : cafes.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    for (NavigableMap<Long, Bucket> level : entry.getValue().levels) {
+                        Map<Long, Bucket> buckets = Map.copyOf(level);
+                        out.writeInt(buckets.size());
+                        for (Map.Entry<Long, Bucket> bucket : buckets.entrySet()) {
+                            out.writeLong(bucket.getKey());
+                            bucket.getValue().writeTo(out);
+                        }
+                    }
+                }
+            }
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("점유율 롤업 체크포인트 저장 실패: {}", checkpointFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    private static final class CafeRollups {
+
+        @SuppressWarnings("unchecked")
+        private final NavigableMap<Long, Bucket>[] levels = new NavigableMap[Resolution.values().length];
+
+        private CafeRollups() {
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] = new ConcurrentSkipListMap<>();
+            }
+        }
+    }
+
+    /**
+     * 버킷 하나의 표본 수, 합, 최솟값, 최댓값.
+     */
+    private static final class Bucket {
+
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        private synchronized void add(double value) {
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        private synchronized void merge(Bucket other) {
+            synchronized (other) {
+                count += other.count;
+                sum += other.sum;
+                min = Math.min(min, other.min);
+                max = Math.max(max, other.max);
+            }
+        }
+
+        private synchronized OccupancyRollupDTO.Point toPoint(LocalDateTime start) {
+            return new OccupancyRollupDTO.Point(start, count == 0 ? 0 : sum / count, min, max, count);
+        }
+
+        private synchronized void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(count);
+            out.writeDouble(sum);
+            out.writeDouble(min);
+            out.writeDouble(max);
+        }
+
+        private static Bucket readFrom(DataInputStream in) throws IOException {
+            Bucket bucket = new Bucket();
+            bucket.count = in.readLong();
+            bucket.sum = in.readDouble();
+            bucket.min = in.readDouble();
+            bucket.max = in.readDouble();
+            return bucket;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.seatify.backend.domain.congestion.service;
+
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.seat.event.SeatFrameAppliedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 카페별 최신 점유율. 좌석 프레임 이벤트로 갱신하고, 통계(CongestionAggregator)와 롤업(OccupancyRollupStore)이
+ * 각자의 주기로 여기서 표본을 꺼내 간다.
+ */
+@Component
+public class OccupancySampler {
+
+    private final Map<Long, Latest> latest = new ConcurrentHashMap<>();
+
+    private final long staleMillis;
+
+    public OccupancySampler(@Value("${congestion.online.stale-ms:300000}") long staleMillis) {
+        this.staleMillis = staleMillis;
+    }
+
+    // 좌석판 잠금 안에서 호출되므로 최신 점유율만 바꿔 둔다
+    @EventListener
+    public void onSeatFrameApplied(SeatFrameAppliedEvent event) {
+        SeatOccupancyDTO occupancy = event.getOccupancy();
+        if (occupancy == null || occupancy.getTotal() <= 0) {
+            return;
+        }
+        double ratio = (double) (occupancy.getOccupied() + occupancy.getStepOut()) / occupancy.getTotal();
+        latest.put(event.getCafeId(), new Latest(ratio, event.getAppliedAt()));
+    }
+
+    /**
+     * now 기준으로 프레임이 끊긴 지 staleMillis가 지나지 않은 카페마다 (카페 ID, 점유율)을 넘긴다.
+     */
+    public void forEachRecent(long now, BiConsumer<Long, Double> consumer) {
+        latest.forEach((cafeId, value) -> {
+            if (now - value.updatedAt <= staleMillis) {
+                consumer.accept(cafeId, value.ratio);
+            }
+        });
+    }
+
+    /**
+     * 최근 프레임 기준 현재 점유율(0~1). 프레임이 끊긴 지 오래되었거나 없으면 NaN.
+     */
+    public double latestRatio(long cafeId) {
+        Latest value = latest.get(cafeId);
+        if (value == null || System.currentTimeMillis() - value.updatedAt > staleMillis) {
+            return Double.NaN;
+        }
+        return value.ratio;
+    }
+
+    public Set<Long> cafeIds() {
+        return latest.keySet();
+    }
+
+    private static final class Latest {
+
+        private final double ratio;
+        private final long updatedAt;
+
+        private Latest(double ratio, long updatedAt) {
+            this.ratio = ratio;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.seatify.backend.domain.review.service;
 import static com.seatify.backend.api.review.dto.ReviewDTO.*;
 
 import com.seatify.backend.domain.cafe.entity.Cafe;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.seatify.backend.domain.cafe.service.CafeService;
+import com.seatify.backend.domain.cafestats.service.CafeStatsService;
 import com.seatify.backend.domain.member.entity.Member;
 import com.seatify.backend.domain.member.service.MemberService;
 import com.seatify.backend.domain.review.constant.CafeCongestion;
@@ -27,6 +30,8 @@ public class ReviewService {
 	private final ReviewRepository reviewRepository;
 	private final MemberService memberService;
 	private final CafeService cafeService;
+	private final CafeStatsService cafeStatsService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public ReviewResponse createReview(final ReviewRequest reviewRequestDTO, final Long cafeId, final Long memberId) {
 		Member member = memberService.findMemberByMemberId(memberId);
@@ -43,6 +48,8 @@ public class ReviewService {
 
 		// 카페 정보 업데이트
 		cafeService.saveCafe(cafe);
+		cafeStatsService.reviewAdded(cafeId, review.getCafeCongestion());
+		eventPublisher.publishEvent(new CafeContentChangedEvent(cafeId));
 
 		return ReviewResponse.builder()
 				.reviewId(review.getReviewId())
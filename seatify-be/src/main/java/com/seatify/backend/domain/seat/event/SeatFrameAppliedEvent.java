@@ -0,0 +1,30 @@
+package com.seatify.backend.domain.seat.event;
+
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.seat.constant.SeatState;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 좌석 상태 프레임이 메모리 좌석판에 반영되어 실제로 바뀐 좌석이 있을 때 발행된다.
+ * 같은 카페에 대해서는 version 순서대로 발행된다.
+ */
+@Getter
+public class SeatFrameAppliedEvent {
+
+    private final Long cafeId;
+    private final long version;
+    private final Map<Integer, SeatState> changes;  // 좌석 번호 -> 새 상태
+    private final SeatOccupancyDTO occupancy;       // 반영 후 점유 현황
+    private final long appliedAt;                   // epoch millis
+
+    public SeatFrameAppliedEvent(Long cafeId, long version, Map<Integer, SeatState> changes,
+                                 SeatOccupancyDTO occupancy, long appliedAt) {
+        this.cafeId = cafeId;
+        this.version = version;
+        this.changes = changes;
+        this.occupancy = occupancy;
+        this.appliedAt = appliedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.seatify.backend.domain.seat.event;
+
+import lombok.Getter;
+
+/**
+ * 카페 좌석 배치의 새 버전이 게시되었을 때 발행된다.
+ */
+@Getter
+public class SeatLayoutChangedEvent {
+
+    private final Long cafeId;
+    private final long layoutVersion;
+
+    public SeatLayoutChangedEvent(Long cafeId, long layoutVersion) {
+        this.cafeId = cafeId;
+        this.layoutVersion = layoutVersion;
+    }
+}
@@ -0,0 +1,27 @@
+package com.seatify.backend.domain.seat.history;
+
+/**
+ * 좌석 이력 세그먼트 파일 형식.
+ *
+ * 세그먼트(.seg)는 레코드를 시간순으로 덧붙이기만 한다. 모든 레코드는 같은 모양이다.
+ *   byte type | int 자정 기준 ms | short 좌석 수 n | n × (short 좌석 번호, byte 상태 코드)
+ * KEYFRAME은 그 시각의 전체 좌석 상태, CHANGES는 그 시각에 상태가 바뀐 좌석만 담는다.
+ * 좌석마다 상태가 바뀌는 순간만 기록하므로, 각 좌석의 이력은 (시작 시각, 상태) 런으로 압축된다.
+ *
+ * 인덱스(.idx)는 KEYFRAME마다 (int 자정 기준 ms, long 세그먼트 내 위치)를 하나씩 남기는 희소 인덱스이다.
+ */
+final class SeatHistoryFormat {
+
+    static final byte KEYFRAME = 1;
+    static final byte CHANGES = 2;
+
+    static final int RECORD_HEADER_BYTES = 1 + 4 + 2;
+    static final int ENTRY_BYTES = 2 + 1;
+    static final int INDEX_ENTRY_BYTES = 4 + 8;
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+
+    private SeatHistoryFormat() {
+    }
+}
@@ -0,0 +1,192 @@
+package com.seatify.backend.domain.seat.history;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하루치 좌석 이력 세그먼트를 읽는다.
+ * 희소 인덱스로 찾으려는 시각 직전의 KEYFRAME 위치로 바로 이동한 뒤, 그 시각까지의 레코드만 읽는다.
+ * 쓰는 중인 파일을 읽어도 되며, 끝에 덜 쓰인 레코드는 무시한다.
+ */
+public class SeatHistorySegmentReader {
+
+    private final Path segmentFile;
+    private final int[] indexTimes;
+    private final long[] indexPositions;
+
+    public SeatHistorySegmentReader(Path segmentFile, Path indexFile) throws IOException {
+        this.segmentFile = segmentFile;
+        byte[] index = Files.exists(indexFile) ? Files.readAllBytes(indexFile) : new byte[0];
+        int count = index.length / SeatHistoryFormat.INDEX_ENTRY_BYTES;
+        this.indexTimes = new int[count];
+        this.indexPositions = new long[count];
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(index))) {
+            for (int i = 0; i < count; i++) {
+                indexTimes[i] = in.readInt();
+                indexPositions[i] = in.readLong();
+            }
+        }
+    }
+
+    public interface Listener {
+
+        /**
+         * @param timeMs 자정 기준 ms
+         * @param states 그 시각의 전체 좌석 상태 (읽기 전용으로 사용)
+         */
+        void onState(int timeMs, Map<Integer, SeatState> states);
+    }
+
+    /**
+     * timeMs 시각의 좌석 상태. 그 시각 이전 기록이 없으면 빈 맵.
+     */
+    public Map<Integer, SeatState> stateAt(int timeMs) throws IOException {
+        int slot = floorIndex(timeMs);
+        if (slot < 0) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, SeatState> states = new HashMap<>();
+        read(indexPositions[slot], (type, time, entries) -> {
+            if (time > timeMs) {
+                return false;
+            }
+            apply(states, type, entries);
+            return true;
+        });
+        return states;
+    }
+
+    /**
+     * fromMs 시각의 상태를 한 번 알린 뒤, (fromMs, toMs] 구간에서 상태가 바뀔 때마다 알린다.
+     *
+     * @param initial fromMs 이전 KEYFRAME이 없을 때 쓸 시작 상태 (보통 전날 마지막 상태)
+     */
+    public void replay(int fromMs, int toMs, Map<Integer, SeatState> initial, Listener listener) throws IOException {
+        int slot = floorIndex(fromMs);
+        Map<Integer, SeatState> states = new HashMap<>(slot < 0 ? initial : Collections.emptyMap());
+        boolean[] started = {false};
+        read(slot < 0 ? 0L : indexPositions[slot], (type, time, entries) -> {
+            if (time > toMs) {
+                return false;
+            }
+            if (time > fromMs && !started[0]) {
+                listener.onState(fromMs, states);
+                started[0] = true;
+            }
+            apply(states, type, entries);
+            if (started[0]) {
+                listener.onState(time, states);
+            }
+            return true;
+        });
+        if (!started[0]) {
+            listener.onState(fromMs, states);
+        }
+    }
+
+    /**
+     * 세그먼트 끝까지 온전한 레코드가 끝나는 위치. 비정상 종료로 끝이 잘린 파일을 이어 쓸 때 사용한다.
+     */
+    long validLength() throws IOException {
+        long[] end = {0L};
+        read(0L, (type, time, entries) -> {
+            end[0] += SeatHistoryFormat.RECORD_HEADER_BYTES + (long) entries.length / 2 * SeatHistoryFormat.ENTRY_BYTES;
+            return true;
+        });
+        return end[0];
+    }
+
+    /**
+     * segmentLength 안쪽을 가리키는 인덱스 항목까지의 길이 (byte).
+     */
+    long validIndexLength(long segmentLength) {
+        int count = 0;
+        while (count < indexPositions.length && indexPositions[count] < segmentLength) {
+            count++;
+        }
+        return (long) count * SeatHistoryFormat.INDEX_ENTRY_BYTES;
+    }
+
+    int lastTime() throws IOException {
+        int[] last = {0};
+        read(indexTimes.length == 0 ? 0L : indexPositions[indexTimes.length - 1], (type, time, entries) -> {
+            last[0] = time;
+            return true;
+        });
+        return last[0];
+    }
+
+    private int floorIndex(int timeMs) {
+        int found = Arrays.binarySearch(indexTimes, timeMs);
+        if (found >= 0) {
+            // 같은 시각의 KEYFRAME이 여러 개면 마지막 것
+            while (found + 1 < indexTimes.length && indexTimes[found + 1] == timeMs) {
+                found++;
+            }
+            return found;
+        }
+        return -found - 2;
+    }
+
+    private static void apply(Map<Integer, SeatState> states, byte type, int[] entries) {
+        if (type == SeatHistoryFormat.KEYFRAME) {
+            states.clear();
+        }
+        for (int i = 0; i < entries.length; i += 2) {
+            states.put(entries[i], SeatState.fromCode(entries[i + 1]));
+        }
+    }
+
+    private interface RecordVisitor {
+
+        // entries: [좌석 번호, 상태 코드, 좌석 번호, 상태 코드, ...]. false를 돌려주면 읽기를 멈춘다.
+        boolean visit(byte type, int timeMs, int[] entries);
+    }
+
+    private void read(long position, RecordVisitor visitor) throws IOException {
+        if (!Files.exists(segmentFile)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+            channel.position(position);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            while (true) {
+                byte type;
+                int time;
+                int[] entries;
+                try {
+                    type = in.readByte();
+                    time = in.readInt();
+                    int count = in.readUnsignedShort();
+                    entries = new int[count * 2];
+                    for (int i = 0; i < entries.length; i += 2) {
+                        entries[i] = in.readUnsignedShort();
+                        entries[i + 1] = in.readByte();
+                    }
+                } catch (EOFException e) {
+                    return;
+                }
+                if (type != SeatHistoryFormat.KEYFRAME && type != SeatHistoryFormat.CHANGES) {
+                    return;
+                }
+                if (!visitor.visit(type, time, entries)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.seatify.backend.domain.seat.history;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * 하루치 좌석 이력 세그먼트에 레코드를 덧붙인다. 한 스레드에서만 사용한다.
+ * 기존 파일을 이어 쓸 때는 비정상 종료로 잘린 마지막 레코드를 먼저 잘라낸다.
+ */
+public class SeatHistorySegmentWriter implements Closeable {
+
+    private final DataOutputStream segment;
+    private final DataOutputStream index;
+    private long position;
+    private int lastTime;
+
+    private SeatHistorySegmentWriter(Path segmentFile, Path indexFile, long position, int lastTime) throws IOException {
+        this.segment = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(segmentFile.toFile(), true)));
+        this.index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile.toFile(), true)));
+        this.position = position;
+        this.lastTime = lastTime;
+    }
+
+    public static SeatHistorySegmentWriter open(Path segmentFile, Path indexFile) throws IOException {
+        Files.createDirectories(segmentFile.getParent());
+        if (!Files.exists(segmentFile)) {
+            Files.deleteIfExists(indexFile);
+            return new SeatHistorySegmentWriter(segmentFile, indexFile, 0L, 0);
+        }
+
+        SeatHistorySegmentReader reader = new SeatHistorySegmentReader(segmentFile, indexFile);
+        long validLength = reader.validLength();
+        int lastTime = reader.lastTime();
+        truncate(segmentFile, validLength);
+        if (Files.exists(indexFile)) {
+            truncate(indexFile, reader.validIndexLength(validLength));
+        }
+        return new SeatHistorySegmentWriter(segmentFile, indexFile, validLength, lastTime);
+    }
+
+    /**
+     * 전체 좌석 상태를 기록하고 인덱스에 위치를 남긴다.
+     */
+    public void appendKeyframe(int timeMs, Map<Integer, SeatState> states) throws IOException {
+        int time = monotonic(timeMs);
+        index.writeInt(time);
+        index.writeLong(position);
+        append(SeatHistoryFormat.KEYFRAME, time, states);
+    }
+
+    public void appendChanges(int timeMs, Map<Integer, SeatState> changes) throws IOException {
+        if (!changes.isEmpty()) {
+            append(SeatHistoryFormat.CHANGES, monotonic(timeMs), changes);
+        }
+    }
+
+    public void flush() throws IOException {
+        segment.flush();
+        index.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            segment.close();
+            index.close();
+        }
+    }
+
+    private void append(byte type, int time, Map<Integer, SeatState> states) throws IOException {
+        segment.writeByte(type);
+        segment.writeInt(time);
+        segment.writeShort(states.size());
+        for (Map.Entry<Integer, SeatState> entry : states.entrySet()) {
+            segment.writeShort(entry.getKey());
+            segment.writeByte(entry.getValue().getCode());
+        }
+        position += SeatHistoryFormat.RECORD_HEADER_BYTES + (long) states.size() * SeatHistoryFormat.ENTRY_BYTES;
+    }
+
+    // 시계가 뒤로 가더라도 파일 안의 시각은 줄어들지 않게 한다 (인덱스 이진 탐색 전제)
+    private int monotonic(int timeMs) {
+        lastTime = Math.max(lastTime, timeMs);
+        return lastTime;
+    }
+
+    private static void truncate(Path file, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (channel.size() > length) {
+                channel.truncate(length);
+            }
+        }
+    }
+}
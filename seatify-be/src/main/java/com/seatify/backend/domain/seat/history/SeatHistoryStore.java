@@ -0,0 +1,335 @@
+package com.seatify.backend.domain.seat.history;
+
+import com.seatify.backend.api.seat.dto.OccupancyPointDTO;
+import com.seatify.backend.api.seat.dto.SeatMapSnapshotDTO;
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.event.SeatFrameAppliedEvent;
+import com.seatify.backend.domain.seat.repository.SeatStatusBulkRepository;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 상태 변화 이력 저장소.
+ * 카페별로 하루에 세그먼트 하나씩({dir}/{cafeId}/{yyyy-MM-dd}.seg / .idx) 바뀐 좌석만 덧붙여 기록하고,
+ * "T 시각의 좌석 배치"와 "T1~T2 점유 추이"를 희소 인덱스로 필요한 구간만 읽어 답한다.
+ * 기록은 전용 스레드 하나가 맡으므로 좌석 상태 수신 경로는 큐에 넣는 비용만 든다.
+ */
+@Slf4j
+@Component
+public class SeatHistoryStore {
+
+    private static final int DAY_MILLIS = (int) Duration.ofDays(1).toMillis();
+
+    private final LiveSeatStateStore liveSeatStateStore;
+    private final boolean enabled;
+    private final Path directory;
+    private final ZoneId zone;
+    private final long keyframeIntervalMillis;
+    private final int retentionDays;
+    private final int maxTimelineDays;
+
+    private final BlockingQueue<SeatFrameAppliedEvent> queue;
+    private final Map<Long, CafeHistory> histories = new HashMap<>();  // writer 스레드 전용
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public SeatHistoryStore(LiveSeatStateStore liveSeatStateStore,
+                            @Value("${seat.history.enabled:true}") boolean enabled,
+                            @Value("${seat.history.dir:./data/seat-history}") String directory,
+                            @Value("${seat.history.zone:Asia/Seoul}") String zone,
+                            @Value("${seat.history.keyframe-interval-ms:600000}") long keyframeIntervalMillis,
+                            @Value("${seat.history.retention-days:90}") int retentionDays,
+                            @Value("${seat.history.max-timeline-days:7}") int maxTimelineDays,
+                            @Value("${seat.history.queue-capacity:10000}") int queueCapacity) {
+        this.liveSeatStateStore = liveSeatStateStore;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.zone = ZoneId.of(zone);
+        this.keyframeIntervalMillis = keyframeIntervalMillis;
+        this.retentionDays = retentionDays;
+        this.maxTimelineDays = maxTimelineDays;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::writeLoop, "seat-history-writer");
+        this.writer.setDaemon(true);
+        if (enabled) {
+            this.writer.start();
+        }
+    }
+
+    @EventListener
+    public void onSeatFrameApplied(SeatFrameAppliedEvent event) {
+        if (enabled && !queue.offer(event)) {
+            long count = dropped.incrementAndGet();
+            if (count == 1 || count % 1000 == 0) {
+                log.warn("좌석 이력 기록 큐가 가득 차 이벤트를 버렸습니다 - 누적 {}건", count);
+            }
+        }
+    }
+
+    /**
+     * at 시각의 좌석 상태 (좌석 번호 -> 상태). 그날 기록이 없으면 최대 maxTimelineDays일 전까지 거슬러 올라간다.
+     */
+    public Map<Integer, SeatState> getSeatMapAt(Long cafeId, LocalDateTime at) {
+        LocalDate day = at.toLocalDate();
+        int timeMs = offsetOf(day, at);
+        for (int back = 0; back <= maxTimelineDays; back++) {
+            Map<Integer, SeatState> states = reader(cafeId, day.minusDays(back)).stateAt(back == 0 ? timeMs : DAY_MILLIS);
+            if (!states.isEmpty()) {
+                return states;
+            }
+        }
+        return Map.of();
+    }
+
+    /**
+     * from ~ to 구간의 점유 좌석 수 추이. 시작 시각의 값과, 이후 점유 수가 바뀐 시각마다 한 점씩 돌려준다.
+     */
+    public List<OccupancyPointDTO> getOccupancyTimeline(Long cafeId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_HISTORY_RANGE);
+        }
+        if (Duration.between(from, to).compareTo(Duration.ofDays(maxTimelineDays)) > 0) {
+            throw new BusinessException(ErrorCode.SEAT_HISTORY_RANGE_TOO_LONG);
+        }
+
+        List<OccupancyPointDTO> points = new ArrayList<>();
+        Map<Integer, SeatState> carried = getSeatMapAt(cafeId, from.toLocalDate().atStartOfDay().minusNanos(1));
+        for (LocalDate day = from.toLocalDate(); !day.isAfter(to.toLocalDate()); day = day.plusDays(1)) {
+            LocalDate current = day;
+            int fromMs = day.equals(from.toLocalDate()) ? offsetOf(day, from) : 0;
+            int toMs = day.equals(to.toLocalDate()) ? offsetOf(day, to) : DAY_MILLIS - 1;
+            Map<Integer, SeatState> last = new HashMap<>();
+            reader(cafeId, day).replay(fromMs, toMs, carried, (timeMs, states) -> {
+                addPoint(points, atOffset(current, timeMs), states);
+                last.clear();
+                last.putAll(states);
+            });
+            carried = last;
+        }
+        return points;
+    }
+
+    // 보관 기간이 지난 세그먼트 삭제
+    @Scheduled(cron = "${seat.history.cleanup-cron:0 30 4 * * *}")
+    public void deleteExpiredSegments() {
+        if (!enabled || !Files.isDirectory(directory)) {
+            return;
+        }
+        LocalDate oldest = LocalDate.now(zone).minusDays(retentionDays);
+        try (DirectoryStream<Path> cafes = Files.newDirectoryStream(directory)) {
+            for (Path cafeDir : cafes) {
+                if (Files.isDirectory(cafeDir)) {
+                    deleteExpiredSegments(cafeDir, oldest);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("좌석 이력 보관 기간 정리 실패", e);
+        }
+    }
+
+    // 카페 하나의 만료 세그먼트 삭제. 세그먼트가 아닌 파일이나 실패한 카페는 건너뛰고 다른 카페 정리는 계속한다
+    private void deleteExpiredSegments(Path cafeDir, LocalDate oldest) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cafeDir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String date = name.substring(0, Math.max(0, name.lastIndexOf('.')));
+                if (date.length() != 10) {
+                    continue;
+                }
+                try {
+                    if (LocalDate.parse(date).isBefore(oldest)) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (DateTimeParseException e) {
+                    log.warn("좌석 이력 정리 - 세그먼트가 아닌 파일은 건너뜀: {}", file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("좌석 이력 보관 기간 정리 실패 - {}", cafeDir, e);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void writeLoop() {
+        long lastFlush = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            SeatFrameAppliedEvent event;
+            try {
+                event = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                event = null;  // 종료 신호: 남은 이벤트를 마저 쓰고 나간다
+            }
+            if (event != null) {
+                write(event);
+            }
+            // 큐가 비었거나 1초가 지났으면 파일에 내려 써서 조회에 보이게 한다
+            if (queue.isEmpty() || System.nanoTime() - lastFlush > TimeUnit.SECONDS.toNanos(1)) {
+                flushAll();
+                lastFlush = System.nanoTime();
+            }
+        }
+        histories.values().forEach(CafeHistory::close);
+    }
+
+    private void write(SeatFrameAppliedEvent event) {
+        CafeHistory history = histories.computeIfAbsent(event.getCafeId(), this::seed);
+        if (event.getVersion() <= history.seededVersion) {
+            return;  // 이미 시작 상태에 포함된 변경
+        }
+        LocalDateTime appliedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getAppliedAt()), zone);
+        LocalDate day = appliedAt.toLocalDate();
+        int timeMs = offsetOf(day, appliedAt);
+        try {
+            if (!day.equals(history.day)) {
+                history.roll(day, segmentFile(event.getCafeId(), day), indexFile(event.getCafeId(), day));
+                history.keyframe(timeMs);
+            } else if (timeMs - history.lastKeyframeMs >= keyframeIntervalMillis) {
+                history.keyframe(timeMs);
+            }
+            history.writer.appendChanges(timeMs, event.getChanges());
+            history.dirty = true;
+        } catch (IOException e) {
+            log.error("좌석 이력 기록 실패 - cafeId: {}", event.getCafeId(), e);
+            history.close();
+        }
+        history.states.putAll(event.getChanges());
+    }
+
+    private CafeHistory seed(Long cafeId) {
+        CafeHistory history = new CafeHistory();
+        try {
+            SeatMapSnapshotDTO snapshot = liveSeatStateStore.getSeatMap(cafeId);
+            history.seededVersion = snapshot.getVersion();
+            snapshot.getSeats().forEach(seat -> history.states.put(seat.getSeatNumber(), SeatState.valueOf(seat.getState())));
+        } catch (RuntimeException e) {
+            log.warn("좌석 이력 시작 상태를 읽지 못했습니다 - cafeId: {}", cafeId, e);
+        }
+        return history;
+    }
+
+    private void flushAll() {
+        for (CafeHistory history : histories.values()) {
+            if (history.dirty && history.writer != null) {
+                try {
+                    history.writer.flush();
+                    history.dirty = false;
+                } catch (IOException e) {
+                    log.error("좌석 이력 flush 실패", e);
+                    history.close();
+                }
+            }
+        }
+    }
+
+    private SeatHistorySegmentReader reader(Long cafeId, LocalDate day) {
+        try {
+            return new SeatHistorySegmentReader(segmentFile(cafeId, day), indexFile(cafeId, day));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void addPoint(List<OccupancyPointDTO> points, LocalDateTime time, Map<Integer, SeatState> states) {
+        int occupied = (int) states.values().stream().filter(SeatStatusBulkRepository::isOccupied).count();
+        int total = states.size();
+        if (!points.isEmpty()) {
+            OccupancyPointDTO last = points.get(points.size() - 1);
+            if (last.getOccupied() == occupied && last.getTotal() == total) {
+                return;
+            }
+        }
+        points.add(new OccupancyPointDTO(time, occupied, total));
+    }
+
+    private int offsetOf(LocalDate day, LocalDateTime time) {
+        long millis = Duration.between(day.atStartOfDay(zone).toInstant(), time.atZone(zone).toInstant()).toMillis();
+        return (int) Math.max(0, Math.min(DAY_MILLIS - 1, millis));
+    }
+
+    private LocalDateTime atOffset(LocalDate day, int timeMs) {
+        return LocalDateTime.ofInstant(day.atStartOfDay(zone).toInstant().plusMillis(timeMs), zone);
+    }
+
+    private Path segmentFile(Long cafeId, LocalDate day) {
+        return directory.resolve(String.valueOf(cafeId)).resolve(day + SeatHistoryFormat.SEGMENT_SUFFIX);
+    }
+
+    private Path indexFile(Long cafeId, LocalDate day) {
+        return directory.resolve(String.valueOf(cafeId)).resolve(day + SeatHistoryFormat.INDEX_SUFFIX);
+    }
+
+    /**
+     * 카페 하나의 기록 상태. writer 스레드에서만 접근한다.
+     */
+    private static final class CafeHistory {
+
+        private final Map<Integer, SeatState> states = new HashMap<>();
+        private long seededVersion = Long.MIN_VALUE;
+        private LocalDate day;
+        private SeatHistorySegmentWriter writer;
+        private int lastKeyframeMs;
+        private boolean dirty;
+
+        private void roll(LocalDate newDay, Path segmentFile, Path indexFile) throws IOException {
+            close();
+            writer = SeatHistorySegmentWriter.open(segmentFile, indexFile);
+            day = newDay;
+        }
+
+        private void keyframe(int timeMs) throws IOException {
+            writer.appendKeyframe(timeMs, states);
+            lastKeyframeMs = timeMs;
+        }
+
+        private void close() {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    log.warn("좌석 이력 세그먼트 닫기 실패", e);
+                }
+            }
+            writer = null;
+            day = null;  // 다음 기록 때 다시 열고 KEYFRAME부터 쓴다
+        }
+    }
+}
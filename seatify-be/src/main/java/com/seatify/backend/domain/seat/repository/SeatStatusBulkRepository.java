@@ -0,0 +1,146 @@
+package com.seatify.backend.domain.seat.repository;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 상태를 프레임 단위로 한 번에 반영하는 JDBC 저장소.
+ * 좌석 수와 상관없이 조회 2회 + 상태별 UPDATE/다중 행 INSERT 몇 회로 끝난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatStatusBulkRepository {
+
+    // 한 문장에 묶을 최대 행 수 (max_allowed_packet 보호용)
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카페의 좌석 상태를 주어진 값으로 맞춘다. 값이 바뀐 행만 기록하고, seat 행이 없는 좌석 번호는 건너뛴다.
+     *
+     * @param cafeId 카페 ID
+     * @param states 좌석 번호 → 상태
+     * @return 실제로 변경(또는 새로 추가)된 좌석 상태 행 수
+     */
+    public int upsert(Long cafeId, Map<Integer, SeatState> states) {
+        if (states.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, Long> statusIds = new HashMap<>();
+        Map<Integer, SeatState> storedStates = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, seat_number, state FROM seat_status WHERE cafe_id = ?",
+                rs -> {
+                    int seatNumber = rs.getInt("seat_number");
+                    statusIds.put(seatNumber, rs.getLong("id"));
+                    String state = rs.getString("state");
+                    storedStates.put(seatNumber, state == null ? null : SeatState.valueOf(state));
+                },
+                cafeId);
+
+        Map<Integer, Long> seatIds = new HashMap<>();
+        Map<Integer, Boolean> storedOccupied = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT seat_id, seat_number, is_occupied FROM seat WHERE cafe_id = ?",
+                rs -> {
+                    int seatNumber = rs.getInt("seat_number");
+                    seatIds.put(seatNumber, rs.getLong("seat_id"));
+                    storedOccupied.put(seatNumber, rs.getBoolean("is_occupied"));
+                },
+                cafeId);
+
+        Map<SeatState, List<Long>> statusUpdates = new EnumMap<>(SeatState.class);
+        Map<Integer, SeatState> statusInserts = new HashMap<>();
+        List<Long> nowOccupied = new ArrayList<>();
+        List<Long> nowEmpty = new ArrayList<>();
+
+        for (Map.Entry<Integer, SeatState> entry : states.entrySet()) {
+            int seatNumber = entry.getKey();
+            SeatState state = entry.getValue();
+
+            // seat 행이 없는 번호(배치에 없거나 방금 지운 좌석)는 상태 행도 만들지 않는다
+            Long seatId = seatIds.get(seatNumber);
+            if (seatId == null) {
+                continue;
+            }
+
+            Long statusId = statusIds.get(seatNumber);
+            if (statusId == null) {
+                statusInserts.put(seatNumber, state);
+            } else if (storedStates.get(seatNumber) != state) {
+                statusUpdates.computeIfAbsent(state, s -> new ArrayList<>()).add(statusId);
+            }
+
+            boolean occupied = isOccupied(state);
+            if (storedOccupied.get(seatNumber) != occupied) {
+                (occupied ? nowOccupied : nowEmpty).add(seatId);
+            }
+        }
+
+        int changed = 0;
+        for (Map.Entry<SeatState, List<Long>> entry : statusUpdates.entrySet()) {
+            changed += updateIn("UPDATE seat_status SET state = ? WHERE id IN ", entry.getKey().name(), entry.getValue());
+        }
+        changed += insertStates(cafeId, statusInserts);
+        updateIn("UPDATE seat SET is_occupied = ? WHERE seat_id IN ", true, nowOccupied);
+        updateIn("UPDATE seat SET is_occupied = ? WHERE seat_id IN ", false, nowEmpty);
+        return changed;
+    }
+
+    public static boolean isOccupied(SeatState state) {
+        return state == SeatState.OCCUPIED ||
+                state == SeatState.STEP_OUT ||
+                state == SeatState.LONG_STEP_OUT;
+    }
+
+    private int updateIn(String sqlPrefix, Object value, List<Long> ids) {
+        int updated = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(value);
+            args.addAll(chunk);
+            updated += jdbcTemplate.update(sqlPrefix + placeholders(chunk.size(), "?"), args.toArray());
+        }
+        return updated;
+    }
+
+    private int insertStates(Long cafeId, Map<Integer, SeatState> inserts) {
+        List<Map.Entry<Integer, SeatState>> rows = new ArrayList<>(inserts.entrySet());
+        int inserted = 0;
+        for (List<Map.Entry<Integer, SeatState>> chunk : chunks(rows)) {
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<Integer, SeatState> row : chunk) {
+                args.add(cafeId);
+                args.add(row.getKey());
+                args.add(row.getValue().name());
+            }
+            String sql = "INSERT INTO seat_status (cafe_id, seat_number, state) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)"));
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+
+    private static String placeholders(int count, String placeholder) {
+        return "(" + String.join(", ", Collections.nCopies(count, placeholder)) + ")";
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(values.size(), from + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+}
@@ -2,7 +2,11 @@ package com.seatify.backend.domain.seat.repository;
 
 import com.seatify.backend.domain.seat.entity.SeatStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SeatStatusRepository extends JpaRepository<SeatStatus, Long> {
@@ -12,4 +16,9 @@ public interface SeatStatusRepository extends JpaRepository<SeatStatus, Long> {
 
     // 특정 카페 + 특정 좌석번호에 해당하는 좌석 상태 조회
     SeatStatus findByCafe_CafeIdAndSeatNumber(Long cafeId, int seatNumber);
-}
\ No newline at end of file
+
+    // 배치에서 사라진 좌석의 상태 행 삭제
+    @Modifying
+    @Query("delete from SeatStatus s where s.cafe.cafeId = :cafeId and s.seatNumber in :seatNumbers")
+    int deleteByCafeIdAndSeatNumbers(@Param("cafeId") Long cafeId, @Param("seatNumbers") Collection<Integer> seatNumbers);
+}
@@ -0,0 +1,214 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.seat.constant.SeatState;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 카페 하나의 실시간 좌석 상태판.
+ * 좌석 번호를 인덱스로 하는 상태 코드 배열과, 아직 DB에 반영되지 않은 변경분을 들고 있다.
+ * 배치에 있는 좌석의 상태별 개수도 전이마다 함께 갱신하므로 점유 현황은 O(1)로 읽는다.
+ * 좌석 배치는 {@link SeatLayoutRegistry}가 따로 관리한다.
+ */
+final class CafeSeatBoard {
+
+    static final int MAX_SEAT_NUMBER = 4096;
+    private static final byte UNKNOWN = -1;
+
+    private final Long cafeId;
+    private byte[] states;
+    private long[] changedAt;  // 좌석별로 마지막으로 바뀐 버전
+    private Map<Integer, SeatState> dirty = new HashMap<>();
+    private long lastSequence = Long.MIN_VALUE;
+    private long version;  // 좌석 상태가 바뀔 때마다 1씩 증가
+    private boolean[] tracked = new boolean[0];                    // 현재 배치에 있는 좌석 번호
+    private int trackedCount;
+    private final int[] counts = new int[SeatState.values().length];  // 배치에 있는 좌석의 상태 코드별 개수
+
+    CafeSeatBoard(Long cafeId, Map<Integer, SeatState> storedStates) {
+        this.cafeId = cafeId;
+        this.states = new byte[0];
+        this.changedAt = new long[0];
+        storedStates.forEach((seatNumber, state) -> {
+            if (isValidSeatNumber(seatNumber) && state != null) {
+                ensureCapacity(seatNumber);
+                states[seatNumber] = (byte) state.getCode();
+            }
+        });
+    }
+
+    Long getCafeId() {
+        return cafeId;
+    }
+
+    /**
+     * 프레임을 반영한다. 상태가 바뀐 좌석만 변경분으로 기록하고, 하나라도 바뀌었으면 버전을 올린다.
+     *
+     * @param sequence 프레임 순번(또는 촬영 시각). 마지막으로 반영한 순번 이하이면 프레임 전체를 버린다. null이면 검사하지 않는다.
+     */
+    synchronized SeatFrameResult apply(Map<Integer, SeatState> frame, Long sequence) {
+        if (sequence != null) {
+            if (sequence <= lastSequence) {
+                return SeatFrameResult.stale(frame.size());
+            }
+            lastSequence = sequence;
+        }
+
+        Map<Integer, SeatState> changes = new LinkedHashMap<>();
+        long nextVersion = version + 1;
+        int skipped = 0;
+        int rejected = 0;
+        for (Map.Entry<Integer, SeatState> entry : frame.entrySet()) {
+            int seatNumber = entry.getKey();
+            if (!isValidSeatNumber(seatNumber)) {
+                rejected++;
+                continue;
+            }
+            ensureCapacity(seatNumber);
+            byte code = (byte) entry.getValue().getCode();
+            if (states[seatNumber] == code) {
+                skipped++;
+                continue;
+            }
+            count(seatNumber, states[seatNumber], code);
+            states[seatNumber] = code;
+            changedAt[seatNumber] = nextVersion;
+            dirty.put(seatNumber, entry.getValue());
+            changes.put(seatNumber, entry.getValue());
+        }
+        if (!changes.isEmpty()) {
+            version = nextVersion;
+        }
+        return SeatFrameResult.of(skipped, rejected, version, changes);
+    }
+
+    /**
+     * 점유 현황을 셀 좌석(현재 배치의 좌석 번호)을 지정한다. 배치가 바뀔 때만 호출되며 개수를 다시 센다.
+     * 배치에서 빠진 좌석의 상태와 아직 반영하지 않은 변경분은 버린다. 그 좌석의 DB 행은 배치 반영 때 이미 지워졌다.
+     */
+    synchronized void track(Collection<Integer> seatNumbers) {
+        int max = seatNumbers.stream().mapToInt(Integer::intValue).filter(CafeSeatBoard::isValidSeatNumber).max().orElse(-1);
+        tracked = new boolean[max + 1];
+        trackedCount = 0;
+        Arrays.fill(counts, 0);
+        for (int seatNumber : seatNumbers) {
+            if (!isValidSeatNumber(seatNumber) || tracked[seatNumber]) {
+                continue;
+            }
+            tracked[seatNumber] = true;
+            trackedCount++;
+            if (seatNumber < states.length && states[seatNumber] != UNKNOWN) {
+                counts[states[seatNumber]]++;
+            }
+        }
+        for (int seatNumber = 0; seatNumber < states.length; seatNumber++) {
+            if (!isTracked(seatNumber)) {
+                states[seatNumber] = UNKNOWN;
+            }
+        }
+        dirty.keySet().removeIf(seatNumber -> !isTracked(seatNumber));
+    }
+
+    synchronized SeatOccupancyDTO occupancy() {
+        int occupied = counts[SeatState.OCCUPIED.getCode()];
+        int stepOut = counts[SeatState.STEP_OUT.getCode()] + counts[SeatState.LONG_STEP_OUT.getCode()];
+        return new SeatOccupancyDTO(occupied, stepOut, trackedCount - occupied - stepOut, trackedCount);
+    }
+
+    /**
+     * since 버전 이후에 바뀐 좌석과 현재 상태. since가 현재 버전보다 크면(재시작 전 버전) 알려진 좌석 전체를 돌려준다.
+     */
+    synchronized Map<Integer, SeatState> changesSince(long since) {
+        boolean all = since > version;
+        Map<Integer, SeatState> changes = new LinkedHashMap<>();
+        for (int seatNumber = 0; seatNumber < states.length; seatNumber++) {
+            if (states[seatNumber] != UNKNOWN && (all || changedAt[seatNumber] > since)) {
+                changes.put(seatNumber, SeatState.fromCode(states[seatNumber]));
+            }
+        }
+        return changes;
+    }
+
+    synchronized Snapshot snapshot() {
+        return new Snapshot(Arrays.copyOf(states, states.length), version);
+    }
+
+    synchronized long getVersion() {
+        return version;
+    }
+
+    synchronized boolean hasDirty() {
+        return !dirty.isEmpty();
+    }
+
+    synchronized Map<Integer, SeatState> drainDirty() {
+        Map<Integer, SeatState> drained = dirty;
+        dirty = new HashMap<>();
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 변경분을 되돌려 놓는다. 그 사이 들어온 더 새로운 값은 덮어쓰지 않는다.
+     */
+    synchronized void restoreDirty(Map<Integer, SeatState> failed) {
+        failed.forEach(dirty::putIfAbsent);
+    }
+
+    static boolean isValidSeatNumber(int seatNumber) {
+        return seatNumber >= 0 && seatNumber <= MAX_SEAT_NUMBER;
+    }
+
+    private boolean isTracked(int seatNumber) {
+        return seatNumber < tracked.length && tracked[seatNumber];
+    }
+
+    private void count(int seatNumber, byte oldCode, byte newCode) {
+        if (!isTracked(seatNumber)) {
+            return;
+        }
+        if (oldCode != UNKNOWN) {
+            counts[oldCode]--;
+        }
+        counts[newCode]++;
+    }
+
+    private void ensureCapacity(int seatNumber) {
+        if (seatNumber < states.length) {
+            return;
+        }
+        int oldLength = states.length;
+        states = Arrays.copyOf(states, Math.max(seatNumber + 1, oldLength * 2));
+        Arrays.fill(states, oldLength, states.length, UNKNOWN);
+        changedAt = Arrays.copyOf(changedAt, states.length);
+    }
+
+    /**
+     * 읽기용 복사본. 잠금 없이 자유롭게 사용할 수 있다.
+     */
+    static final class Snapshot {
+
+        private final byte[] states;
+        private final long version;
+
+        private Snapshot(byte[] states, long version) {
+            this.states = states;
+            this.version = version;
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        SeatState stateOf(int seatNumber) {
+            if (seatNumber < 0 || seatNumber >= states.length || states[seatNumber] == UNKNOWN) {
+                return SeatState.EMPTY;
+            }
+            return SeatState.fromCode(states[seatNumber]);
+        }
+    }
+}
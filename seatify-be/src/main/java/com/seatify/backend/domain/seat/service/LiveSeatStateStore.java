@@ -0,0 +1,249 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.seatify.backend.api.seat.dto.SeatDeltaDTO;
+import com.seatify.backend.api.seat.dto.SeatMapSnapshotDTO;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.api.seat.dto.SeatResponseDTO;
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.entity.Seat;
+import com.seatify.backend.domain.seat.entity.SeatStatus;
+import com.seatify.backend.domain.seat.event.SeatFrameAppliedEvent;
+import com.seatify.backend.domain.seat.repository.SeatRepository;
+import com.seatify.backend.domain.seat.repository.SeatStatusBulkRepository;
+import com.seatify.backend.domain.seat.repository.SeatStatusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 카페의 현재 좌석 상태를 메모리에 들고 있는 저장소.
+ * 좌석 조회와 상태 수신은 여기서 바로 처리하고, DB(SeatStatus / Seat)에는 주기적으로 변경분만 반영한다.
+ * 좌석 배치는 {@link SeatLayoutRegistry}의 불변 버전을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+public class LiveSeatStateStore {
+
+    private final Map<Long, CafeSeatBoard> boards = new ConcurrentHashMap<>();
+    // 좌석판 버전은 재시작하면 처음부터 다시 세므로, 버전 토큰에 기동 시각을 함께 담아 구분한다
+    private final long epoch = System.currentTimeMillis();
+
+    private final SeatLayoutRegistry seatLayoutRegistry;
+    private final SeatRepository seatRepository;
+    private final SeatStatusRepository seatStatusRepository;
+    private final SeatStatusBulkRepository seatStatusBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LiveSeatStateStore(SeatLayoutRegistry seatLayoutRegistry,
+                              SeatRepository seatRepository,
+                              SeatStatusRepository seatStatusRepository,
+                              SeatStatusBulkRepository seatStatusBulkRepository,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher) {
+        this.seatLayoutRegistry = seatLayoutRegistry;
+        this.seatRepository = seatRepository;
+        this.seatStatusRepository = seatStatusRepository;
+        this.seatStatusBulkRepository = seatStatusBulkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 기동 시 전체 카페 좌석을 두 번의 조회로 미리 올려 둔다
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Map<Long, List<SeatGeometry>> layouts = new HashMap<>();
+        for (Seat seat : seatRepository.findAll()) {
+            layouts.computeIfAbsent(seat.getCafe().getCafeId(), id -> new ArrayList<>()).add(SeatGeometry.from(seat));
+        }
+
+        Map<Long, Map<Integer, SeatState>> states = new HashMap<>();
+        for (SeatStatus status : seatStatusRepository.findAll()) {
+            states.computeIfAbsent(status.getCafe().getCafeId(), id -> new HashMap<>())
+                    .put(status.getSeatNumber(), status.getState());
+        }
+
+        layouts.forEach((cafeId, layout) -> {
+            seatLayoutRegistry.initialize(cafeId, layout);
+            CafeSeatBoard board = new CafeSeatBoard(cafeId, states.getOrDefault(cafeId, Map.of()));
+            board.track(seatNumbers(seatLayoutRegistry.current(cafeId)));
+            boards.putIfAbsent(cafeId, board);
+        });
+        log.info("실시간 좌석 상태 적재 완료: 카페 {}곳", boards.size());
+    }
+
+    /**
+     * 좌석 상태 프레임을 메모리에 반영한다. DB 반영은 {@link #flush()}에서 비동기로 이뤄진다.
+     * 바뀐 좌석이 있으면 {@link SeatFrameAppliedEvent}를 발행한다. 카페별 버전 순서를 지키기 위해 좌석판 잠금 안에서
+     * 발행하므로, 리스너는 무거운 작업을 직접 하지 말고 넘겨야 한다.
+     *
+     * @param sequence 프레임 순번. 이미 반영한 순번 이하이면 오래된 프레임으로 보고 버린다. (null 허용)
+     */
+    public SeatFrameResult apply(Long cafeId, Map<Integer, SeatState> states, Long sequence) {
+        CafeSeatBoard board = board(cafeId);
+        synchronized (board) {
+            SeatFrameResult result = board.apply(states, sequence);
+            if (result.getChanged() > 0) {
+                eventPublisher.publishEvent(new SeatFrameAppliedEvent(cafeId, result.getVersion(),
+                        result.getChangedStates(), board.occupancy(), System.currentTimeMillis()));
+            }
+            return result;
+        }
+    }
+
+    public List<SeatResponseDTO> getSeats(Long cafeId) {
+        CafeSeatBoard board = board(cafeId);
+        return toSeats(seatLayoutRegistry.current(cafeId), board.snapshot());
+    }
+
+    public SeatMapSnapshotDTO getSeatMap(Long cafeId) {
+        CafeSeatBoard board = board(cafeId);
+        SeatLayoutSnapshot layout = seatLayoutRegistry.current(cafeId);
+        CafeSeatBoard.Snapshot snapshot = board.snapshot();
+        return new SeatMapSnapshotDTO(snapshot.getVersion(), SeatVersionToken.format(epoch, snapshot.getVersion()),
+                layout.getVersion(), toSeats(layout, snapshot));
+    }
+
+    /**
+     * 이미 올라와 있는 카페의 점유 현황 (O(1)). 좌석 정보가 없는 카페는 DB를 읽지 않고 null을 돌려준다.
+     */
+    public SeatOccupancyDTO findOccupancy(Long cafeId) {
+        CafeSeatBoard board = boards.get(cafeId);
+        return board == null ? null : board.occupancy();
+    }
+
+    /**
+     * since 버전 이후 바뀐 좌석만 담은 변경분.
+     */
+    public SeatDeltaDTO getChangesSince(Long cafeId, long since) {
+        CafeSeatBoard board = board(cafeId);
+        synchronized (board) {
+            return SeatDeltaDTO.of(epoch, board.getVersion(), board.changesSince(since));
+        }
+    }
+
+    /**
+     * 알려진 좌석 전체의 현재 상태. 다른 기동 시점의 토큰처럼 버전을 비교할 수 없을 때 쓴다.
+     */
+    public SeatDeltaDTO getFullState(Long cafeId) {
+        CafeSeatBoard board = board(cafeId);
+        synchronized (board) {
+            // since가 현재 버전보다 크면 알려진 좌석 전체를 돌려준다
+            return SeatDeltaDTO.full(epoch, board.getVersion(), board.changesSince(Long.MAX_VALUE));
+        }
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getVersion(Long cafeId) {
+        return board(cafeId).getVersion();
+    }
+
+    /**
+     * 좌석 배치가 바뀐 뒤 호출한다. 트랜잭션 안이면 커밋 이후에 다시 읽어 새 배치 버전을 게시한다.
+     * 배치에 남은 좌석의 상태와 아직 반영되지 않은 변경분은 그대로 유지되고, 배치에서 빠진 좌석의 것은 버린다.
+     */
+    public void reloadLayout(Long cafeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishLayout(cafeId);
+                }
+            });
+        } else {
+            publishLayout(cafeId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seat.live.flush-interval-ms:1000}")
+    public void flush() {
+        for (CafeSeatBoard board : boards.values()) {
+            if (!board.hasDirty()) {
+                continue;
+            }
+            Map<Integer, SeatState> pending = board.drainDirty();
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> seatStatusBulkRepository.upsert(board.getCafeId(), pending));
+            } catch (RuntimeException e) {
+                board.restoreDirty(pending);
+                log.error("좌석 상태 DB 반영 실패 - cafeId: {}, 좌석 {}개는 다음 주기에 재시도", board.getCafeId(), pending.size(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // DB 조회가 맵 잠금을 잡지 않도록 맵 밖에서 읽고 넣는다. 동시에 읽었으면 먼저 들어간 쪽을 쓴다
+    private CafeSeatBoard board(Long cafeId) {
+        CafeSeatBoard board = boards.get(cafeId);
+        if (board != null) {
+            return board;
+        }
+        CafeSeatBoard loaded = load(cafeId);
+        CafeSeatBoard existing = boards.putIfAbsent(cafeId, loaded);
+        return existing == null ? loaded : existing;
+    }
+
+    private void publishLayout(Long cafeId) {
+        SeatLayoutSnapshot layout = seatLayoutRegistry.reload(cafeId);
+        CafeSeatBoard board = boards.get(cafeId);
+        if (board != null) {
+            board.track(seatNumbers(layout));
+        }
+    }
+
+    private CafeSeatBoard load(Long cafeId) {
+        // 존재하지 않는 카페면 여기서 예외
+        SeatLayoutSnapshot layout = seatLayoutRegistry.current(cafeId);
+        Map<Integer, SeatState> stored = seatStatusRepository.findByCafe_CafeId(cafeId).stream()
+                .filter(status -> status.getState() != null)
+                .collect(Collectors.toMap(SeatStatus::getSeatNumber, SeatStatus::getState, (existing, replacement) -> replacement));
+        CafeSeatBoard board = new CafeSeatBoard(cafeId, stored);
+        board.track(seatNumbers(layout));
+        return board;
+    }
+
+    private static List<Integer> seatNumbers(SeatLayoutSnapshot layout) {
+        return layout.getSeats().stream().map(SeatGeometry::getSeatNumber).collect(Collectors.toList());
+    }
+
+    private List<SeatResponseDTO> toSeats(SeatLayoutSnapshot layout, CafeSeatBoard.Snapshot snapshot) {
+        return layout.getSeats().stream()
+                .map(seat -> {
+                    SeatState state = snapshot.stateOf(seat.getSeatNumber());
+                    return new SeatResponseDTO(
+                            seat.getSeatId(),
+                            seat.getSeatNumber(),
+                            SeatStatusBulkRepository.isOccupied(state),
+                            seat.getX(),
+                            seat.getY(),
+                            seat.getWidth(),
+                            seat.getHeight(),
+                            state.name()
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,77 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 서버가 보낸 좌석 상태 프레임 한 건 (불변).
+ */
+@Getter
+public final class SeatFrame {
+
+    private final Map<Integer, SeatState> states;
+    private final Long sequence;
+    private final int invalid;      // 파싱 단계에서 버린 항목 수
+    private final long receivedAt;  // System.nanoTime() 기준 수신 시각
+
+    public SeatFrame(Map<Integer, SeatState> states, Long sequence, int invalid) {
+        this(states, sequence, invalid, System.nanoTime());
+    }
+
+    private SeatFrame(Map<Integer, SeatState> states, Long sequence, int invalid, long receivedAt) {
+        this.states = Collections.unmodifiableMap(states);
+        this.sequence = sequence;
+        this.invalid = invalid;
+        this.receivedAt = receivedAt;
+    }
+
+    /**
+     * [{"seatID": 1, "state": 0}, ...] 형식의 status_list를 프레임으로 변환한다.
+     * 같은 좌석이 여러 번 오면 마지막 값을 쓰고, 형식이 잘못된 항목은 invalid로 센다.
+     */
+    public static SeatFrame fromStatusList(List<Map<String, Object>> statusList, Long sequence) {
+        Map<Integer, SeatState> states = new LinkedHashMap<>();
+        int invalid = 0;
+        for (Map<String, Object> status : statusList) {
+            Object seatID = status.get("seatID");
+            Object stateCode = status.get("state");
+            if (!(seatID instanceof Number) || !(stateCode instanceof Number)) {
+                invalid++;
+                continue;
+            }
+            try {
+                states.put(((Number) seatID).intValue(), SeatState.fromCode(((Number) stateCode).intValue()));
+            } catch (IllegalArgumentException e) {
+                invalid++;
+            }
+        }
+        return new SeatFrame(states, sequence, invalid);
+    }
+
+    public int size() {
+        return states.size() + invalid;
+    }
+
+    /**
+     * 두 프레임 모두 순번이 있고, 이 프레임의 순번이 other 이하이면 true.
+     */
+    public boolean isNotNewerThan(SeatFrame other) {
+        return sequence != null && other.sequence != null && sequence <= other.sequence;
+    }
+
+    /**
+     * 아직 처리되지 않은 이 프레임 위에 더 새로운 프레임을 덮어쓴다.
+     * 좌석별로 newer 값이 우선하고, 대기 시간 측정을 위해 수신 시각은 더 오래된 쪽을 유지한다.
+     */
+    public SeatFrame mergeNewer(SeatFrame newer) {
+        Map<Integer, SeatState> merged = new LinkedHashMap<>(states);
+        merged.putAll(newer.states);
+        Long mergedSequence = newer.sequence != null ? newer.sequence : sequence;
+        return new SeatFrame(merged, mergedSequence, invalid + newer.invalid, Math.min(receivedAt, newer.receivedAt));
+    }
+}
@@ -0,0 +1,47 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 좌석 상태 프레임 한 건의 처리 결과.
+ * changed: 상태가 실제로 바뀐 좌석, skipped: 이전과 같아 건너뛴 좌석, rejected: 반영하지 않은 좌석
+ * version: 반영 후 카페 좌석판의 버전, changedStates: 실제로 바뀐 좌석과 새 상태
+ */
+@Getter
+public final class SeatFrameResult {
+
+    private final int changed;
+    private final int skipped;
+    private final int rejected;
+    private final boolean stale;
+    private final long version;
+    private final Map<Integer, SeatState> changedStates;
+
+    private SeatFrameResult(int changed, int skipped, int rejected, boolean stale,
+                            long version, Map<Integer, SeatState> changedStates) {
+        this.changed = changed;
+        this.skipped = skipped;
+        this.rejected = rejected;
+        this.stale = stale;
+        this.version = version;
+        this.changedStates = changedStates;
+    }
+
+    public static SeatFrameResult of(int skipped, int rejected, long version, Map<Integer, SeatState> changedStates) {
+        return new SeatFrameResult(changedStates.size(), skipped, rejected, false, version,
+                Collections.unmodifiableMap(changedStates));
+    }
+
+    // 이미 더 최신 프레임이 반영되어 통째로 버린 경우
+    public static SeatFrameResult stale(int rejected) {
+        return new SeatFrameResult(0, 0, rejected, true, 0L, Collections.emptyMap());
+    }
+
+    public SeatFrameResult plusRejected(int moreRejected) {
+        return new SeatFrameResult(changed, skipped, rejected + moreRejected, stale, version, changedStates);
+    }
+}
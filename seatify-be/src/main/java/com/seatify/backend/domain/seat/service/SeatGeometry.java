@@ -0,0 +1,32 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.seatify.backend.domain.seat.entity.Seat;
+import lombok.Getter;
+
+/**
+ * 좌석 한 개의 배치 정보 (불변).
+ */
+@Getter
+public final class SeatGeometry {
+
+    private final Long seatId;
+    private final int seatNumber;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    public SeatGeometry(Long seatId, int seatNumber, int x, int y, int width, int height) {
+        this.seatId = seatId;
+        this.seatNumber = seatNumber;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public static SeatGeometry from(Seat seat) {
+        return new SeatGeometry(seat.getSeatId(), seat.getSeatNumber(),
+                seat.getX(), seat.getY(), seat.getWidth(), seat.getHeight());
+    }
+}
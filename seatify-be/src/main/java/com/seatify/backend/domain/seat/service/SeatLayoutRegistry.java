@@ -0,0 +1,174 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.google.common.util.concurrent.Striped;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.seat.event.SeatLayoutChangedEvent;
+import com.seatify.backend.domain.seat.repository.SeatRepository;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+/**
+ * 카페별 좌석 배치의 버전 관리.
+ * 배치가 바뀌면 새 {@link SeatLayoutSnapshot}을 만들어 참조를 한 번에 바꿔 끼우므로, 읽는 쪽은 잠금 없이 항상 완전한 배치를 본다.
+ * 이전 버전은 아직 그 배치를 그리고 있는 클라이언트를 위해 잠시 보관한다.
+ */
+@Slf4j
+@Component
+public class SeatLayoutRegistry {
+
+    private final Map<Long, LayoutVersions> layouts = new ConcurrentHashMap<>();
+    private final Striped<Lock> reloadLocks = Striped.lock(64);  // 카페별 reload 직렬화
+
+    private final CafeRepository cafeRepository;
+    private final SeatRepository seatRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long retentionMillis;
+    private final int maxRetained;
+
+    public SeatLayoutRegistry(CafeRepository cafeRepository,
+                              SeatRepository seatRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${seat.layout.retention-ms:300000}") long retentionMillis,
+                              @Value("${seat.layout.max-retained:5}") int maxRetained) {
+        this.cafeRepository = cafeRepository;
+        this.seatRepository = seatRepository;
+        this.eventPublisher = eventPublisher;
+        this.retentionMillis = retentionMillis;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * 현재 좌석 배치. 처음 조회하는 카페만 DB에서 읽는다.
+     */
+    public SeatLayoutSnapshot current(Long cafeId) {
+        return versions(cafeId).current.get();
+    }
+
+    /**
+     * 현재 또는 아직 보관 중인 이전 버전의 좌석 배치.
+     */
+    public Optional<SeatLayoutSnapshot> find(Long cafeId, long version) {
+        LayoutVersions versions = versions(cafeId);
+        SeatLayoutSnapshot current = versions.current.get();
+        if (current.getVersion() == version) {
+            return Optional.of(current);
+        }
+        return versions.retired.stream()
+                .map(Retired::getSnapshot)
+                .filter(snapshot -> snapshot.getVersion() == version)
+                .findFirst();
+    }
+
+    /**
+     * 기동 시 미리 읽어 둔 배치를 등록한다. 이미 등록된 카페는 건너뛴다.
+     */
+    void initialize(Long cafeId, List<SeatGeometry> seats) {
+        layouts.computeIfAbsent(cafeId, id -> new LayoutVersions(new SeatLayoutSnapshot(id, 1L, seats, System.currentTimeMillis())));
+    }
+
+    /**
+     * DB에서 배치를 다시 읽어 새 버전으로 게시한다. 커밋된 이후에 호출해야 한다.
+     * 같은 카페의 reload는 하나씩 실행하고 잠금 안에서 DB를 읽으므로, 먼저 읽은 배치가 나중에 게시되는 일이 없다.
+     */
+    public SeatLayoutSnapshot reload(Long cafeId) {
+        Lock lock = reloadLocks.get(cafeId);
+        lock.lock();
+        try {
+            List<SeatGeometry> seats = loadSeats(cafeId);
+            LayoutVersions created = new LayoutVersions(new SeatLayoutSnapshot(cafeId, 1L, seats, System.currentTimeMillis()));
+            LayoutVersions versions = layouts.putIfAbsent(cafeId, created);
+            if (versions == null) {
+                return created.current.get();
+            }
+
+            // initialize는 없는 카페만 등록하므로 current는 이 잠금 안에서만 바뀐다
+            SeatLayoutSnapshot previous = versions.current.get();
+            SeatLayoutSnapshot next = new SeatLayoutSnapshot(cafeId, previous.getVersion() + 1, seats, System.currentTimeMillis());
+            versions.current.set(next);
+
+            versions.retire(previous, maxRetained);
+            eventPublisher.publishEvent(new SeatLayoutChangedEvent(cafeId, next.getVersion()));
+            log.info("좌석 배치 버전 게시 - cafeId: {}, version: {}, 좌석 {}개", cafeId, next.getVersion(), seats.size());
+            return next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 보관 기간이 지난 이전 버전 정리
+    @Scheduled(fixedDelayString = "${seat.layout.retention-check-ms:60000}")
+    public void purgeRetired() {
+        long expiredBefore = System.currentTimeMillis() - retentionMillis;
+        layouts.values().forEach(versions -> versions.retired.removeIf(retired -> retired.getRetiredAt() < expiredBefore));
+    }
+
+    private LayoutVersions versions(Long cafeId) {
+        LayoutVersions versions = layouts.get(cafeId);
+        if (versions != null) {
+            return versions;
+        }
+        List<SeatGeometry> seats = loadSeats(cafeId);
+        if (seats.isEmpty() && !cafeRepository.existsById(cafeId)) {
+            throw new EntityNotFoundException(ErrorCode.CAFE_NOT_EXIST);
+        }
+        initialize(cafeId, seats);
+        return layouts.get(cafeId);
+    }
+
+    private List<SeatGeometry> loadSeats(Long cafeId) {
+        return seatRepository.findByCafe_CafeId(cafeId).stream()
+                .map(SeatGeometry::from)
+                .collect(Collectors.toList());
+    }
+
+    private static final class LayoutVersions {
+
+        private final AtomicReference<SeatLayoutSnapshot> current;
+        private final Deque<Retired> retired = new ConcurrentLinkedDeque<>();
+
+        private LayoutVersions(SeatLayoutSnapshot initial) {
+            this.current = new AtomicReference<>(initial);
+        }
+
+        private void retire(SeatLayoutSnapshot snapshot, int maxRetained) {
+            retired.addFirst(new Retired(snapshot, System.currentTimeMillis()));
+            while (retired.size() > maxRetained) {
+                retired.pollLast();
+            }
+        }
+    }
+
+    private static final class Retired {
+
+        private final SeatLayoutSnapshot snapshot;
+        private final long retiredAt;
+
+        private Retired(SeatLayoutSnapshot snapshot, long retiredAt) {
+            this.snapshot = snapshot;
+            this.retiredAt = retiredAt;
+        }
+
+        private SeatLayoutSnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        private long getRetiredAt() {
+            return retiredAt;
+        }
+    }
+}
@@ -4,64 +4,248 @@ import com.seatify.backend.domain.cafe.entity.Cafe;
 import com.seatify.backend.domain.cafe.repository.CafeRepository;
 import com.seatify.backend.domain.seat.entity.SeatLayout;
 import com.seatify.backend.domain.seat.entity.Seat;
+import com.seatify.backend.domain.seat.event.SeatLayoutChangedEvent;
 import com.seatify.backend.domain.seat.repository.SeatLayoutRepository;
 import com.seatify.backend.domain.seat.repository.SeatRepository;
+import com.seatify.backend.domain.seat.repository.SeatStatusRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SeatLayoutServiceImpl implements SeatLayoutService {
 
     private final CafeRepository cafeRepository;
     private final SeatLayoutRepository seatLayoutRepository;
     private final SeatRepository seatRepository;
+    private final SeatStatusRepository seatStatusRepository;
     private final ObjectMapper objectMapper;
+    private final LiveSeatStateStore liveSeatStateStore;
+    private final int tolerance;
 
+    // 카페별 마지막으로 반영한 레이아웃의 내용 해시. 다른 경로로 배치가 바뀌면(SeatLayoutChangedEvent) 지운다.
+    private final Map<Long, String> appliedHashes = new ConcurrentHashMap<>();
+
+    public SeatLayoutServiceImpl(CafeRepository cafeRepository,
+                                 SeatLayoutRepository seatLayoutRepository,
+                                 SeatRepository seatRepository,
+                                 SeatStatusRepository seatStatusRepository,
+                                 ObjectMapper objectMapper,
+                                 LiveSeatStateStore liveSeatStateStore,
+                                 @Value("${seat.layout.tolerance-px:2}") int tolerance) {
+        this.cafeRepository = cafeRepository;
+        this.seatLayoutRepository = seatLayoutRepository;
+        this.seatRepository = seatRepository;
+        this.seatStatusRepository = seatStatusRepository;
+        this.objectMapper = objectMapper;
+        this.liveSeatStateStore = liveSeatStateStore;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * 저장된 레이아웃과 좌석 번호 기준으로 비교해서 추가/삭제/이동된 좌석만 반영한다.
+     * 좌표 차이가 tolerance(px) 이하인 좌석은 그대로 두고, 직전에 반영한 내용과 해시가 같으면 DB를 읽지도 않는다.
+     */
     @Override
     @Transactional
     public void saveSeatLayoutFromJson(Long cafeId, String jsonData) {
         try {
+            Map<Integer, LayoutSeat> incoming = parse(jsonData);
+            String hash = contentHash(incoming);
+            if (hash.equals(appliedHashes.get(cafeId))) {
+                log.debug("좌석 배치 변경 없음 - cafeId: {}", cafeId);
+                return;
+            }
+
             Cafe cafe = cafeRepository.findById(cafeId)
                     .orElseThrow(() -> new IllegalArgumentException("Invalid cafe ID"));
 
-            // 기존 좌석 및 레이아웃 삭제 (중복 방지)
-            seatLayoutRepository.deleteByCafe_CafeId(cafeId);
-            seatRepository.deleteByCafe_CafeId(cafeId);
+            int changed = reconcileLayouts(cafe, incoming) + reconcileSeats(cafe, incoming);
+            if (changed > 0) {
+                // 커밋 이후 실시간 상태판의 좌석 배치 갱신.
+                // 이때 발행되는 SeatLayoutChangedEvent가 해시를 지운 뒤에 아래에서 새 해시를 기억한다 (등록 순서대로 실행)
+                liveSeatStateStore.reloadLayout(cafeId);
+            }
+            rememberAfterCommit(cafeId, hash);
+            log.info("좌석 배치 반영 - cafeId: {}, 변경 행 {}개", cafeId, changed);
+        } catch (Exception e) {
+            appliedHashes.remove(cafeId);
+            throw new RuntimeException("Failed to parse and save seat layout", e);
+        }
+    }
+
+    // SeatService.updateSeats 등 다른 경로로 좌석이 바뀌었으면 다음 전송은 DB와 다시 비교한다
+    @EventListener
+    public void onSeatLayoutChanged(SeatLayoutChangedEvent event) {
+        appliedHashes.remove(event.getCafeId());
+    }
+
+    // 롤백되면 다음 전송 때 다시 비교하도록, 커밋된 뒤에만 해시를 기억한다
+    private void rememberAfterCommit(Long cafeId, String hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appliedHashes.put(cafeId, hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appliedHashes.put(cafeId, hash);
+            }
+        });
+    }
+
+    private Map<Integer, LayoutSeat> parse(String jsonData) throws Exception {
+        JsonNode root = objectMapper.readTree(jsonData);
+        if (!root.isArray()) {
+            throw new IllegalArgumentException("Expected a JSON array");
+        }
+
+        Map<Integer, LayoutSeat> seats = new TreeMap<>();
+        for (JsonNode seatNode : root) {
+            int seatNumber = seatNode.get("seatID").asInt();
+            seats.put(seatNumber, new LayoutSeat(
+                    seatNumber,
+                    seatNode.get("x").asInt(),
+                    seatNode.get("y").asInt(),
+                    seatNode.get("width").asInt(),
+                    seatNode.get("height").asInt()));
+        }
+        return seats;
+    }
+
+    private int reconcileLayouts(Cafe cafe, Map<Integer, LayoutSeat> incoming) {
+        Map<Integer, SeatLayout> remaining = new HashMap<>();
+        List<SeatLayout> removed = new ArrayList<>();
+        for (SeatLayout stored : seatLayoutRepository.findByCafe_CafeId(cafe.getCafeId())) {
+            if (!incoming.containsKey(stored.getSeatNumber()) || remaining.putIfAbsent(stored.getSeatNumber(), stored) != null) {
+                removed.add(stored);  // 사라진 좌석이거나 같은 번호의 중복 행
+            }
+        }
 
-            JsonNode root = objectMapper.readTree(jsonData);
-            if (!root.isArray()) {
-                throw new IllegalArgumentException("Expected a JSON array");
+        int changed = removed.size();
+        List<SeatLayout> added = new ArrayList<>();
+        for (LayoutSeat seat : incoming.values()) {
+            SeatLayout stored = remaining.get(seat.seatNumber);
+            if (stored == null) {
+                added.add(new SeatLayout(cafe, seat.seatNumber, seat.x, seat.y, seat.width, seat.height));
+            } else if (seat.movedFrom(stored.getX(), stored.getY(), stored.getWidth(), stored.getHeight(), tolerance)) {
+                stored.setX(seat.x);
+                stored.setY(seat.y);
+                stored.setWidth(seat.width);
+                stored.setHeight(seat.height);
+                changed++;
             }
+        }
 
-            for (JsonNode seatNode : root) {
-                int seatNumber = seatNode.get("seatID").asInt();
-                int x = seatNode.get("x").asInt();
-                int y = seatNode.get("y").asInt();
-                int width = seatNode.get("width").asInt();
-                int height = seatNode.get("height").asInt();
+        seatLayoutRepository.deleteAllInBatch(removed);
+        seatLayoutRepository.saveAll(added);
+        return changed + added.size();
+    }
 
-                SeatLayout layout = new SeatLayout(cafe, seatNumber, x, y, width, height);
-                seatLayoutRepository.save(layout);
+    private int reconcileSeats(Cafe cafe, Map<Integer, LayoutSeat> incoming) {
+        Map<Integer, Seat> remaining = new HashMap<>();
+        List<Seat> removed = new ArrayList<>();
+        for (Seat stored : seatRepository.findByCafe_CafeId(cafe.getCafeId())) {
+            if (!incoming.containsKey(stored.getSeatNumber()) || remaining.putIfAbsent(stored.getSeatNumber(), stored) != null) {
+                removed.add(stored);
+            }
+        }
 
-                Seat seat = Seat.builder()
+        int changed = removed.size();
+        List<Seat> added = new ArrayList<>();
+        for (LayoutSeat seat : incoming.values()) {
+            Seat stored = remaining.get(seat.seatNumber);
+            if (stored == null) {
+                added.add(Seat.builder()
                         .cafe(cafe)
-                        .seatNumber(seatNumber)
+                        .seatNumber(seat.seatNumber)
                         .isOccupied(false)
-                        .x(x)
-                        .y(y)
-                        .width(width)
-                        .height(height)
-                        .build();
+                        .x(seat.x)
+                        .y(seat.y)
+                        .width(seat.width)
+                        .height(seat.height)
+                        .build());
+            } else if (seat.movedFrom(stored.getX(), stored.getY(), stored.getWidth(), stored.getHeight(), tolerance)) {
+                // 이동한 좌석은 좌표만 바꾸고 seatId와 점유 여부는 유지
+                stored.setX(seat.x);
+                stored.setY(seat.y);
+                stored.setWidth(seat.width);
+                stored.setHeight(seat.height);
+                changed++;
+            }
+        }
 
-                seatRepository.save(seat);
+        seatRepository.deleteAllInBatch(removed);
+        seatRepository.saveAll(added);
+        deleteOrphanStatuses(cafe.getCafeId(), removed, incoming);
+        return changed + added.size();
+    }
+
+    // 배치에서 사라진 좌석 번호의 seat_status 행을 지운다 (같은 번호의 중복 행만 지운 경우는 제외)
+    private void deleteOrphanStatuses(Long cafeId, List<Seat> removed, Map<Integer, LayoutSeat> incoming) {
+        Set<Integer> seatNumbers = new TreeSet<>();
+        for (Seat seat : removed) {
+            if (!incoming.containsKey(seat.getSeatNumber())) {
+                seatNumbers.add(seat.getSeatNumber());
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse and save seat layout", e);
+        }
+        if (!seatNumbers.isEmpty()) {
+            int deleted = seatStatusRepository.deleteByCafeIdAndSeatNumbers(cafeId, seatNumbers);
+            log.debug("사라진 좌석의 상태 행 삭제 - cafeId: {}, {}개", cafeId, deleted);
+        }
+    }
+
+    // 좌석 번호 순으로 정렬한 좌표를 SHA-256으로 요약
+    private static String contentHash(Map<Integer, LayoutSeat> seats) throws NoSuchAlgorithmException {
+        StringBuilder canonical = new StringBuilder();
+        seats.values().forEach(seat -> canonical.append(seat.seatNumber).append(':')
+                .append(seat.x).append(',').append(seat.y).append(',')
+                .append(seat.width).append(',').append(seat.height).append(';'));
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static final class LayoutSeat {
+
+        private final int seatNumber;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        private LayoutSeat(int seatNumber, int x, int y, int width, int height) {
+            this.seatNumber = seatNumber;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        private boolean movedFrom(int storedX, int storedY, int storedWidth, int storedHeight, int tolerance) {
+            return Math.abs(x - storedX) > tolerance
+                    || Math.abs(y - storedY) > tolerance
+                    || Math.abs(width - storedWidth) > tolerance
+                    || Math.abs(height - storedHeight) > tolerance;
         }
     }
 }
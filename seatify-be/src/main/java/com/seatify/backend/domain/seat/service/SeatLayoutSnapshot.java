@@ -0,0 +1,25 @@
+package com.seatify.backend.domain.seat.service;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 특정 버전의 카페 좌석 배치 (불변). 한 번 만들어지면 바뀌지 않으므로 잠금 없이 읽어도 된다.
+ */
+@Getter
+public final class SeatLayoutSnapshot {
+
+    private final Long cafeId;
+    private final long version;
+    private final List<SeatGeometry> seats;
+    private final long publishedAt;  // epoch millis
+
+    SeatLayoutSnapshot(Long cafeId, long version, List<SeatGeometry> seats, long publishedAt) {
+        this.cafeId = cafeId;
+        this.version = version;
+        this.seats = Collections.unmodifiableList(seats);
+        this.publishedAt = publishedAt;
+    }
+}
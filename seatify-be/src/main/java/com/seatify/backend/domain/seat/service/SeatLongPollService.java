@@ -0,0 +1,113 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.seatify.backend.api.seat.dto.SeatDeltaDTO;
+import com.seatify.backend.domain.seat.event.SeatFrameAppliedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 좌석 상태 long-poll 대기열.
+ * 요청은 서블릿 비동기({@link DeferredResult})로 세워 두므로 기다리는 동안 스레드를 잡지 않는다.
+ * 새 프레임이 반영되면 그 카페에서 기다리는 요청만 깨워서 since 이후 바뀐 좌석을 돌려준다.
+ */
+@Component
+public class SeatLongPollService {
+
+    private final Map<Long, Queue<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    private final LiveSeatStateStore liveSeatStateStore;
+    private final long defaultTimeoutMillis;
+    private final long maxTimeoutMillis;
+
+    public SeatLongPollService(LiveSeatStateStore liveSeatStateStore,
+                               @Value("${seat.poll.timeout-ms:25000}") long defaultTimeoutMillis,
+                               @Value("${seat.poll.max-timeout-ms:60000}") long maxTimeoutMillis) {
+        this.liveSeatStateStore = liveSeatStateStore;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.maxTimeoutMillis = maxTimeoutMillis;
+    }
+
+    /**
+     * since 토큰보다 새로운 좌석 상태가 있으면 바로, 없으면 생길 때까지(또는 시간 초과까지) 기다렸다가 변경분을 돌려준다.
+     * 시간이 초과되면 같은 버전과 빈 변경 목록을 돌려준다.
+     * 재시작 전에 받은 토큰(다른 epoch)이나 알 수 없는 토큰이면 기다리지 않고 전체 상태(full)를 돌려준다.
+     */
+    public DeferredResult<ResponseEntity<SeatDeltaDTO>> await(Long cafeId, String sinceToken, Long timeoutMillis) {
+        long timeout = timeoutMillis == null ? defaultTimeoutMillis : Math.max(1L, Math.min(timeoutMillis, maxTimeoutMillis));
+        long epoch = liveSeatStateStore.getEpoch();
+        Long sinceVersion = SeatVersionToken.versionOf(sinceToken, epoch);
+        if (sinceVersion == null) {
+            DeferredResult<ResponseEntity<SeatDeltaDTO>> result = new DeferredResult<>(timeout);
+            // 존재하지 않는 카페는 여기서 예외로 끝난다
+            result.setResult(ResponseEntity.ok(liveSeatStateStore.getFullState(cafeId)));
+            return result;
+        }
+
+        long since = sinceVersion;
+        DeferredResult<ResponseEntity<SeatDeltaDTO>> result = new DeferredResult<>(timeout,
+                ResponseEntity.ok(SeatDeltaDTO.of(epoch, since, Collections.emptyMap())));
+
+        // 존재하지 않는 카페는 여기서 예외로 끝난다
+        if (liveSeatStateStore.getVersion(cafeId) != since) {
+            result.setResult(ResponseEntity.ok(liveSeatStateStore.getChangesSince(cafeId, since)));
+            return result;
+        }
+
+        Queue<Waiter> queue = waiters.computeIfAbsent(cafeId, id -> new ConcurrentLinkedQueue<>());
+        Waiter waiter = new Waiter(since, result);
+        queue.add(waiter);
+        result.onCompletion(() -> queue.remove(waiter));
+
+        // 등록하는 사이에 반영된 프레임은 이벤트로 깨우지 못했을 수 있으니 한 번 더 확인한다
+        if (liveSeatStateStore.getVersion(cafeId) != since) {
+            waiter.complete(liveSeatStateStore.getChangesSince(cafeId, since));
+        }
+        return result;
+    }
+
+    // 좌석판 잠금 안에서 호출되므로 결과만 넘기고 응답 쓰기는 컨테이너 스레드에 맡긴다
+    @EventListener
+    public void onSeatFrameApplied(SeatFrameAppliedEvent event) {
+        Queue<Waiter> queue = waiters.get(event.getCafeId());
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+        // 대부분은 직전 버전을 들고 기다리므로 이벤트의 변경분을 그대로 나눠 쓴다
+        SeatDeltaDTO latest = SeatDeltaDTO.of(liveSeatStateStore.getEpoch(), event.getVersion(), event.getChanges());
+        Waiter waiter;
+        while ((waiter = queue.poll()) != null) {
+            waiter.complete(waiter.since == event.getVersion() - 1
+                    ? latest
+                    : liveSeatStateStore.getChangesSince(event.getCafeId(), waiter.since));
+        }
+    }
+
+    public int waiterCount(Long cafeId) {
+        Queue<Waiter> queue = waiters.get(cafeId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    private static final class Waiter {
+
+        private final long since;
+        private final DeferredResult<ResponseEntity<SeatDeltaDTO>> result;
+
+        private Waiter(long since, DeferredResult<ResponseEntity<SeatDeltaDTO>> result) {
+            this.since = since;
+            this.result = result;
+        }
+
+        private void complete(SeatDeltaDTO delta) {
+            result.setResult(ResponseEntity.ok(delta));
+        }
+    }
+}
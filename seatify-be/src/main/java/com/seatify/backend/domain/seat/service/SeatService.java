@@ -2,8 +2,6 @@ package com.seatify.backend.domain.seat.service;
 
 import com.seatify.backend.api.seat.dto.SeatDTO;
 import com.seatify.backend.api.seat.dto.SeatResponseDTO;
-import com.seatify.backend.domain.seat.constant.SeatState;
-import com.seatify.backend.domain.seat.entity.SeatStatus;
 import org.springframework.stereotype.Service;
 
 import com.seatify.backend.domain.seat.entity.Seat;
@@ -11,18 +9,16 @@ import com.seatify.backend.domain.seat.repository.SeatRepository;
 
 import javax.transaction.Transactional;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class SeatService {
 
     private final SeatRepository seatRepository;
-    private final SeatStatusService seatStatusService;
+    private final LiveSeatStateStore liveSeatStateStore;
 
-    public SeatService(SeatRepository seatRepository, SeatStatusService seatStatusService) {
+    public SeatService(SeatRepository seatRepository, LiveSeatStateStore liveSeatStateStore) {
         this.seatRepository = seatRepository;
-        this.seatStatusService = seatStatusService;
+        this.liveSeatStateStore = liveSeatStateStore;
     }
 
     // 카페의 좌석 정보를 반환하는 메소드
@@ -47,32 +43,12 @@ public class SeatService {
 
             seatRepository.save(seat);
         }
+        liveSeatStateStore.reloadLayout(cafeId);
     }
 
+    // 메모리 상태판에서 바로 조회 (SQL 없음)
     public List<SeatResponseDTO> findSeatsWithStatusByCafeId(Long cafeId) {
-        List<Seat> seats = seatRepository.findByCafe_CafeId(cafeId);
-        List<SeatStatus> statuses = seatStatusService.findStatusByCafeId(cafeId);
-
-        // seatNumber 기준으로 상태 매핑
-        Map<Integer, SeatState> statusMap = statuses.stream()
-                .collect(Collectors.toMap(
-                        SeatStatus::getSeatNumber,
-                        SeatStatus::getState,
-                        (existing, replacement) -> replacement  // 중복 처리
-                ));
-
-        return seats.stream()
-                .map(seat -> new SeatResponseDTO(
-                        seat.getSeatId(),
-                        seat.getSeatNumber(),
-                        seat.isOccupied(),
-                        seat.getX(),
-                        seat.getY(),
-                        seat.getWidth(),
-                        seat.getHeight(),
-                        statusMap.getOrDefault(seat.getSeatNumber(), SeatState.EMPTY).name()
-                ))
-                .collect(Collectors.toList());
+        return liveSeatStateStore.getSeats(cafeId);
     }
 
 }
@@ -0,0 +1,236 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.seatify.backend.api.seat.dto.SeatIngestionStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 상태 프레임 비동기 수신 큐.
+ * 카페마다 대기 슬롯이 하나 있고, 처리 전에 새 프레임이 오면 기존 프레임 위에 덮어써(coalesce) 한 번만 처리한다.
+ * 한 카페는 항상 한 작업자만 처리하므로 전역 잠금 없이 순서가 보장된다.
+ */
+@Slf4j
+@Component
+public class SeatStatusIngestionQueue {
+
+    public enum OverloadPolicy {
+        REJECT,      // 대기 카페 수가 가득 차면 거절 (503)
+        CALLER_RUNS  // 대기 카페 수가 가득 차면 요청 스레드에서 바로 처리
+    }
+
+    public enum Admission {
+        QUEUED,     // 큐에 들어감 (202)
+        STALE,      // 대기 중인 프레임보다 오래되어 버림
+        REJECTED,   // 과부하로 거절
+        PROCESSED   // 과부하로 요청 스레드에서 바로 처리함
+    }
+
+    /**
+     * submit 결과. 요청 스레드에서 바로 처리했거나(PROCESSED) 버린 경우(STALE)에만 result가 있다.
+     */
+    public static final class Submission {
+
+        private final Admission admission;
+        private final SeatFrameResult result;
+
+        private Submission(Admission admission, SeatFrameResult result) {
+            this.admission = admission;
+            this.result = result;
+        }
+
+        public Admission getAdmission() {
+            return admission;
+        }
+
+        public SeatFrameResult getResult() {
+            return result;
+        }
+    }
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    private final SeatStatusService seatStatusService;
+    private final boolean enabled;
+    private final OverloadPolicy overloadPolicy;
+    private final int capacity;
+    private final Semaphore scheduledCafes;
+    private final ExecutorService workers;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+
+    public SeatStatusIngestionQueue(SeatStatusService seatStatusService,
+                                    @Value("${seat.ingest.async-enabled:false}") boolean enabled,
+                                    @Value("${seat.ingest.queue-capacity:256}") int capacity,
+                                    @Value("${seat.ingest.workers:2}") int workerCount,
+                                    @Value("${seat.ingest.overload-policy:REJECT}") OverloadPolicy overloadPolicy) {
+        this.seatStatusService = seatStatusService;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.overloadPolicy = overloadPolicy;
+        this.scheduledCafes = new Semaphore(capacity);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "seat-ingest-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Submission submit(Long cafeId, SeatFrame frame) {
+        Submission submission;
+        do {
+            submission = offer(slots.computeIfAbsent(cafeId, Slot::new), frame);
+        } while (submission == null);
+        return submission;
+    }
+
+    public SeatIngestionStatsDTO stats() {
+        long processedCount = processed.get();
+        return SeatIngestionStatsDTO.builder()
+                .enabled(enabled)
+                .overloadPolicy(overloadPolicy.name())
+                .capacity(capacity)
+                .pendingCafes(capacity - scheduledCafes.availablePermits())
+                .accepted(accepted.get())
+                .superseded(superseded.get())
+                .stale(stale.get())
+                .rejected(rejected.get())
+                .processed(processedCount)
+                .failed(failed.get())
+                .lastLagMs(TimeUnit.NANOSECONDS.toMillis(lastLagNanos.get()))
+                .maxLagMs(TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get()))
+                .avgLagMs(processedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLagNanos.get() / processedCount))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("좌석 상태 수신 큐 종료 대기 시간 초과 - 대기 카페 {}곳", capacity - scheduledCafes.availablePermits());
+        }
+    }
+
+    // 슬롯에 프레임을 넣는다. 그 사이 작업자가 빈 슬롯을 치웠으면 null을 돌려주고, 호출한 쪽이 새 슬롯으로 다시 시도한다.
+    private Submission offer(Slot slot, SeatFrame frame) {
+        boolean schedule = false;
+        boolean overloaded = false;
+
+        synchronized (slot) {
+            if (slot.removed) {
+                return null;
+            }
+            if (slot.pending != null && frame.isNotNewerThan(slot.pending)) {
+                stale.incrementAndGet();
+                return new Submission(Admission.STALE, SeatFrameResult.stale(frame.size()));
+            }
+            if (!slot.scheduled) {
+                // 대기/처리 중인 카페 수를 capacity 이하로 제한
+                if (scheduledCafes.tryAcquire()) {
+                    slot.scheduled = true;
+                    schedule = true;
+                } else {
+                    overloaded = true;
+                    // 대기 중인 프레임이 없는 슬롯이므로 작업자가 치울 일도 없다. 여기서 바로 치운다
+                    slot.removed = true;
+                    slots.remove(slot.cafeId, slot);
+                }
+            }
+            if (!overloaded) {
+                if (slot.pending == null) {
+                    slot.pending = frame;
+                } else {
+                    slot.pending = slot.pending.mergeNewer(frame);
+                    superseded.incrementAndGet();
+                }
+            }
+        }
+
+        if (overloaded) {
+            return overloaded(slot.cafeId, frame);
+        }
+        accepted.incrementAndGet();
+        if (schedule) {
+            workers.execute(() -> drain(slot));
+        }
+        return new Submission(Admission.QUEUED, null);
+    }
+
+    private Submission overloaded(Long cafeId, SeatFrame frame) {
+        if (overloadPolicy == OverloadPolicy.CALLER_RUNS) {
+            return new Submission(Admission.PROCESSED, seatStatusService.applyFrame(cafeId, frame));
+        }
+        rejected.incrementAndGet();
+        log.warn("좌석 상태 수신 큐 과부하 - cafeId: {} 프레임 거절", cafeId);
+        return new Submission(Admission.REJECTED, null);
+    }
+
+    // 카페 하나의 슬롯이 빌 때까지 처리한다. 이 카페에 대해서는 이 작업자만 실행된다.
+    // 다 비우면 슬롯을 맵에서 치워, 한 번 프레임을 보낸 카페의 슬롯이 계속 쌓이지 않게 한다.
+    private void drain(Slot slot) {
+        while (true) {
+            SeatFrame frame;
+            synchronized (slot) {
+                frame = slot.pending;
+                if (frame == null) {
+                    slot.scheduled = false;
+                    slot.removed = true;
+                    slots.remove(slot.cafeId, slot);
+                    scheduledCafes.release();
+                    return;
+                }
+                slot.pending = null;
+            }
+
+            recordLag(System.nanoTime() - frame.getReceivedAt());
+            try {
+                seatStatusService.applyFrame(slot.cafeId, frame);
+                processed.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.error("좌석 상태 비동기 처리 실패 - cafeId: {}", slot.cafeId, e);
+            }
+        }
+    }
+
+    private void recordLag(long lagNanos) {
+        lastLagNanos.set(lagNanos);
+        totalLagNanos.addAndGet(lagNanos);
+        maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+    private static final class Slot {
+
+        private final Long cafeId;
+        private SeatFrame pending;
+        private boolean scheduled;
+        private boolean removed;  // 맵에서 치운 슬롯. 더는 프레임을 받지 않는다
+
+        private Slot(Long cafeId) {
+            this.cafeId = cafeId;
+        }
+    }
+}
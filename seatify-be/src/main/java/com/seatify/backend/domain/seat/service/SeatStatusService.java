@@ -7,9 +7,21 @@ import com.seatify.backend.domain.seat.entity.SeatStatus;
 
 public interface SeatStatusService {
 
-    void updateSeatStatusFromJson(Long cafeId, String jsonData);
+    SeatFrameResult updateSeatStatusFromJson(Long cafeId, String jsonData);
 
-    void updateSeatStatusFromList(Long cafeId, List<Map<String, Object>> statusList);
+    /**
+     * AI 서버가 보낸 좌석 상태 프레임을 반영합니다. 상태가 바뀐 좌석만 저장됩니다.
+     *
+     * @param cafeId     카페 ID
+     * @param statusList [{"seatID": 1, "state": 0}, ...]
+     * @param sequence   프레임 순번(또는 촬영 시각, ms). 이미 반영한 값 이하이면 프레임 전체를 버립니다. null이면 검사하지 않습니다.
+     */
+    SeatFrameResult updateSeatStatusFromList(Long cafeId, List<Map<String, Object>> statusList, Long sequence);
+
+    /**
+     * 이미 변환된 좌석 상태 프레임을 반영합니다. (비동기 수신 큐에서 사용)
+     */
+    SeatFrameResult applyFrame(Long cafeId, SeatFrame frame);
 
     // ✅ 좌석 상태 목록 조회용 메서드 추가
     List<SeatStatus> findStatusByCafeId(Long cafeId);
@@ -1,100 +1,57 @@
 package com.seatify.backend.domain.seat.service;
 
-import com.seatify.backend.domain.cafe.entity.Cafe;
-import com.seatify.backend.domain.cafe.repository.CafeRepository;
 import com.seatify.backend.domain.seat.constant.SeatState;
-import com.seatify.backend.domain.seat.entity.Seat;
 import com.seatify.backend.domain.seat.entity.SeatStatus;
-import com.seatify.backend.domain.seat.repository.SeatRepository;
 import com.seatify.backend.domain.seat.repository.SeatStatusRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SeatStatusServiceImpl implements SeatStatusService {
 
     private final SeatStatusRepository seatStatusRepository;
-    private final CafeRepository cafeRepository;
-    private final SeatRepository seatRepository;
+    private final LiveSeatStateStore liveSeatStateStore;
 
     @Override
-    @Transactional
-    public void updateSeatStatusFromJson(Long cafeId, String jsonString) {
+    public SeatFrameResult updateSeatStatusFromJson(Long cafeId, String jsonString) {
         JSONArray stats = new JSONArray(jsonString);
 
-        Cafe cafe = cafeRepository.findById(cafeId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 카페가 존재하지 않습니다: " + cafeId));
-
+        Map<Integer, SeatState> states = new LinkedHashMap<>();
+        int rejected = 0;
         for (int i = 0; i < stats.length(); i++) {
             JSONObject obj = stats.getJSONObject(i);
-
-            int seatID = obj.getInt("seatID");
-            String stateStr = obj.getString("state");
-            SeatState state = SeatState.valueOf(stateStr);
-
-            SeatStatus status = SeatStatus.builder()
-                    .cafe(cafe)
-                    .seatNumber(seatID)
-                    .state(state)
-                    .build();
-
-            seatStatusRepository.save(status);
-
-            Seat seat = seatRepository.findByCafe_CafeIdAndSeatNumber(cafeId, seatID).orElse(null);
-            if (seat != null) {
-                seat.setIsOccupied(state == SeatState.OCCUPIED ||
-                        state == SeatState.STEP_OUT ||
-                        state == SeatState.LONG_STEP_OUT);
-                seatRepository.save(seat);
+            try {
+                states.put(obj.getInt("seatID"), SeatState.valueOf(obj.getString("state")));
+            } catch (RuntimeException e) {
+                rejected++;
             }
-
-            System.out.println(String.format(
-                    "[DEBUG] 카페 ID: %d | 좌석 번호: %d → 상태: %s",
-                    cafeId, seatID, state.name()
-            ));
         }
+
+        return applyFrame(cafeId, new SeatFrame(states, null, rejected));
     }
 
     @Override
-    @Transactional
-    public void updateSeatStatusFromList(Long cafeId, List<Map<String, Object>> statusList) {
-        Cafe cafe = cafeRepository.findById(cafeId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 카페가 존재하지 않습니다: " + cafeId));
-
-        for (Map<String, Object> status : statusList) {
-            Integer seatID = (Integer) status.get("seatID");
-            Integer stateInt = (Integer) status.get("state");
-
-            SeatState seatState = SeatState.fromCode(stateInt);
-
-            // ✅ seatStatus 업데이트
-            SeatStatus existing = seatStatusRepository.findByCafe_CafeIdAndSeatNumber(cafeId, seatID);
-            if (existing != null) {
-                existing.setState(seatState);
-            } else {
-                SeatStatus seatStatus = SeatStatus.builder()
-                        .cafe(cafe)
-                        .seatNumber(seatID)
-                        .state(seatState)
-                        .build();
-                seatStatusRepository.save(seatStatus);
-            }
+    public SeatFrameResult updateSeatStatusFromList(Long cafeId, List<Map<String, Object>> statusList, Long sequence) {
+        return applyFrame(cafeId, SeatFrame.fromStatusList(statusList, sequence));
+    }
 
-            // ✅ Seat의 isOccupied 필드 동기화
-            Seat seat = seatRepository.findByCafe_CafeIdAndSeatNumber(cafeId, seatID).orElse(null);
-            if (seat != null) {
-                seat.setIsOccupied(seatState == SeatState.OCCUPIED ||
-                        seatState == SeatState.STEP_OUT ||
-                        seatState == SeatState.LONG_STEP_OUT);
-            }
-        }
+    // ✅ 메모리 상태판에 반영 (DB 반영은 LiveSeatStateStore가 변경분만 주기적으로 처리)
+    @Override
+    public SeatFrameResult applyFrame(Long cafeId, SeatFrame frame) {
+        SeatFrameResult result = liveSeatStateStore.apply(cafeId, frame.getStates(), frame.getSequence())
+                .plusRejected(frame.getInvalid());
+        log.debug("카페 ID: {} | seq: {} | 변경 {} / 유지 {} / 거부 {}{}", cafeId, frame.getSequence(),
+                result.getChanged(), result.getSkipped(), result.getRejected(), result.isStale() ? " (오래된 프레임)" : "");
+        return result;
     }
 
     @Override
@@ -102,4 +59,4 @@ public class SeatStatusServiceImpl implements SeatStatusService {
         return seatStatusRepository.findByCafe_CafeId(cafeId);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,258 @@
+package com.seatify.backend.domain.seat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seatify.backend.api.seat.dto.SeatDeltaDTO;
+import com.seatify.backend.api.seat.dto.SeatMapSnapshotDTO;
+import com.seatify.backend.domain.seat.event.SeatFrameAppliedEvent;
+import com.seatify.backend.domain.seat.event.SeatLayoutChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카페별 좌석 상태 SSE 구독 관리.
+ * 구독 시 전체 좌석(snapshot)을 보내고, 이후에는 바뀐 좌석(delta)만 보낸다.
+ * 이벤트는 카페마다 한 번만 직렬화해서 모든 구독자에게 같은 내용을 보낸다.
+ * 전송은 카페별 작업 큐에서 순서대로 처리하므로 좌석판 잠금이나 요청 스레드를 붙잡지 않는다.
+ */
+@Slf4j
+@Component
+public class SeatStreamBroadcaster {
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    private final LiveSeatStateStore liveSeatStateStore;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final ExecutorService dispatcher;
+
+    public SeatStreamBroadcaster(LiveSeatStateStore liveSeatStateStore,
+                                 ObjectMapper objectMapper,
+                                 @Value("${seat.stream.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${seat.stream.dispatcher-threads:2}") int dispatcherThreads) {
+        this.liveSeatStateStore = liveSeatStateStore;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "seat-stream-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long cafeId) {
+        // 존재하지 않는 카페는 여기서 예외로 끝낸다
+        liveSeatStateStore.getVersion(cafeId);
+
+        // 스냅샷은 카페 작업 큐 안에서 찍어야 그 앞뒤 delta와 순서가 어긋나지 않는다.
+        // 스냅샷을 보내기 전에 도착한 delta도 큐에 쌓이도록 대기 중인 구독으로 먼저 센다.
+        // 마지막 구독자가 떠나 채널이 막 닫혔으면 새 채널로 다시 시도한다.
+        Channel channel;
+        do {
+            channel = channels.computeIfAbsent(cafeId, Channel::new);
+        } while (!channel.reserveSnapshot());
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        Channel subscribed = channel;
+        emitter.onCompletion(() -> subscribed.remove(subscriber));
+        emitter.onTimeout(() -> subscribed.remove(subscriber));
+        emitter.onError(e -> subscribed.remove(subscriber));
+
+        channel.execute(() -> {
+            try {
+                SeatMapSnapshotDTO snapshot = liveSeatStateStore.getSeatMap(cafeId);
+                subscriber.sinceVersion = snapshot.getVersion();
+                emitter.send(SseEmitter.event()
+                        .name("snapshot")
+                        .id(String.valueOf(snapshot.getVersion()))
+                        .data(objectMapper.writeValueAsString(snapshot)));
+                subscribed.subscribers.add(subscriber);
+            } catch (IOException | RuntimeException e) {
+                log.debug("좌석 스트림 스냅샷 전송 실패 - cafeId: {}", cafeId, e);
+                emitter.completeWithError(e);
+            } finally {
+                subscribed.pendingSnapshots.decrementAndGet();
+                subscribed.closeIfIdle();
+            }
+        });
+        return emitter;
+    }
+
+    @EventListener
+    public void onSeatFrameApplied(SeatFrameAppliedEvent event) {
+        Channel channel = channels.get(event.getCafeId());
+        if (channel == null || channel.isIdle()) {
+            return;
+        }
+        Set<DataWithMediaType> message;
+        try {
+            message = SseEmitter.event()
+                    .name("delta")
+                    .id(String.valueOf(event.getVersion()))
+                    .data(objectMapper.writeValueAsString(SeatDeltaDTO.of(liveSeatStateStore.getEpoch(), event.getVersion(), event.getChanges())))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("좌석 delta 직렬화 실패 - cafeId: {}", event.getCafeId(), e);
+            return;
+        }
+        channel.execute(() -> channel.broadcast(message, event.getVersion()));
+    }
+
+    // 좌석 배치가 바뀌면 구독자 모두에게 새 스냅샷을 한 번 직렬화해서 보낸다
+    @EventListener
+    public void onSeatLayoutChanged(SeatLayoutChangedEvent event) {
+        Channel channel = channels.get(event.getCafeId());
+        if (channel == null || channel.isIdle()) {
+            return;
+        }
+        channel.execute(() -> {
+            SeatMapSnapshotDTO snapshot = liveSeatStateStore.getSeatMap(event.getCafeId());
+            Set<DataWithMediaType> message;
+            try {
+                message = SseEmitter.event()
+                        .name("snapshot")
+                        .id(String.valueOf(snapshot.getVersion()))
+                        .data(objectMapper.writeValueAsString(snapshot))
+                        .build();
+            } catch (JsonProcessingException e) {
+                log.error("좌석 스냅샷 직렬화 실패 - cafeId: {}", event.getCafeId(), e);
+                return;
+            }
+            channel.broadcast(message, Long.MAX_VALUE);
+            channel.subscribers.forEach(subscriber -> subscriber.sinceVersion = Math.max(subscriber.sinceVersion, snapshot.getVersion()));
+        });
+    }
+
+    // 주기적으로 주석 한 줄을 보내 연결을 유지하고, 끊어진 구독자를 정리한다
+    @Scheduled(fixedRateString = "${seat.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("heartbeat").build();
+        channels.values().forEach(channel -> {
+            if (!channel.subscribers.isEmpty()) {
+                channel.execute(() -> channel.broadcast(ping, Long.MAX_VALUE));
+            }
+        });
+    }
+
+    public int subscriberCount(Long cafeId) {
+        Channel channel = channels.get(cafeId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        dispatcher.shutdownNow();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private volatile long sinceVersion;  // 이 버전까지는 스냅샷에 포함되어 있음
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * 카페 하나의 구독자 목록과 전송 작업 큐. 작업은 한 번에 한 스레드만 순서대로 실행한다.
+     */
+    private final class Channel {
+
+        private final Long cafeId;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger pendingSnapshots = new AtomicInteger();  // 스냅샷 전송을 기다리는 구독 수
+        private boolean closed;  // 맵에서 치운 채널. 새 구독을 받지 않는다 (this로 보호)
+
+        private Channel(Long cafeId) {
+            this.cafeId = cafeId;
+        }
+
+        // 새 구독의 스냅샷 전송을 예약한다. 이미 닫힌 채널이면 false
+        private synchronized boolean reserveSnapshot() {
+            if (closed) {
+                return false;
+            }
+            pendingSnapshots.incrementAndGet();
+            return true;
+        }
+
+        private void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            closeIfIdle();
+        }
+
+        // 구독자가 모두 떠나면 맵에서 치운다. 예약과 같은 잠금 안에서 확인하므로 막 들어온 구독을 놓치지 않는다
+        private synchronized void closeIfIdle() {
+            if (!closed && isIdle()) {
+                closed = true;
+                channels.remove(cafeId, this);
+            }
+        }
+
+        // 보낼 구독자도, 스냅샷을 기다리는 구독도 없으면 이벤트를 큐에 넣을 필요가 없다
+        private boolean isIdle() {
+            return subscribers.isEmpty() && pendingSnapshots.get() == 0;
+        }
+
+        private void execute(Runnable task) {
+            tasks.add(task);
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        log.error("좌석 스트림 전송 작업 실패 - cafeId: {}", cafeId, e);
+                    }
+                }
+                draining.set(false);
+            } while (!tasks.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void broadcast(Set<DataWithMediaType> message, long version) {
+            for (Subscriber subscriber : subscribers) {
+                if (version <= subscriber.sinceVersion) {
+                    continue;
+                }
+                try {
+                    subscriber.emitter.send(message);
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 떠났거나 이미 끝난 연결
+                    remove(subscriber);
+                    subscriber.emitter.completeWithError(e);
+                }
+            }
+        }
+    }
+}
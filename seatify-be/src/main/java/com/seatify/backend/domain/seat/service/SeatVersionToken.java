@@ -0,0 +1,39 @@
+package com.seatify.backend.domain.seat.service;
+
+/**
+ * 클라이언트에 건네는 좌석 상태 버전 토큰 "{기동 epoch}-{version}".
+ * 좌석판 버전은 재시작하면 다시 0부터 세므로, 다른 기동 시점의 토큰은 버전 비교에 쓰지 않고 전체 상태로 답한다.
+ */
+public final class SeatVersionToken {
+
+    private static final char SEPARATOR = '-';
+
+    private SeatVersionToken() {
+    }
+
+    public static String format(long epoch, long version) {
+        return epoch + String.valueOf(SEPARATOR) + version;
+    }
+
+    /**
+     * 이번 기동(epoch)에서 발급한 토큰이면 버전을, 다른 기동의 토큰이거나 형식이 다르면 null을 돌려준다.
+     */
+    public static Long versionOf(String token, long epoch) {
+        if (token == null) {
+            return null;
+        }
+        int separator = token.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == token.length() - 1) {
+            return null;
+        }
+        try {
+            if (Long.parseLong(token.substring(0, separator)) != epoch) {
+                return null;
+            }
+            long version = Long.parseLong(token.substring(separator + 1));
+            return version < 0 ? null : version;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -26,6 +26,8 @@ public enum ErrorCode {
 	// 카페
 	CAFE_NOT_EXIST(HttpStatus.BAD_REQUEST, "C-001", "해당 카페는 존재하지 않습니다."),
 	CAFE_ALREADY_VIEWED(HttpStatus.BAD_REQUEST, "C-002", "이미 조회한 카페입니다."),
+	INVALID_CAFE_FIELD(HttpStatus.BAD_REQUEST, "C-003", "조회할 수 없는 카페 항목입니다."),
+	INVALID_CAFE_IMPORT_BODY(HttpStatus.BAD_REQUEST, "C-004", "카페 가져오기 요청 본문의 형식이 올바르지 않습니다."),
 
 	// 지역
 	LOCAL_NOT_EXIST(HttpStatus.BAD_REQUEST, "L-001", "해당 지역은 존재하지 않습니다."),
@@ -40,7 +42,15 @@ public enum ErrorCode {
 
 	// 혼잡도
 	INVALID_CAFE_CONGESTION_VALUE(HttpStatus.BAD_REQUEST, "CR-001" , "카페의 혼잡도는 1[LOW], 2[MEDIUM], 3[HIGH] 중 하나입니다."),
-	CONGESTION_ALREADY_REQUESTED(HttpStatus.BAD_REQUEST, "CR-002", "오늘 이미 혼잡도를 요청한 카페입니다.");
+	CONGESTION_ALREADY_REQUESTED(HttpStatus.BAD_REQUEST, "CR-002", "오늘 이미 혼잡도를 요청한 카페입니다."),
+	INVALID_CONGESTION_BULK_QUERY(HttpStatus.BAD_REQUEST, "CR-003", "카페 ID 목록이나 지도 범위(minLat, minLng, maxLat, maxLng) 중 하나와 올바른 요일을 지정해야 합니다."),
+	TOO_MANY_CONGESTION_CAFES(HttpStatus.BAD_REQUEST, "CR-004", "한 번에 조회할 수 있는 카페 수를 초과했습니다."),
+	INVALID_OCCUPANCY_RANGE(HttpStatus.BAD_REQUEST, "CR-005", "점유율 조회 구간의 시작 시각은 종료 시각보다 앞서야 합니다."),
+
+	// 좌석
+	INVALID_SEAT_HISTORY_RANGE(HttpStatus.BAD_REQUEST, "S-001", "조회 시작 시각은 종료 시각보다 앞서야 합니다."),
+	SEAT_HISTORY_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "S-002", "좌석 이력 조회 구간이 허용된 최대 기간을 초과했습니다."),
+	INVALID_SEAT_STATUS_BODY(HttpStatus.BAD_REQUEST, "S-003", "좌석 상태 요청 본문의 형식이 올바르지 않습니다.");
 
 	private HttpStatus httpStatus;
 	private String errorCode;
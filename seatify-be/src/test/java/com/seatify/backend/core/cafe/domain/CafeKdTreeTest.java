@@ -0,0 +1,79 @@
+package com.seatify.backend.core.cafe.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.seatify.backend.domain.cafe.service.CafeKdTree;
+import com.seatify.backend.domain.cafe.service.CafeLocation;
+
+class CafeKdTreeTest {
+
+	@Test
+	void 반경_안의_가까운_카페를_거리순으로_전수_탐색과_같게_찾는다() {
+		Random random = new Random(7);
+		List<CafeLocation> cafes = new ArrayList<>();
+		for (long id = 0; id < 2_000; id++) {
+			cafes.add(new CafeLocation(id, "cafe" + id, 37.45 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2));
+		}
+		CafeKdTree tree = CafeKdTree.build(cafes);
+
+		for (int i = 0; i < 50; i++) {
+			double lat = 37.45 + random.nextDouble() * 0.2;
+			double lng = 126.9 + random.nextDouble() * 0.2;
+			List<Long> expected = cafes.stream()
+				.filter(cafe -> CafeKdTree.distanceMeters(lat, lng, cafe.getLatitude(), cafe.getLongitude()) <= 1_500)
+				.sorted(Comparator.comparingDouble(cafe -> CafeKdTree.distanceMeters(lat, lng, cafe.getLatitude(), cafe.getLongitude())))
+				.limit(10)
+				.map(CafeLocation::getCafeId)
+				.collect(Collectors.toList());
+
+			List<Long> actual = tree.nearest(lat, lng, 10, 1_500).stream()
+				.map(hit -> hit.getLocation().getCafeId())
+				.collect(Collectors.toList());
+
+			assertThat(actual).containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	void 반경_안의_카페를_개수_제한_없이_모두_방문한다() {
+		Random random = new Random(11);
+		List<CafeLocation> cafes = new ArrayList<>();
+		for (long id = 0; id < 2_000; id++) {
+			cafes.add(new CafeLocation(id, "cafe" + id, 37.45 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2));
+		}
+		CafeKdTree tree = CafeKdTree.build(cafes);
+
+		for (int i = 0; i < 20; i++) {
+			double lat = 37.45 + random.nextDouble() * 0.2;
+			double lng = 126.9 + random.nextDouble() * 0.2;
+			List<Long> expected = cafes.stream()
+				.filter(cafe -> CafeKdTree.distanceMeters(lat, lng, cafe.getLatitude(), cafe.getLongitude()) <= 3_000)
+				.map(CafeLocation::getCafeId)
+				.collect(Collectors.toList());
+
+			List<Long> actual = new ArrayList<>();
+			tree.forEachWithin(lat, lng, 3_000, (location, distanceMeters) -> {
+				assertThat(distanceMeters).isLessThanOrEqualTo(3_000);
+				actual.add(location.getCafeId());
+			});
+
+			assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	void 좌표가_올바르지_않은_카페는_색인하지_않는다() {
+		assertThat(CafeLocation.parse(1L, "cafe", "37.5", "127.0")).isNotNull();
+		assertThat(CafeLocation.parse(1L, "cafe", "", "127.0")).isNull();
+		assertThat(CafeLocation.parse(1L, "cafe", "abc", "127.0")).isNull();
+		assertThat(CafeLocation.parse(1L, "cafe", "91", "127.0")).isNull();
+	}
+}
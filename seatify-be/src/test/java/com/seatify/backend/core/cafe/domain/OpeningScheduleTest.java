@@ -0,0 +1,60 @@
+package com.seatify.backend.core.cafe.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seatify.backend.domain.cafe.service.OpeningSchedule;
+
+class OpeningScheduleTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// 2024-06-03은 월요일
+	private static LocalDateTime monday(int hour, int minute) {
+		return LocalDateTime.of(2024, 6, 3, hour, minute);
+	}
+
+	@Test
+	void 영업_시간_안에서만_영업중이다() {
+		OpeningSchedule schedule = OpeningSchedule.parse(objectMapper, "{\"periods\": ["
+			+ "{\"open\": {\"day\": 1, \"hour\": 9, \"minute\": 0}, \"close\": {\"day\": 1, \"hour\": 18, \"minute\": 0}}]}");
+
+		assertThat(schedule.isKnown()).isTrue();
+		assertThat(schedule.isOpen(monday(8, 59))).isFalse();
+		assertThat(schedule.isOpen(monday(9, 0))).isTrue();
+		assertThat(schedule.isOpen(monday(17, 59))).isTrue();
+		assertThat(schedule.isOpen(monday(18, 0))).isFalse();
+		assertThat(schedule.isOpen(monday(12, 0).plusDays(1))).isFalse();
+	}
+
+	@Test
+	void 자정을_넘기는_영업과_마감_임박을_계산한다() {
+		// 일요일 20:00 ~ 월요일 02:00 (예전 time 형식)
+		OpeningSchedule schedule = OpeningSchedule.parse(objectMapper, "{\"periods\": ["
+			+ "{\"open\": {\"day\": 0, \"time\": \"2000\"}, \"close\": {\"day\": 1, \"time\": \"0200\"}}]}");
+
+		assertThat(schedule.isOpen(monday(1, 30))).isTrue();
+		assertThat(schedule.isOpen(monday(2, 0))).isFalse();
+		assertThat(schedule.isOpen(monday(21, 0).minusDays(1))).isTrue();
+		assertThat(schedule.minutesUntilClose(monday(1, 35))).isEqualTo(25);
+		assertThat(schedule.isClosingSoon(monday(1, 35), 30)).isTrue();
+		assertThat(schedule.isClosingSoon(monday(0, 0), 30)).isFalse();
+	}
+
+	@Test
+	void 마감이_없으면_항상_영업하고_해석할_수_없으면_알_수_없음이다() {
+		OpeningSchedule always = OpeningSchedule.parse(objectMapper,
+			"{\"periods\": [{\"open\": {\"day\": 0, \"hour\": 0, \"minute\": 0}}]}");
+		assertThat(always.isOpen(monday(3, 0))).isTrue();
+		assertThat(always.minutesUntilClose(monday(3, 0))).isEqualTo(Integer.MAX_VALUE);
+
+		assertThat(OpeningSchedule.parse(objectMapper, null)).isSameAs(OpeningSchedule.UNKNOWN);
+		assertThat(OpeningSchedule.parse(objectMapper, "{}")).isSameAs(OpeningSchedule.UNKNOWN);
+		assertThat(OpeningSchedule.parse(objectMapper, "not json")).isSameAs(OpeningSchedule.UNKNOWN);
+		assertThat(OpeningSchedule.UNKNOWN.isOpen(monday(12, 0))).isFalse();
+	}
+}
@@ -0,0 +1,33 @@
+package com.seatify.backend.core.cafestats.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.seatify.backend.domain.cafestats.entity.CafeStats;
+
+class CafeStatsTest {
+
+	private static final long HOUR = CafeStats.HOUR_MILLIS;
+
+	@Test
+	void 현재_버킷과_직전_버킷을_경과_비율로_섞어_최근_혼잡도를_구한다() {
+		long now = 100 * HOUR + HOUR / 2;  // 현재 버킷의 절반이 지남
+
+		// 현재 버킷 HIGH 1건, 직전 버킷 LOW 2건 -> (3 + 2 * 0.5) / (1 + 2 * 0.5)
+		assertThat(CafeStats.recentCongestion(100, 3, 1, 2, 2, now)).isEqualTo(2.0);
+	}
+
+	@Test
+	void 버킷이_한_시간_밀려_있으면_현재_버킷을_직전_버킷으로_본다() {
+		long now = 101 * HOUR + HOUR / 4;
+
+		assertThat(CafeStats.recentCongestion(100, 6, 2, 9, 3, now)).isEqualTo(3.0);
+	}
+
+	@Test
+	void 최근_한_시간_리뷰가_없으면_null() {
+		assertThat(CafeStats.recentCongestion(90, 3, 1, 3, 1, 100 * HOUR)).isNull();
+		assertThat(CafeStats.recentCongestion(100, 0, 0, 0, 0, 100 * HOUR)).isNull();
+	}
+}
@@ -0,0 +1,81 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.seatify.backend.api.cafe.dto.CafeSaveRequestDTO;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository.InsertedCafe;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class CafeBulkRepositoryTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123_456_789);
+	// 다시 읽을 때 비교하는 생성 시각 (초 단위)
+	private static final Timestamp CREATED = Timestamp.valueOf(LocalDateTime.of(2026, 10, 18, 12, 30, 15));
+
+	@InjectMocks
+	private CafeBulkRepository cafeBulkRepository;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void 결과를_모르는_행은_다시_읽어_이번에_저장된_행만_추가된_것으로_본다() {
+		// p1: 무시됨, p2: 드라이버가 결과를 모름, p3: 추가됨
+		given(jdbcTemplate.batchUpdate(startsWith("INSERT IGNORE INTO cafe"), anyList()))
+			.willReturn(new int[]{0, Statement.SUCCESS_NO_INFO, 1});
+		List<InsertedCafe> stored = List.of(new InsertedCafe(12L, "p3", "카페3", "37.5", "127.0"));
+		given(jdbcTemplate.query(startsWith("SELECT cafe_id, place_id, name, latitude, longitude FROM cafe WHERE created_time = ?"),
+			BDDMockito.<RowMapper<InsertedCafe>>any(), eq(CREATED), eq("p2"), eq("p3")))
+			.willReturn(stored);
+
+		List<InsertedCafe> inserted = cafeBulkRepository.insertAll(List.of(cafe("p1"), cafe("p2"), cafe("p3")),
+			List.of("{}", "{}", "{}"), NOW);
+
+		// p2는 같은 생성 시각의 행이 없으므로 다른 요청이 먼저 저장한 것
+		assertThat(inserted).isSameAs(stored);
+	}
+
+	@Test
+	void 모두_무시되면_다시_읽지_않는다() {
+		given(jdbcTemplate.batchUpdate(startsWith("INSERT IGNORE INTO cafe"), anyList())).willReturn(new int[]{0, 0});
+
+		List<InsertedCafe> inserted = cafeBulkRepository.insertAll(List.of(cafe("p1"), cafe("p2")), List.of("{}", "{}"), NOW);
+
+		assertThat(inserted).isEmpty();
+		then(jdbcTemplate).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void 생성_시각은_초_단위로_맞춰_저장한다() {
+		given(jdbcTemplate.batchUpdate(startsWith("INSERT IGNORE INTO cafe"), anyList())).willReturn(new int[]{0});
+
+		cafeBulkRepository.insertAll(List.of(cafe("p1")), List.of("{}"), NOW);
+
+		then(jdbcTemplate).should().batchUpdate(anyString(), BDDMockito.<List<Object[]>>argThat(rows ->
+			CREATED.equals(rows.get(0)[10]) && CREATED.equals(rows.get(0)[11])));
+	}
+
+	private CafeSaveRequestDTO cafe(String placeId) {
+		CafeSaveRequestDTO cafe = new CafeSaveRequestDTO();
+		cafe.setPlaceId(placeId);
+		cafe.setName("카페");
+		cafe.setStatus("영업중");
+		cafe.setAddress("서울시 성동구");
+		return cafe;
+	}
+}
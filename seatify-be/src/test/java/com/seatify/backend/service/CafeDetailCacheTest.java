@@ -0,0 +1,72 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.seatify.backend.api.cafe.dto.CafeDTO;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+import com.seatify.backend.domain.cafe.service.CafeDetailCache;
+
+class CafeDetailCacheTest {
+
+	private final CafeDetailCache cache = new CafeDetailCache(2, 300);
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private CafeDTO load() {
+		loads.incrementAndGet();
+		return CafeDTO.builder().build();
+	}
+
+	@Test
+	void 두_번째_조회부터는_DB를_거치지_않고_변경_이벤트가_오면_다시_읽는다() {
+		cache.get(1L, this::load);
+		cache.get(1L, this::load);
+		assertThat(loads.get()).isEqualTo(1);
+
+		cache.onCafeContentChanged(new CafeContentChangedEvent(1L));
+		cache.get(1L, this::load);
+		assertThat(loads.get()).isEqualTo(2);
+
+		assertThat(cache.stats().getHits()).isEqualTo(1);
+		assertThat(cache.stats().getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	void 조회_중에_무효화되면_읽어_온_값을_캐시에_넣지_않는다() {
+		cache.get(1L, () -> {
+			cache.invalidate(1L);
+			return load();
+		});
+		cache.get(1L, this::load);
+
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void 조회가_끝나면_세대_번호를_남기지_않는다() {
+		cache.get(1L, () -> {
+			assertThat(cache.stats().getLoadingCafes()).isEqualTo(1);
+			return load();
+		});
+		cache.invalidate(1L);
+		cache.invalidate(404L);  // 조회한 적 없는 카페
+		assertThatThrownBy(() -> cache.get(2L, () -> {
+			throw new IllegalStateException();
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(cache.stats().getLoadingCafes()).isZero();
+	}
+
+	@Test
+	void 최대_크기를_넘으면_밀어내고_밀려난_수를_센다() {
+		for (long cafeId = 1; cafeId <= 5; cafeId++) {
+			cache.get(cafeId, this::load);
+		}
+
+		assertThat(cache.stats().getSize()).isLessThanOrEqualTo(2);
+		assertThat(cache.stats().getEvictions()).isGreaterThanOrEqualTo(3);
+	}
+}
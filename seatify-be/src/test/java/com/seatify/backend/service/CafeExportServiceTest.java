@@ -0,0 +1,180 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seatify.backend.api.cafe.dto.CafeExportProjection;
+import com.seatify.backend.api.cafe.dto.CafeInfoResponseDTO;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.cafe.service.CafeExportService;
+import com.seatify.backend.domain.cafe.service.OpeningScheduleRegistry;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class CafeExportServiceTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 14, 14, 30);
+	private static final String HOURS = "{\"weekdayDescriptions\":[\"수요일: 오전 10:00 ~ 오후 10:00\"]}";
+
+	@Mock
+	private CafeRepository cafeRepository;
+
+	@Mock
+	private LiveSeatStateStore liveSeatStateStore;
+
+	@Mock
+	private OpeningScheduleRegistry openingScheduleRegistry;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private CafeExportService cafeExportService;
+
+	@BeforeEach
+	void setUp() {
+		cafeExportService = new CafeExportService(cafeRepository, liveSeatStateStore, openingScheduleRegistry,
+			new MappingJackson2HttpMessageConverter(objectMapper), transactionManager);
+		given(openingScheduleRegistry.now()).willReturn(NOW);
+	}
+
+	@Test
+	void 내보낸_행은_CafeInfoResponseDTO와_같은_모양이다() throws Exception {
+		SeatOccupancyDTO occupancy = new SeatOccupancyDTO(3, 1, 6, 10);
+		given(cafeRepository.streamAllCafeInfo()).willReturn(Stream.of(
+			new ExportRow(1L, "5to7", "영업종료", HOURS, 5, 0),
+			new ExportRow(2L, "빈 카페", "휴무", null, 0, 2)));
+		given(openingScheduleRegistry.status(1L, HOURS, "영업종료", NOW)).willReturn("영업중");
+		given(openingScheduleRegistry.status(2L, null, "휴무", NOW)).willReturn("휴무");
+		given(liveSeatStateStore.findOccupancy(1L)).willReturn(occupancy);
+		given(liveSeatStateStore.findOccupancy(2L)).willReturn(null);
+
+		JsonNode exported = export();
+
+		assertThat(exported.isArray()).isTrue();
+		assertThat(exported).hasSize(2);
+		assertThat(exported.get(0)).isEqualTo(objectMapper.valueToTree(CafeInfoResponseDTO.builder()
+			.cafeId("1").name("5to7").phoneNumber("02-000-0001").address("서울시 성동구")
+			.status("영업중").hasPlugCount(5).isCleanCount(0).rating("4.2")
+			.latitude("37.5460707").longitude("127.043297")
+			.openingHours(HOURS).reviews("[]").occupancy(occupancy)
+			.build()));
+		// 좌석 정보가 없는 카페도 occupancy 키를 null로 싣는다
+		assertThat(exported.get(1)).isEqualTo(objectMapper.valueToTree(CafeInfoResponseDTO.builder()
+			.cafeId("2").name("빈 카페").phoneNumber("02-000-0002").address("서울시 성동구")
+			.status("휴무").hasPlugCount(0).isCleanCount(2).rating("4.2")
+			.latitude("37.5460707").longitude("127.043297")
+			.openingHours(null).reviews("[]").occupancy(null)
+			.build()));
+	}
+
+	@Test
+	void 카페가_없으면_빈_배열을_쓴다() throws Exception {
+		given(cafeRepository.streamAllCafeInfo()).willReturn(Stream.empty());
+
+		JsonNode exported = export();
+
+		assertThat(exported.isArray()).isTrue();
+		assertThat(exported).isEmpty();
+	}
+
+	private JsonNode export() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		cafeExportService.writeAll(out);
+		return objectMapper.readTree(out.toByteArray());
+	}
+
+	private static class ExportRow implements CafeExportProjection {
+
+		private final Long cafeId;
+		private final String name;
+		private final String status;
+		private final String openingHours;
+		private final int hasPlugCount;
+		private final int isCleanCount;
+
+		private ExportRow(Long cafeId, String name, String status, String openingHours, int hasPlugCount,
+						  int isCleanCount) {
+			this.cafeId = cafeId;
+			this.name = name;
+			this.status = status;
+			this.openingHours = openingHours;
+			this.hasPlugCount = hasPlugCount;
+			this.isCleanCount = isCleanCount;
+		}
+
+		@Override
+		public Long getCafeId() {
+			return cafeId;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String getPhoneNumber() {
+			return "02-000-000" + cafeId;
+		}
+
+		@Override
+		public String getAddress() {
+			return "서울시 성동구";
+		}
+
+		@Override
+		public String getStatus() {
+			return status;
+		}
+
+		@Override
+		public String getRating() {
+			return "4.2";
+		}
+
+		@Override
+		public String getLatitude() {
+			return "37.5460707";
+		}
+
+		@Override
+		public String getLongitude() {
+			return "127.043297";
+		}
+
+		@Override
+		public String getOpeningHours() {
+			return openingHours;
+		}
+
+		@Override
+		public String getReviews() {
+			return "[]";
+		}
+
+		@Override
+		public int getHasPlugCount() {
+			return hasPlugCount;
+		}
+
+		@Override
+		public int getIsCleanCount() {
+			return isCleanCount;
+		}
+	}
+}
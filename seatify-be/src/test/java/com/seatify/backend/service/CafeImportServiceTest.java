@@ -0,0 +1,190 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seatify.backend.api.cafe.dto.CafeImportResultDTO;
+import com.seatify.backend.api.cafe.dto.CafeSaveRequestDTO;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+import com.seatify.backend.domain.cafe.event.CafeLocationsChangedEvent;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository.InsertedCafe;
+import com.seatify.backend.domain.cafe.repository.CafeBulkRepository.StoredCafe;
+import com.seatify.backend.domain.cafe.service.CafeImportService;
+import com.seatify.backend.domain.cafe.service.CafeLocation;
+import com.seatify.backend.global.error.exception.BusinessException;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class CafeImportServiceTest {
+
+	@Mock
+	private CafeBulkRepository cafeBulkRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private CafeImportService cafeImportService;
+
+	@BeforeEach
+	void setUp() {
+		cafeImportService = new CafeImportService(cafeBulkRepository, new ObjectMapper(), eventPublisher,
+			transactionManager, 3);
+	}
+
+	@Test
+	void NDJSON을_묶음으로_나눠_추가_갱신_건너뜀을_센다() throws Exception {
+		given(cafeBulkRepository.findByPlaceIds(anyCollection())).willAnswer(invocation -> {
+			Collection<String> placeIds = invocation.getArgument(0);
+			Map<String, StoredCafe> stored = new HashMap<>();
+			if (placeIds.contains("p3")) {
+				stored.put("p3", new StoredCafe(3L, true, false));
+			}
+			return stored;
+		});
+		given(cafeBulkRepository.insertAll(anyList(), anyList(), any())).willAnswer(invocation -> stored(invocation.getArgument(0)));
+		String body = "{\"placeId\": \"p1\", \"name\": \"카페1\", \"status\": \"영업중\", \"address\": \"서울시 성동구\"}\n"
+			+ "{\"placeId\": \"p2\", \"name\": \"cafe2\", \"status\": \"영업중\", \"address\": \"Seoul\"}\n"
+			+ "{\"placeId\": \"p1\", \"name\": \"카페1\", \"status\": \"영업중\", \"address\": \"서울시 성동구\"}\n"
+			+ "{\"placeId\": \"p3\", \"name\": \"카페3\", \"status\": \"영업중\", \"address\": \"서울시 마포구\", \"phoneNumber\": \"0212345678\"}\n";
+
+		CafeImportResultDTO result = cafeImportService.importCafes(
+			new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result.getReceived()).isEqualTo(4);
+		assertThat(result.getInserted()).isEqualTo(1);
+		assertThat(result.getUpdated()).isEqualTo(1);
+		assertThat(result.getSkipped()).isEqualTo(2);
+		assertThat(result.getChunks()).isEqualTo(2);
+		then(cafeBulkRepository).should().updatePhoneNumbers(argThat(rows -> rows.size() == 1
+			&& "0212345678".equals(rows.get(0)[0]) && Long.valueOf(3L).equals(rows.get(0)[1])), any());
+		// 갱신된 p3와 새로 추가된 p1
+		then(eventPublisher).should(times(2)).publishEvent(any(CafeContentChangedEvent.class));
+	}
+
+	@Test
+	void 필수_항목이_없는_행은_저장하지_않고_건너뜀으로_센다() throws Exception {
+		given(cafeBulkRepository.insertAll(anyList(), anyList(), any())).willAnswer(invocation -> stored(invocation.getArgument(0)));
+		String body = "{\"placeId\": \"p1\", \"status\": \"영업중\", \"address\": \"서울시 성동구\"}\n"
+			+ "{\"placeId\": \"p2\", \"name\": \"카페2\", \"address\": \"서울시 성동구\"}\n"
+			+ "{\"name\": \"카페3\", \"status\": \"영업중\", \"address\": \"서울시 성동구\"}\n"
+			+ "{\"placeId\": \"p4\", \"name\": \"카페4\", \"status\": \"영업중\", \"address\": \"서울시 성동구\"}\n";
+
+		CafeImportResultDTO result = cafeImportService.importCafes(
+			new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result.getInserted()).isEqualTo(1);
+		assertThat(result.getSkipped()).isEqualTo(3);
+		then(cafeBulkRepository).should().insertAll(argThat(cafes -> cafes.size() == 1
+			&& "p4".equals(cafes.get(0).getPlaceId())), anyList(), any());
+	}
+
+	@Test
+	void 조회_이후_다른_요청이_먼저_저장한_placeId는_실패하지_않고_건너뛴다() throws Exception {
+		// p1은 INSERT IGNORE로 무시되고 p2만 추가됨
+		given(cafeBulkRepository.insertAll(anyList(), anyList(), any())).willAnswer(invocation -> {
+			List<CafeSaveRequestDTO> cafes = invocation.getArgument(0);
+			return stored(cafes.subList(1, 2));
+		});
+		String body = "{\"placeId\": \"p1\", \"name\": \"카페1\", \"status\": \"영업중\", \"address\": \"서울시 성동구\"}\n"
+			+ "{\"placeId\": \"p2\", \"name\": \"카페2\", \"status\": \"영업중\", \"address\": \"서울시 성동구\"}\n";
+
+		CafeImportResultDTO result = cafeImportService.importCafes(
+			new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result.getInserted()).isEqualTo(1);
+		assertThat(result.getSkipped()).isEqualTo(1);
+		then(eventPublisher).should().publishEvent(BDDMockito.<Object>argThat(event -> event instanceof CafeContentChangedEvent
+			&& ((CafeContentChangedEvent) event).getCafeId().equals(101L)));
+	}
+
+	@Test
+	void 공간_색인에는_요청_값이_아니라_저장된_위치를_넘긴다() throws Exception {
+		given(cafeBulkRepository.insertAll(anyList(), anyList(), any()))
+			.willReturn(List.of(new InsertedCafe(7L, "p1", "카페1", "37.5", "127.0")));
+		String body = "{\"placeId\": \"p1\", \"name\": \"카페1\", \"status\": \"영업중\", \"address\": \"서울시 성동구\", "
+			+ "\"latitude\": \"37.9\", \"longitude\": \"127.9\"}\n";
+
+		cafeImportService.importCafes(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+		then(eventPublisher).should().publishEvent(BDDMockito.<Object>argThat(event -> {
+			if (!(event instanceof CafeLocationsChangedEvent)) {
+				return false;
+			}
+			List<CafeLocation> locations = ((CafeLocationsChangedEvent) event).getLocations();
+			return locations.size() == 1 && locations.get(0).getCafeId().equals(7L)
+				&& locations.get(0).getLatitude() == 37.5 && locations.get(0).getLongitude() == 127.0;
+		}));
+	}
+
+	@Test
+	void 컬럼_길이를_넘는_값이_있는_행은_잘라_넣지_않고_건너뛴다() {
+		given(cafeBulkRepository.insertAll(anyList(), anyList(), any())).willAnswer(invocation -> stored(invocation.getArgument(0)));
+		CafeSaveRequestDTO longPhone = cafe("p1");
+		longPhone.setPhoneNumber("0".repeat(21));
+		CafeSaveRequestDTO longLatitude = cafe("p2");
+		longLatitude.setLatitude("37.12345678901234567890");
+		CafeSaveRequestDTO longRating = cafe("p3");
+		longRating.setRating("4.123456789");
+		CafeSaveRequestDTO valid = cafe("p4");
+		valid.setPhoneNumber("0".repeat(20));
+		valid.setRating("4.5");
+
+		CafeImportResultDTO result = cafeImportService.importCafes(List.of(longPhone, longLatitude, longRating, valid));
+
+		assertThat(result.getReceived()).isEqualTo(4);
+		assertThat(result.getInserted()).isEqualTo(1);
+		assertThat(result.getSkipped()).isEqualTo(3);
+		assertThat(result.getChunks()).isEqualTo(2);
+		then(cafeBulkRepository).should().insertAll(argThat(cafes -> cafes.size() == 1
+			&& "p4".equals(cafes.get(0).getPlaceId())), anyList(), any());
+	}
+
+	@Test
+	void 본문_형식이_잘못되면_예외가_발생한다() {
+		String body = "{\"placeId\": \"p1\", \"address\": \"서울시\"\n";
+
+		assertThatThrownBy(() -> cafeImportService.importCafes(
+			new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+			.isInstanceOf(BusinessException.class);
+		then(cafeBulkRepository).shouldHaveNoInteractions();
+	}
+
+	private CafeSaveRequestDTO cafe(String placeId) {
+		CafeSaveRequestDTO cafe = new CafeSaveRequestDTO();
+		cafe.setPlaceId(placeId);
+		cafe.setName("카페 " + placeId);
+		cafe.setStatus("영업중");
+		cafe.setAddress("서울시 성동구");
+		return cafe;
+	}
+
+	// 넘겨받은 행이 모두 저장된 것처럼 ID를 101번부터 붙여 돌려준다
+	private static List<InsertedCafe> stored(List<CafeSaveRequestDTO> cafes) {
+		List<InsertedCafe> inserted = new ArrayList<>(cafes.size());
+		for (int i = 0; i < cafes.size(); i++) {
+			CafeSaveRequestDTO cafe = cafes.get(i);
+			inserted.add(new InsertedCafe(101L + i, cafe.getPlaceId(), cafe.getName(), cafe.getLatitude(), cafe.getLongitude()));
+		}
+		return inserted;
+	}
+}
@@ -0,0 +1,101 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.seatify.backend.api.cafe.dto.CafeRecommendationDTO;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.cafe.service.CafeLocation;
+import com.seatify.backend.domain.cafe.service.CafeRecommendationService;
+import com.seatify.backend.domain.cafe.service.CafeSpatialIndex;
+import com.seatify.backend.domain.congestion.service.CongestionService;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class CafeRecommendationServiceTest {
+
+	private static final double LAT = 37.5;
+	private static final double LNG = 127.0;
+	private static final double METERS_PER_LAT_DEGREE = 111_195;
+	// 수요일 14시
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 14, 14, 30);
+
+	@Mock
+	private LiveSeatStateStore liveSeatStateStore;
+
+	@Mock
+	private CongestionService congestionService;
+
+	private final CafeSpatialIndex cafeSpatialIndex = new CafeSpatialIndex(null);
+	private CafeRecommendationService recommendationService;
+
+	@BeforeEach
+	void setUp() {
+		recommendationService = new CafeRecommendationService(cafeSpatialIndex, liveSeatStateStore, congestionService, 0.6, 0.4);
+		given(congestionService.now()).willReturn(NOW);
+	}
+
+	@Test
+	void 빈자리와_가까움을_합친_점수_순으로_상위_k개를_추천한다() {
+		cafeSpatialIndex.upsert(List.of(
+			cafeAt(1L, 100),   // 실시간 만석: 0.6 * 0 + 0.4 * 0.9 = 0.36
+			cafeAt(2L, 500),   // 예측 점유율 20%: 0.6 * 0.8 + 0.4 * 0.5 = 0.68
+			cafeAt(3L, 300),   // 정보 없음: 0.6 * 0.5 + 0.4 * 0.7 = 0.58
+			cafeAt(4L, 2_000)  // 반경 밖
+		));
+		given(liveSeatStateStore.findOccupancy(anyLong())).willReturn(null);
+		given(liveSeatStateStore.findOccupancy(1L)).willReturn(new SeatOccupancyDTO(10, 0, 0, 10));
+		given(congestionService.expectedRatio(eq(2L), anyInt(), anyInt())).willReturn(0.2);
+		given(congestionService.expectedRatio(eq(3L), anyInt(), anyInt())).willReturn(Double.NaN);
+
+		List<CafeRecommendationDTO> result = recommendationService.recommend(LAT, LNG, 1_000, 2);
+
+		assertThat(result).extracting(CafeRecommendationDTO::getCafeId).containsExactly(2L, 3L);
+		assertThat(result).extracting(CafeRecommendationDTO::getVacancySource).containsExactly("PREDICTED", "UNKNOWN");
+		assertThat(result.get(0).getScore()).isCloseTo(0.68, within(0.01));
+		assertThat(result.get(1).getScore()).isCloseTo(0.58, within(0.01));
+	}
+
+	@Test
+	void 가까운_후보가_많아도_반경_안의_모든_카페를_점수로_비교한다() {
+		List<CafeLocation> cafes = new ArrayList<>();
+		for (long id = 1; id <= 300; id++) {
+			cafes.add(cafeAt(id, 50));  // 가깝지만 모두 만석
+		}
+		cafes.add(cafeAt(999L, 800));   // 멀지만 비어 있음
+		cafeSpatialIndex.upsert(cafes);
+		given(liveSeatStateStore.findOccupancy(anyLong())).willReturn(new SeatOccupancyDTO(10, 0, 0, 10));
+		given(liveSeatStateStore.findOccupancy(999L)).willReturn(null);
+		given(congestionService.expectedRatio(eq(999L), anyInt(), anyInt())).willReturn(0.0);
+
+		List<CafeRecommendationDTO> result = recommendationService.recommend(LAT, LNG, 1_000, 1);
+
+		assertThat(result).extracting(CafeRecommendationDTO::getCafeId).containsExactly(999L);
+		assertThat(result.get(0).getVacancyPercentage()).isEqualTo(100);
+	}
+
+	@Test
+	void 보고_있는_카페_주변_추천에서_기준_카페는_제외한다() {
+		cafeSpatialIndex.upsert(List.of(cafeAt(1L, 0), cafeAt(2L, 200)));
+		// 예측은 혼잡도 서비스가 알려 준 현재 요일/시간대로 찾는다
+		given(congestionService.expectedRatio(2L, 2, 14)).willReturn(0.5);
+
+		List<CafeRecommendationDTO> result = recommendationService.recommendAround(1L, 1_000, 5);
+
+		assertThat(result).extracting(CafeRecommendationDTO::getCafeId).containsExactly(2L);
+	}
+
+	// 기준 위치에서 북쪽으로 meters만큼 떨어진 카페
+	private CafeLocation cafeAt(Long cafeId, double meters) {
+		return new CafeLocation(cafeId, "cafe" + cafeId, LAT + meters / METERS_PER_LAT_DEGREE, LNG);
+	}
+}
@@ -1,10 +1,36 @@
 package com.seatify.backend.service;
 
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Tuple;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seatify.backend.api.cafe.dto.CafePageDTO;
+import com.seatify.backend.api.cafe.dto.CafeSummaryDTO;
+import com.seatify.backend.api.home.dto.HomeCafeDTO;
+import com.seatify.backend.api.home.dto.HomeStatsProjection;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.cafe.constant.CafeField;
 import com.seatify.backend.domain.cafe.repository.CafeRepository;
 import com.seatify.backend.domain.cafe.service.CafeService;
+import com.seatify.backend.domain.cafe.service.OpeningScheduleRegistry;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
 import com.seatify.backend.support.utils.ServiceTest;
 
 @ServiceTest
@@ -16,4 +42,111 @@ class CafeServiceTest {
 	@Mock
 	private CafeRepository cafeRepository;
 
+	@Mock
+	private LiveSeatStateStore liveSeatStateStore;
+
+	@Mock
+	private OpeningScheduleRegistry openingScheduleRegistry;
+
+	@Test
+	void 다음_페이지가_있으면_마지막_카페_ID를_nextCursor로_준다() {
+		given(cafeRepository.findCafeColumnsAfter(isNull(), eq(EnumSet.of(CafeField.NAME)), eq(3)))
+			.willReturn(List.of(row(1L, "cafe1"), row(2L, "cafe2"), row(3L, "cafe3")));
+
+		CafePageDTO page = cafeService.getCafePage(null, 2, List.of("name"));
+
+		assertThat(page.getCafes()).extracting(CafeSummaryDTO::getCafeId).containsExactly(1L, 2L);
+		assertThat(page.getNextCursor()).isEqualTo(2L);
+	}
+
+	@Test
+	void 마지막_페이지면_nextCursor가_없다() {
+		given(cafeRepository.findCafeColumnsAfter(eq(2L), eq(EnumSet.of(CafeField.NAME)), eq(3)))
+			.willReturn(List.of(row(3L, "cafe3")));
+
+		CafePageDTO page = cafeService.getCafePage(2L, 2, List.of("name"));
+
+		assertThat(page.getCafes()).extracting(CafeSummaryDTO::getCafeId).containsExactly(3L);
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void 요청하지_않은_항목은_응답에서_빠진다() throws JsonProcessingException {
+		given(cafeRepository.findCafeColumnsAfter(isNull(), eq(EnumSet.of(CafeField.NAME)), anyInt()))
+			.willReturn(List.of(row(1L, "cafe1")));
+
+		CafePageDTO page = cafeService.getCafePage(null, null, List.of("name"));
+
+		assertThat(new ObjectMapper().writeValueAsString(page.getCafes().get(0)))
+			.isEqualTo("{\"cafeId\":1,\"name\":\"cafe1\"}");
+		then(liveSeatStateStore).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void 영업_상태는_저장된_값이_아니라_영업_시간표로_채운다() {
+		LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+		given(openingScheduleRegistry.now()).willReturn(now);
+		given(openingScheduleRegistry.status(1L, now)).willReturn(OpeningScheduleRegistry.OPEN);
+		given(cafeRepository.findCafeColumnsAfter(isNull(), eq(EnumSet.of(CafeField.STATUS)), anyInt()))
+			.willReturn(List.of(row(1L, "cafe1")));
+
+		CafePageDTO page = cafeService.getCafePage(null, null, List.of("status"));
+
+		assertThat(page.getCafes().get(0).getStatus()).isEqualTo(OpeningScheduleRegistry.OPEN);
+	}
+
+	@Test
+	void 알_수_없는_항목을_요청하면_예외가_발생한다() {
+		assertThatThrownBy(() -> cafeService.getCafePage(null, 10, List.of("name", "password")))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(ErrorCode.INVALID_CAFE_FIELD.getMessage());
+		then(cafeRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void 홈_카페_목록은_집계_쿼리_결과에_영업_상태와_좌석_현황을_더한다() {
+		LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+		SeatOccupancyDTO occupancy = new SeatOccupancyDTO(3, 0, 7, 10);
+		given(openingScheduleRegistry.now()).willReturn(now);
+		given(cafeRepository.getHomeData()).willReturn(List.of(homeRow("1", "{\"periods\": []}", "영업중"),
+			homeRow("2", null, "휴무")));
+		given(openingScheduleRegistry.status(1L, "{\"periods\": []}", "영업중", now)).willReturn(OpeningScheduleRegistry.CLOSED);
+		given(openingScheduleRegistry.status(2L, null, "휴무", now)).willReturn("휴무");
+		given(liveSeatStateStore.findOccupancy(1L)).willReturn(occupancy);
+		given(liveSeatStateStore.findOccupancy(2L)).willReturn(null);
+
+		List<HomeCafeDTO> cafes = cafeService.getHomeData();
+
+		assertThat(cafes).extracting(HomeCafeDTO::getCafeId).containsExactly("1", "2");
+		assertThat(cafes).extracting(HomeCafeDTO::getStatus).containsExactly(OpeningScheduleRegistry.CLOSED, "휴무");
+		assertThat(cafes.get(0).getOccupancy()).isSameAs(occupancy);
+		assertThat(cafes.get(1).getOccupancy()).isNull();
+		assertThat(cafes.get(0).getCommentReviewCount()).isEqualTo("4");
+		assertThat(cafes.get(0).getHasPlugCount()).isEqualTo(2);
+		assertThat(cafes.get(0).getRating()).isEqualTo("4.5");
+		// 집계 행이 없는 카페는 최근 혼잡도가 없다
+		assertThat(cafes.get(0).getRecentCongestion()).isNull();
+	}
+
+	// 홈 집계 쿼리 결과 한 줄 (cafe_stats 행 없음)
+	private HomeStatsProjection homeRow(String cafeId, String openingHours, String status) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("cafeId", cafeId);
+		values.put("name", "cafe" + cafeId);
+		values.put("status", status);
+		values.put("openingHours", openingHours);
+		values.put("rating", "4.5");
+		values.put("hasPlugCount", 2);
+		values.put("isCleanCount", 1);
+		values.put("commentReviewCount", "4");
+		return new SpelAwareProxyProjectionFactory().createProjection(HomeStatsProjection.class, values);
+	}
+
+	// 별칭으로 값을 꺼내는 조회 결과 한 줄
+	private Tuple row(Long cafeId, String name) {
+		Map<String, Object> values = Map.of("cafeId", cafeId, "name", name);
+		return mock(Tuple.class, invocation -> "get".equals(invocation.getMethod().getName())
+			? values.get(invocation.getArgument(0))
+			: Answers.RETURNS_DEFAULTS.answer(invocation));
+	}
 }
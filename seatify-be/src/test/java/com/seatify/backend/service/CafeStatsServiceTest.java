@@ -0,0 +1,45 @@
+package com.seatify.backend.service;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.seatify.backend.domain.cafestats.entity.CafeStats;
+import com.seatify.backend.domain.cafestats.repository.CafeStatsRepository;
+import com.seatify.backend.domain.cafestats.service.CafeStatsService;
+import com.seatify.backend.domain.review.constant.CafeCongestion;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class CafeStatsServiceTest {
+
+	@InjectMocks
+	private CafeStatsService cafeStatsService;
+
+	@Mock
+	private CafeStatsRepository cafeStatsRepository;
+
+	@Test
+	void 리뷰가_추가되면_현재_시간_버킷에_혼잡도를_한_문장으로_더한다() {
+		long before = System.currentTimeMillis() / CafeStats.HOUR_MILLIS;
+
+		cafeStatsService.reviewAdded(1L, CafeCongestion.HIGH);
+
+		long after = System.currentTimeMillis() / CafeStats.HOUR_MILLIS;
+		then(cafeStatsRepository).should().addReview(eq(1L), longThat(bucket -> bucket >= before && bucket <= after),
+			eq(Integer.parseInt(CafeCongestion.HIGH.getCafeCongestion())));
+		then(cafeStatsRepository).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void 댓글_추가와_삭제는_행을_읽지_않고_카운트만_바꾼다() {
+		cafeStatsService.commentAdded(1L);
+		cafeStatsService.commentRemoved(1L);
+
+		then(cafeStatsRepository).should().incrementCommentCount(1L);
+		then(cafeStatsRepository).should().decrementCommentCount(1L);
+		then(cafeStatsRepository).shouldHaveNoMoreInteractions();
+	}
+}
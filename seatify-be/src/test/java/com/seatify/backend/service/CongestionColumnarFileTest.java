@@ -0,0 +1,114 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.seatify.backend.domain.congestion.service.CongestionColumnarFile;
+
+class CongestionColumnarFileTest {
+
+	private static final String HEADER = "cafe_id,day_of_week,hour,seat_total,seat_vacant\n";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void CSV_행을_카페_ID_순으로_정렬해_컬럼별로_그대로_읽는다() throws IOException {
+		CongestionColumnarFile file = convert(HEADER
+			+ "30,Friday,9,12,3\n"
+			+ "5,Monday,23,40,40\n"
+			+ "30,Saturday,18,12,0\n");
+
+		assertThat(file.rowCount()).isEqualTo(3);
+		assertThat(file.cafeCount()).isEqualTo(2);
+		// 같은 카페 안에서는 CSV 순서를 유지한다
+		assertRow(file, 0, 5L, 0, 23, 40, 40);
+		assertRow(file, 1, 30L, 4, 9, 12, 3);
+		assertRow(file, 2, 30L, 5, 18, 12, 0);
+	}
+
+	@Test
+	void 카페_구간은_인덱스를_이분_탐색해서_찾는다() throws IOException {
+		// 카페 ID 10, 20, ..., 500 을 역순으로, 카페 ID / 10 개씩 쓴다
+		StringBuilder csv = new StringBuilder(HEADER);
+		for (long cafeId = 500; cafeId >= 10; cafeId -= 10) {
+			for (int i = 0; i < cafeId / 10; i++) {
+				csv.append(cafeId).append(",Tuesday,").append(i % 24).append(",10,5\n");
+			}
+		}
+		CongestionColumnarFile file = convert(csv.toString());
+
+		assertThat(file.cafeCount()).isEqualTo(50);
+		int start = 0;
+		for (long cafeId = 10; cafeId <= 500; cafeId += 10) {
+			int count = (int) (cafeId / 10);
+			assertThat(file.rowRange(cafeId)).containsExactly(start, start + count);
+			assertThat(file.cafeId(start)).isEqualTo(cafeId);
+			assertThat(file.cafeId(start + count - 1)).isEqualTo(cafeId);
+			start += count;
+		}
+		assertThat(file.rowRange(1L)).isNull();
+		assertThat(file.rowRange(255L)).isNull();
+		assertThat(file.rowRange(501L)).isNull();
+	}
+
+	@Test
+	void 행이_없는_파일도_열_수_있다() throws IOException {
+		CongestionColumnarFile file = convert(HEADER);
+
+		assertThat(file.rowCount()).isZero();
+		assertThat(file.rowRange(1L)).isNull();
+	}
+
+	@Test
+	void 헤더의_행_수와_파일_크기가_맞지_않으면_열지_않는다() throws IOException {
+		Path columnar = dir.resolve("congestion.cgcf");
+		convert(HEADER + "1,Monday,10,10,5\n2,Monday,11,10,5\n");
+		byte[] bytes = Files.readAllBytes(columnar);
+
+		Files.write(columnar, Arrays.copyOf(bytes, bytes.length - 1));
+		assertThatThrownBy(() -> CongestionColumnarFile.open(columnar)).isInstanceOf(IOException.class);
+
+		// 행 수만 늘려 컬럼이 파일 끝을 넘도록 만든다
+		byte[] tampered = bytes.clone();
+		ByteBuffer.wrap(tampered).putInt(8, 3);
+		Files.write(columnar, tampered);
+		assertThatThrownBy(() -> CongestionColumnarFile.open(columnar)).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void 매직_넘버가_다르거나_헤더보다_짧으면_열지_않는다() throws IOException {
+		Path columnar = dir.resolve("other.bin");
+
+		Files.write(columnar, new byte[8]);
+		assertThatThrownBy(() -> CongestionColumnarFile.open(columnar)).isInstanceOf(IOException.class);
+
+		Files.write(columnar, new byte[16]);
+		assertThatThrownBy(() -> CongestionColumnarFile.open(columnar)).isInstanceOf(IOException.class);
+	}
+
+	private CongestionColumnarFile convert(String csv) throws IOException {
+		Path source = dir.resolve("congestion.csv");
+		Path columnar = dir.resolve("congestion.cgcf");
+		Files.writeString(source, csv);
+		CongestionColumnarFile.convert(source, columnar);
+		return CongestionColumnarFile.open(columnar);
+	}
+
+	private void assertRow(CongestionColumnarFile file, int row, long cafeId, int day, int hour, int seatTotal,
+						   int seatVacant) {
+		assertThat(file.cafeId(row)).isEqualTo(cafeId);
+		assertThat(file.day(row)).isEqualTo(day);
+		assertThat(file.hour(row)).isEqualTo(hour);
+		assertThat(file.seatTotal(row)).isEqualTo(seatTotal);
+		assertThat(file.seatVacant(row)).isEqualTo(seatVacant);
+	}
+}
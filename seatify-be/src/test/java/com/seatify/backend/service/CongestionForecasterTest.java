@@ -0,0 +1,106 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.seatify.backend.api.congestion.dto.CongestionForecastDTO;
+import com.seatify.backend.domain.congestion.service.CongestionAggregator;
+import com.seatify.backend.domain.congestion.service.CongestionForecaster;
+import com.seatify.backend.domain.congestion.service.CongestionService;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class CongestionForecasterTest {
+
+	private static final Long CAFE_ID = 1L;
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	// 수요일 14시
+	private static final ZonedDateTime WEDNESDAY = ZonedDateTime.of(2026, 10, 14, 14, 30, 0, 0, ZONE);
+	// 일요일 23시 (주의 마지막 시간대 167)
+	private static final ZonedDateTime SUNDAY_NIGHT = ZonedDateTime.of(2026, 10, 18, 23, 10, 0, 0, ZONE);
+
+	@Mock
+	private CongestionService congestionService;
+
+	@Mock
+	private CongestionAggregator congestionAggregator;
+
+	private CongestionForecaster forecaster;
+
+	@BeforeEach
+	void setUp() {
+		// alpha 0.5, 감쇠 0.5
+		forecaster = new CongestionForecaster(congestionService, congestionAggregator, "Asia/Seoul", 0.5, 0.5, 24);
+		given(congestionService.knownCafeIds()).willReturn(Set.of(CAFE_ID));
+	}
+
+	@Test
+	void 잔차는_실측치와_계절_성분의_차이를_지수_평활한다() {
+		given(congestionService.expectedRatio(eq(CAFE_ID), anyInt(), anyInt())).willReturn(0.4);
+		given(congestionAggregator.latestRatio(CAFE_ID)).willReturn(0.8);
+
+		// 잔차: 0.5 * 0.4 = 0.2
+		forecaster.refit(WEDNESDAY);
+		assertThat(forecaster.forecast(CAFE_ID, 1, WEDNESDAY))
+			.extracting(CongestionForecastDTO::getPercentage).containsExactly(60);
+
+		// 잔차: 0.5 * 0.4 + 0.5 * 0.2 = 0.3
+		forecaster.refit(WEDNESDAY);
+		assertThat(forecaster.forecast(CAFE_ID, 1, WEDNESDAY))
+			.extracting(CongestionForecastDTO::getPercentage).containsExactly(70);
+	}
+
+	@Test
+	void 실측치가_없으면_잔차를_서서히_잊는다() {
+		given(congestionService.expectedRatio(eq(CAFE_ID), anyInt(), anyInt())).willReturn(0.4);
+		given(congestionAggregator.latestRatio(CAFE_ID)).willReturn(0.8, Double.NaN);
+
+		forecaster.refit(WEDNESDAY);
+		// 잔차: 0.2 * (1 - 0.5) = 0.1
+		forecaster.refit(WEDNESDAY);
+
+		assertThat(forecaster.forecast(CAFE_ID, 1, WEDNESDAY))
+			.extracting(CongestionForecastDTO::getPercentage).containsExactly(50);
+	}
+
+	@Test
+	void 먼_시간대일수록_잔차를_감쇠해서_더한다() {
+		given(congestionService.expectedRatio(eq(CAFE_ID), anyInt(), anyInt())).willReturn(0.4);
+		given(congestionAggregator.latestRatio(CAFE_ID)).willReturn(0.8);
+		forecaster.refit(WEDNESDAY);
+		forecaster.refit(WEDNESDAY);
+
+		List<CongestionForecastDTO> result = forecaster.forecast(CAFE_ID, 3, WEDNESDAY);
+
+		// 0.4 + 0.3, 0.4 + 0.3 * 0.5, 0.4 + 0.3 * 0.25
+		assertThat(result).extracting(CongestionForecastDTO::getHoursAhead).containsExactly(0, 1, 2);
+		assertThat(result).extracting(CongestionForecastDTO::getHour).containsExactly(14, 15, 16);
+		assertThat(result.get(0).getPercentage()).isEqualTo(70);
+		assertThat(result.get(1).getPercentage()).isEqualTo(55);
+		assertThat(result.get(2).getPercentage()).isBetween(47, 48);
+	}
+
+	@Test
+	void 일요일_23시_다음은_월요일_0시로_이어진다() {
+		given(congestionService.expectedRatio(eq(CAFE_ID), anyInt(), anyInt())).willReturn(0.4);
+		given(congestionService.expectedRatio(CAFE_ID, 6, 23)).willReturn(0.9);
+		given(congestionService.expectedRatio(CAFE_ID, 0, 0)).willReturn(0.1);
+		given(congestionAggregator.latestRatio(CAFE_ID)).willReturn(Double.NaN);
+		forecaster.refit(SUNDAY_NIGHT);
+
+		List<CongestionForecastDTO> result = forecaster.forecast(CAFE_ID, 3, SUNDAY_NIGHT);
+
+		assertThat(result).extracting(CongestionForecastDTO::getDayOfWeek).containsExactly("SUNDAY", "MONDAY", "MONDAY");
+		assertThat(result).extracting(CongestionForecastDTO::getHour).containsExactly(23, 0, 1);
+		assertThat(result).extracting(CongestionForecastDTO::getPercentage).containsExactly(90, 10, 40);
+	}
+}
@@ -0,0 +1,70 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.seatify.backend.domain.congestion.service.CongestionColumnarFile;
+import com.seatify.backend.domain.congestion.service.CongestionModel;
+
+class CongestionModelTest {
+
+	private static final String CSV = "cafe_id,day_of_week,hour,seat_total,seat_vacant\n"
+		+ "20,Monday,10,20,10\n"
+		+ "20,Monday,10,20,0\n"
+		+ "7,Sunday,23,10,9\n"
+		+ "7,Funday,23,10,9\n"
+		+ "broken line\n"
+		+ "7,Sunday,12,0,0\n";
+
+	@Test
+	void 카페_요일_시간대별_평균_점유율을_계산한다() throws Exception {
+		CongestionModel model = CongestionModel.parse(new BufferedReader(new StringReader(CSV)));
+
+		assertThat(model.cafeCount()).isEqualTo(2);
+		assertThat(model.ratio(20L, 0, 10)).isCloseTo(0.75, within(1e-6));
+		assertThat(model.samples(20L, 0, 10)).isEqualTo(2);
+		assertThat(model.ratio(7L, 6, 23)).isCloseTo(0.1, within(1e-6));
+	}
+
+	@Test
+	void 표본이_없으면_NaN을_반환한다() throws Exception {
+		CongestionModel model = CongestionModel.parse(new BufferedReader(new StringReader(CSV)));
+
+		assertThat(model.ratio(20L, 0, 11)).isNaN();
+		assertThat(model.ratio(7L, 6, 12)).isNaN();
+		assertThat(model.ratio(99L, 0, 10)).isNaN();
+	}
+
+	@Test
+	void 컬럼_파일로_변환해도_같은_모델을_만든다(@TempDir Path dir) throws Exception {
+		Path csv = dir.resolve("congestion.csv");
+		Path columnar = dir.resolve("congestion.cgcf");
+		Files.writeString(csv, CSV);
+
+		CongestionColumnarFile.convert(csv, columnar);
+		CongestionColumnarFile file = CongestionColumnarFile.open(columnar);
+		CongestionModel model = CongestionModel.from(file);
+
+		assertThat(file.rowCount()).isEqualTo(3);
+		assertThat(file.rowRange(7L)).containsExactly(0, 1);
+		assertThat(file.rowRange(20L)).containsExactly(1, 3);
+		assertThat(file.rowRange(99L)).isNull();
+		assertThat(model.ratio(20L, 0, 10)).isCloseTo(0.75, within(1e-6));
+		assertThat(model.ratio(7L, 6, 23)).isCloseTo(0.1, within(1e-6));
+	}
+
+	@Test
+	void 요일_이름을_대소문자_구분없이_해석한다() {
+		assertThat(CongestionModel.dayIndex("monday")).isZero();
+		assertThat(CongestionModel.dayIndex("SUN")).isEqualTo(6);
+		assertThat(CongestionModel.dayIndex("Mo")).isEqualTo(-1);
+		assertThat(CongestionModel.dayIndex("Funday")).isEqualTo(-1);
+	}
+}
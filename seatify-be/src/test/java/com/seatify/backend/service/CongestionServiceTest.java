@@ -0,0 +1,109 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.seatify.backend.api.congestion.dto.CongestionBulkDTO;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.congestion.service.CongestionAggregator;
+import com.seatify.backend.domain.congestion.service.CongestionService;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class CongestionServiceTest {
+
+	// 수요일 23시
+	private static final LocalDateTime WEDNESDAY_NIGHT = LocalDateTime.of(2026, 10, 14, 23, 30);
+	// 일요일 22시
+	private static final LocalDateTime SUNDAY_NIGHT = LocalDateTime.of(2026, 10, 18, 22, 0);
+
+	@Mock
+	private CongestionAggregator congestionAggregator;
+
+	@Mock
+	private CafeRepository cafeRepository;
+
+	private CongestionService congestionService;
+
+	@BeforeEach
+	void setUp() {
+		// 표본 1개부터 실시간 평균을 쓰고, 한 번에 최대 2곳
+		congestionService = new CongestionService(congestionAggregator, cafeRepository,
+			"data/none.csv", "", 1, 2, "Asia/Seoul");
+	}
+
+	@Test
+	void 자정을_넘는_시간대는_다음_요일의_값을_읽는다() {
+		givenOnlineRatios();
+
+		CongestionBulkDTO result = congestionService.getBulkPredictions(List.of(1L), null, null, null, null,
+			null, 3, WEDNESDAY_NIGHT);
+
+		assertThat(result.getDay()).isEqualTo("WEDNESDAY");
+		assertThat(result.getStartHour()).isEqualTo(23);
+		assertThat(result.getHours()).isEqualTo(3);
+		// 수요일 23시, 목요일 0시, 목요일 1시
+		assertThat(result.getCafes().get(0).getPercentages()).containsExactly(43, 30, 31);
+		assertThat(result.getCafes().get(0).getStatus()).isEqualTo("AVERAGE");
+	}
+
+	@Test
+	void 일요일_밤을_넘기면_월요일로_돌아간다() {
+		givenOnlineRatios();
+
+		CongestionBulkDTO result = congestionService.getBulkPredictions(List.of(1L), null, null, null, null,
+			null, 3, SUNDAY_NIGHT);
+
+		assertThat(result.getDay()).isEqualTo("SUNDAY");
+		// 일요일 22시, 일요일 23시, 월요일 0시
+		assertThat(result.getCafes().get(0).getPercentages()).containsExactly(82, 83, 0);
+	}
+
+	@Test
+	void 지도_범위_안의_카페가_최대_개수를_넘으면_앞쪽만_담고_truncated를_표시한다() {
+		givenOnlineRatios();
+		given(cafeRepository.findCafeIdsInBounds(37.0, 127.0, 37.1, 127.1, 3)).willReturn(List.<Number>of(1L, 2L, 3L));
+
+		CongestionBulkDTO result = congestionService.getBulkPredictions(null, 37.1, 127.1, 37.0, 127.0,
+			null, 1, WEDNESDAY_NIGHT);
+
+		assertThat(result.isTruncated()).isTrue();
+		assertThat(result.getCafes()).extracting(CongestionBulkDTO.CafeCongestion::getCafeId).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void 지도_범위_안의_카페가_최대_개수_이하이면_truncated가_아니다() {
+		givenOnlineRatios();
+		given(cafeRepository.findCafeIdsInBounds(37.0, 127.0, 37.1, 127.1, 3)).willReturn(List.<Number>of(1L, 2L));
+
+		CongestionBulkDTO result = congestionService.getBulkPredictions(null, 37.0, 127.0, 37.1, 127.1,
+			null, 1, WEDNESDAY_NIGHT);
+
+		assertThat(result.isTruncated()).isFalse();
+		assertThat(result.getCafes()).hasSize(2);
+	}
+
+	@Test
+	void 카페_ID를_최대_개수보다_많이_지정하면_예외가_발생한다() {
+		assertThatThrownBy(() -> congestionService.getBulkPredictions(List.of(1L, 2L, 3L), null, null, null, null,
+			null, 1, WEDNESDAY_NIGHT))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(ErrorCode.TOO_MANY_CONGESTION_CAFES.getMessage());
+	}
+
+	// 실시간 평균을 요일 * 10 + 시간 퍼센트로 둔다 (수요일 = 2)
+	private void givenOnlineRatios() {
+		given(congestionAggregator.count(anyLong(), anyInt(), anyInt())).willReturn(1L);
+		given(congestionAggregator.mean(anyLong(), anyInt(), anyInt()))
+			.willAnswer(invocation -> (invocation.<Integer>getArgument(1) * 10 + invocation.<Integer>getArgument(2)) / 100.0);
+	}
+}
@@ -0,0 +1,140 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.seatify.backend.api.seat.dto.SeatDeltaDTO;
+import com.seatify.backend.api.seat.dto.SeatOccupancyDTO;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.entity.Seat;
+import com.seatify.backend.domain.seat.entity.SeatStatus;
+import com.seatify.backend.domain.seat.repository.SeatRepository;
+import com.seatify.backend.domain.seat.repository.SeatStatusBulkRepository;
+import com.seatify.backend.domain.seat.repository.SeatStatusRepository;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.domain.seat.service.SeatFrameResult;
+import com.seatify.backend.domain.seat.service.SeatLayoutRegistry;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class LiveSeatStateStoreTest {
+
+	private static final Long CAFE_ID = 1L;
+
+	@Mock
+	private CafeRepository cafeRepository;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private SeatStatusRepository seatStatusRepository;
+
+	@Mock
+	private SeatStatusBulkRepository seatStatusBulkRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private LiveSeatStateStore store;
+
+	@BeforeEach
+	void setUp() {
+		SeatLayoutRegistry registry = new SeatLayoutRegistry(cafeRepository, seatRepository, eventPublisher, 300_000L, 5);
+		store = new LiveSeatStateStore(registry, seatRepository, seatStatusRepository, seatStatusBulkRepository,
+			transactionManager, eventPublisher);
+		given(seatRepository.findByCafe_CafeId(CAFE_ID)).willReturn(List.of(seat(1), seat(2), seat(3)));
+		given(seatStatusRepository.findByCafe_CafeId(CAFE_ID))
+			.willReturn(List.of(SeatStatus.builder().seatNumber(1).state(SeatState.OCCUPIED).build()));
+	}
+
+	@Test
+	void 이미_반영한_순번_이하의_프레임은_통째로_버린다() {
+		store.apply(CAFE_ID, Map.of(2, SeatState.OCCUPIED), 10L);
+
+		SeatFrameResult stale = store.apply(CAFE_ID, Map.of(2, SeatState.EMPTY, 3, SeatState.OCCUPIED), 10L);
+
+		assertThat(stale.isStale()).isTrue();
+		assertThat(stale.getRejected()).isEqualTo(2);
+		assertThat(store.getChangesSince(CAFE_ID, 0L).getChanges())
+			.extracting(SeatDeltaDTO.Change::getSeatNumber)
+			.containsExactly(2);
+	}
+
+	@Test
+	void 점유_현황은_배치에_있는_좌석의_상태_전이를_따라간다() {
+		store.apply(CAFE_ID, Map.of(2, SeatState.STEP_OUT, 9, SeatState.OCCUPIED), null);
+		store.apply(CAFE_ID, Map.of(1, SeatState.EMPTY), null);
+
+		SeatOccupancyDTO occupancy = store.findOccupancy(CAFE_ID);
+
+		// 9번은 배치에 없는 좌석이라 세지 않는다
+		assertThat(occupancy.getOccupied()).isZero();
+		assertThat(occupancy.getStepOut()).isEqualTo(1);
+		assertThat(occupancy.getEmpty()).isEqualTo(2);
+		assertThat(occupancy.getTotal()).isEqualTo(3);
+	}
+
+	@Test
+	void DB_반영에_실패한_변경분은_다음_주기에_다시_반영한다() {
+		given(seatStatusBulkRepository.upsert(eq(CAFE_ID), anyMap()))
+			.willThrow(new IllegalStateException("DB 연결 끊김"))
+			.willReturn(1);
+		store.apply(CAFE_ID, Map.of(2, SeatState.OCCUPIED), null);
+
+		store.flush();
+		store.flush();
+		store.flush();
+
+		// 실패 1회 + 재시도 1회, 재시도가 성공한 뒤에는 남은 변경분이 없다
+		then(seatStatusBulkRepository).should(times(2)).upsert(CAFE_ID, Map.of(2, SeatState.OCCUPIED));
+	}
+
+	@Test
+	void 재시도_전에_들어온_더_새로운_상태는_실패한_변경분으로_덮어쓰지_않는다() {
+		given(seatStatusBulkRepository.upsert(eq(CAFE_ID), anyMap()))
+			.willAnswer(invocation -> {
+				store.apply(CAFE_ID, Map.of(2, SeatState.EMPTY), null);
+				throw new IllegalStateException("DB 연결 끊김");
+			})
+			.willReturn(1);
+		store.apply(CAFE_ID, Map.of(2, SeatState.OCCUPIED), null);
+
+		store.flush();
+		store.flush();
+
+		then(seatStatusBulkRepository).should().upsert(CAFE_ID, Map.of(2, SeatState.EMPTY));
+	}
+
+	@Test
+	void 배치에서_빠진_좌석의_상태와_아직_반영하지_않은_변경분은_버린다() {
+		store.apply(CAFE_ID, Map.of(3, SeatState.OCCUPIED), null);
+		given(seatRepository.findByCafe_CafeId(CAFE_ID)).willReturn(List.of(seat(1), seat(2)));
+
+		store.reloadLayout(CAFE_ID);
+		store.flush();
+
+		assertThat(store.getFullState(CAFE_ID).getChanges())
+			.extracting(SeatDeltaDTO.Change::getSeatNumber)
+			.containsExactly(1);
+		assertThat(store.findOccupancy(CAFE_ID).getTotal()).isEqualTo(2);
+		then(seatStatusBulkRepository).shouldHaveNoInteractions();
+	}
+
+	private Seat seat(int seatNumber) {
+		return Seat.builder().seatNumber(seatNumber).x(seatNumber * 10).y(0).width(10).height(10).build();
+	}
+}
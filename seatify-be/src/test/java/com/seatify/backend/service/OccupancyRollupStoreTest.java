@@ -0,0 +1,123 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.seatify.backend.api.congestion.dto.OccupancyRollupDTO;
+import com.seatify.backend.domain.congestion.service.OccupancyRollupStore;
+import com.seatify.backend.domain.congestion.service.OccupancySampler;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
+
+class OccupancyRollupStoreTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private static final long CAFE_ID = 1L;
+
+	@TempDir
+	Path dir;
+
+	private OccupancyRollupStore store;
+	private LocalDateTime base;
+
+	@BeforeEach
+	void setUp() {
+		store = newStore();
+		base = LocalDateTime.now(ZONE).truncatedTo(ChronoUnit.HOURS).minusHours(2);
+	}
+
+	@Test
+	void 표본은_분_버킷_시작_시각에_맞춰_묶인다() {
+		record(base.plusSeconds(10), 0.2);
+		record(base.plusSeconds(50), 0.4);
+		record(base.plusSeconds(70), 0.9);
+
+		OccupancyRollupDTO result = store.query(CAFE_ID, base, base.plusHours(1), Duration.ofMinutes(1));
+
+		assertThat(result.getResolution()).isEqualTo("MINUTE");
+		List<OccupancyRollupDTO.Point> points = result.getPoints();
+		assertThat(points).hasSize(2);
+		assertThat(points.get(0).getTime()).isEqualTo(base);
+		assertThat(points.get(0).getSamples()).isEqualTo(2);
+		assertThat(points.get(0).getMean()).isCloseTo(0.3, within(1e-9));
+		assertThat(points.get(0).getMin()).isEqualTo(0.2);
+		assertThat(points.get(0).getMax()).isEqualTo(0.4);
+		assertThat(points.get(1).getTime()).isEqualTo(base.plusMinutes(1));
+		assertThat(points.get(1).getSamples()).isEqualTo(1);
+	}
+
+	@Test
+	void 요청_간격으로_버킷을_묶고_나누어떨어지는_가장_굵은_단위를_고른다() {
+		record(base.plusMinutes(1), 0.1);
+		record(base.plusMinutes(14), 0.3);
+		record(base.plusMinutes(16), 0.5);
+
+		OccupancyRollupDTO quarter = store.query(CAFE_ID, base, base.plusHours(1), Duration.ofMinutes(15));
+		assertThat(quarter.getResolution()).isEqualTo("MINUTE");
+		assertThat(quarter.getStepMinutes()).isEqualTo(15);
+		assertThat(quarter.getPoints()).extracting(OccupancyRollupDTO.Point::getTime)
+			.containsExactly(base, base.plusMinutes(15));
+		assertThat(quarter.getPoints()).extracting(OccupancyRollupDTO.Point::getSamples)
+			.containsExactly(2L, 1L);
+
+		OccupancyRollupDTO hourly = store.query(CAFE_ID, base, base.plusHours(1), Duration.ofHours(1));
+		assertThat(hourly.getResolution()).isEqualTo("HOUR");
+		assertThat(hourly.getPoints()).hasSize(1);
+		assertThat(hourly.getPoints().get(0).getSamples()).isEqualTo(3);
+		assertThat(hourly.getPoints().get(0).getMean()).isCloseTo(0.3, within(1e-9));
+	}
+
+	@Test
+	void 분_단위_보관_기간보다_오래된_구간은_시간_단위로_답한다() {
+		LocalDateTime old = base.minusDays(3);
+		record(old.plusMinutes(5), 0.5);
+
+		OccupancyRollupDTO result = store.query(CAFE_ID, old, old.plusHours(2), Duration.ofMinutes(1));
+
+		assertThat(result.getResolution()).isEqualTo("HOUR");
+		assertThat(result.getStepMinutes()).isEqualTo(60);
+		assertThat(result.getPoints()).hasSize(1);
+		assertThat(result.getPoints().get(0).getTime()).isEqualTo(old);
+	}
+
+	@Test
+	void 종료_시각이_시작_시각보다_앞서면_예외가_발생한다() {
+		assertThatThrownBy(() -> store.query(CAFE_ID, base, base, Duration.ofMinutes(1)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(ErrorCode.INVALID_OCCUPANCY_RANGE.getMessage());
+	}
+
+	@Test
+	void 체크포인트를_저장하고_다시_읽으면_같은_결과를_돌려준다() {
+		record(base.plusMinutes(1), 0.25);
+		record(base.plusMinutes(30), 0.75);
+		store.checkpoint();
+
+		OccupancyRollupStore restored = newStore();
+		restored.restore();
+
+		OccupancyRollupDTO expected = store.query(CAFE_ID, base, base.plusHours(1), Duration.ofMinutes(1));
+		OccupancyRollupDTO actual = restored.query(CAFE_ID, base, base.plusHours(1), Duration.ofMinutes(1));
+		assertThat(actual.getPoints()).usingRecursiveFieldByFieldElementComparator()
+			.containsExactlyElementsOf(expected.getPoints());
+	}
+
+	private OccupancyRollupStore newStore() {
+		return new OccupancyRollupStore(new OccupancySampler(300_000), true, dir.resolve("rollup.bin").toString(),
+			ZONE.getId(), 48, 60, 730);
+	}
+
+	private void record(LocalDateTime time, double ratio) {
+		store.record(CAFE_ID, time.atZone(ZONE).toInstant().toEpochMilli(), ratio);
+	}
+}
@@ -0,0 +1,111 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seatify.backend.domain.cafe.event.CafeContentChangedEvent;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.cafe.service.OpeningSchedule;
+import com.seatify.backend.domain.cafe.service.OpeningScheduleRegistry;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class OpeningScheduleRegistryTest {
+
+	private static final String MONDAY_HOURS =
+		"{\"periods\": [{\"open\": {\"day\": 1, \"hour\": 0, \"minute\": 0}, \"close\": {\"day\": 1, \"hour\": 23, \"minute\": 50}}]}";
+
+	@Mock
+	private CafeRepository cafeRepository;
+
+	private OpeningScheduleRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new OpeningScheduleRegistry(cafeRepository, new ObjectMapper(), "Asia/Seoul", 30);
+	}
+
+	@Test
+	void 없는_카페는_잠시_기억해_반복_조회에도_DB를_다시_읽지_않는다() {
+		given(cafeRepository.findOpeningHoursByCafeId(1L)).willReturn(null);
+		given(cafeRepository.existsById(1L)).willReturn(false);
+
+		assertThat(registry.find(1L)).isEmpty();
+		assertThat(registry.get(1L)).isSameAs(OpeningSchedule.UNKNOWN);
+		assertThat(registry.find(1L)).isEmpty();
+		then(cafeRepository).should(times(1)).findOpeningHoursByCafeId(1L);
+	}
+
+	@Test
+	void 없던_카페가_추가되면_시간표를_다시_읽는다() {
+		given(cafeRepository.findOpeningHoursByCafeId(1L)).willReturn(null, MONDAY_HOURS);
+		given(cafeRepository.existsById(1L)).willReturn(false);
+
+		assertThat(registry.get(1L)).isSameAs(OpeningSchedule.UNKNOWN);
+		registry.onCafeContentChanged(new CafeContentChangedEvent(1L));
+
+		assertThat(registry.get(1L)).isNotSameAs(OpeningSchedule.UNKNOWN);
+		then(cafeRepository).should(times(2)).findOpeningHoursByCafeId(1L);
+	}
+
+	@Test
+	void 영업_시간이_없는_카페는_한_번만_읽는다() {
+		given(cafeRepository.findOpeningHoursByCafeId(1L)).willReturn(null);
+		given(cafeRepository.existsById(1L)).willReturn(true);
+
+		registry.get(1L);
+		registry.get(1L);
+
+		then(cafeRepository).should(times(1)).findOpeningHoursByCafeId(1L);
+	}
+
+	@Test
+	void 카페_정보가_바뀌면_다시_읽는다() {
+		given(cafeRepository.findOpeningHoursByCafeId(1L)).willReturn(MONDAY_HOURS);
+
+		registry.get(1L);
+		registry.onCafeContentChanged(new CafeContentChangedEvent(1L));
+		registry.get(1L);
+
+		then(cafeRepository).should(times(2)).findOpeningHoursByCafeId(1L);
+	}
+
+	@Test
+	void 넘겨받은_영업_시간은_해석만_하고_캐시에_넣지_않는다() {
+		// 2026-10-12는 월요일
+		LocalDateTime mondayNoon = LocalDateTime.of(2026, 10, 12, 12, 0);
+		given(cafeRepository.findOpeningHoursByCafeId(1L)).willReturn(null);
+		given(cafeRepository.existsById(1L)).willReturn(true);
+
+		assertThat(registry.status(1L, MONDAY_HOURS, "영업종료", mondayNoon)).isEqualTo(OpeningScheduleRegistry.OPEN);
+
+		// 넘겨받은 값이 아니라 DB에서 읽은 값이 캐시에 들어간다
+		assertThat(registry.get(1L)).isSameAs(OpeningSchedule.UNKNOWN);
+		then(cafeRepository).should().findOpeningHoursByCafeId(1L);
+	}
+
+	@Test
+	void 캐시에_있는_시간표가_넘겨받은_값보다_우선한다() {
+		LocalDateTime mondayNoon = LocalDateTime.of(2026, 10, 12, 12, 0);
+		given(cafeRepository.findOpeningHoursByCafeId(1L)).willReturn(MONDAY_HOURS);
+		registry.get(1L);
+
+		assertThat(registry.status(1L, null, "영업종료", mondayNoon)).isEqualTo(OpeningScheduleRegistry.OPEN);
+	}
+
+	@Test
+	void 시간표를_모르면_저장된_영업_상태를_그대로_쓴다() {
+		LocalDateTime mondayNoon = LocalDateTime.of(2026, 10, 12, 12, 0);
+
+		assertThat(registry.status(1L, null, "영업중", mondayNoon)).isEqualTo("영업중");
+		assertThat(registry.status(2L, "{}", "휴무", mondayNoon)).isEqualTo("휴무");
+		then(cafeRepository).shouldHaveNoInteractions();
+	}
+}
@@ -5,9 +5,11 @@ import static org.mockito.BDDMockito.*;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.seatify.backend.domain.cafe.entity.Cafe;
 import com.seatify.backend.domain.cafe.service.CafeService;
+import com.seatify.backend.domain.cafestats.service.CafeStatsService;
 import com.seatify.backend.domain.member.service.MemberService;
 import com.seatify.backend.domain.review.entity.Review;
 import com.seatify.backend.domain.review.respository.ReviewRepository;
@@ -28,9 +30,15 @@ class ReviewServiceTest {
 	@Mock
 	private CafeService cafeService;
 
+	@Mock
+	private CafeStatsService cafeStatsService;
+
 	@Mock
 	private ReviewRepository reviewRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Test
 	void 리뷰를_등록한다() {
 		given(memberService.findMemberByMemberId(anyLong())).willReturn(MemberFixture.MEMBER);
@@ -40,6 +48,7 @@ class ReviewServiceTest {
 		reviewService.createReview(ReviewFixture.REVIEW_REQUEST, 1L, 1L);
 
 		then(reviewRepository).should(times(1)).save(any(Review.class));
+		then(cafeStatsService).should(times(1)).reviewAdded(1L, ReviewFixture.REVIEW.getCafeCongestion());
 	}
 
 }
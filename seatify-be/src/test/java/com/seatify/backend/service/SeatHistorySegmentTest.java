@@ -0,0 +1,83 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.history.SeatHistorySegmentReader;
+import com.seatify.backend.domain.seat.history.SeatHistorySegmentWriter;
+
+class SeatHistorySegmentTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void 특정_시각의_좌석_상태를_복원한다() throws Exception {
+		writeSample();
+
+		SeatHistorySegmentReader reader = reader();
+
+		assertThat(reader.stateAt(500)).isEmpty();
+		assertThat(reader.stateAt(1_000)).containsEntry(1, SeatState.OCCUPIED).containsEntry(2, SeatState.EMPTY);
+		assertThat(reader.stateAt(6_000)).containsEntry(2, SeatState.OCCUPIED);
+		assertThat(reader.stateAt(9_600)).containsEntry(1, SeatState.EMPTY).containsEntry(2, SeatState.OCCUPIED);
+	}
+
+	@Test
+	void 구간을_재생하면_시작_상태와_변화_시점을_알린다() throws Exception {
+		writeSample();
+		List<Integer> times = new ArrayList<>();
+
+		reader().replay(2_000, 9_600, Map.of(), (time, states) -> times.add(time));
+
+		assertThat(times).containsExactly(2_000, 5_000, 9_000, 9_500);
+	}
+
+	@Test
+	void 끝이_잘린_세그먼트를_이어_쓰면_잘린_레코드를_버린다() throws Exception {
+		writeSample();
+		Files.write(segment(), new byte[] {2, 0, 0}, StandardOpenOption.APPEND);
+
+		try (SeatHistorySegmentWriter writer = SeatHistorySegmentWriter.open(segment(), index())) {
+			writer.appendChanges(20_000, Map.of(2, SeatState.STEP_OUT));
+		}
+
+		assertThat(reader().stateAt(20_000)).containsEntry(1, SeatState.EMPTY).containsEntry(2, SeatState.STEP_OUT);
+	}
+
+	private void writeSample() throws Exception {
+		Map<Integer, SeatState> states = new HashMap<>(Map.of(1, SeatState.EMPTY, 2, SeatState.EMPTY));
+		try (SeatHistorySegmentWriter writer = SeatHistorySegmentWriter.open(segment(), index())) {
+			writer.appendKeyframe(1_000, states);
+			writer.appendChanges(1_000, Map.of(1, SeatState.OCCUPIED));
+			writer.appendChanges(5_000, Map.of(2, SeatState.OCCUPIED));
+			states.put(1, SeatState.OCCUPIED);
+			states.put(2, SeatState.OCCUPIED);
+			writer.appendKeyframe(9_000, states);
+			writer.appendChanges(9_500, Map.of(1, SeatState.EMPTY));
+		}
+	}
+
+	private SeatHistorySegmentReader reader() throws Exception {
+		return new SeatHistorySegmentReader(segment(), index());
+	}
+
+	private Path segment() {
+		return dir.resolve("1").resolve("2024-06-01.seg");
+	}
+
+	private Path index() {
+		return dir.resolve("1").resolve("2024-06-01.idx");
+	}
+}
@@ -0,0 +1,68 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.seatify.backend.domain.seat.history.SeatHistoryStore;
+import com.seatify.backend.global.error.ErrorCode;
+import com.seatify.backend.global.error.exception.BusinessException;
+
+class SeatHistoryStoreTest {
+
+	private final SeatHistoryStore store = new SeatHistoryStore(null, false, "./build/seat-history-test", "Asia/Seoul",
+		600_000, 90, 7, 10);
+
+	@Test
+	void 시작_시각이_종료_시각보다_늦으면_예외가_발생한다() {
+		LocalDateTime at = LocalDateTime.of(2024, 6, 1, 13, 0);
+
+		assertThatThrownBy(() -> store.getOccupancyTimeline(1L, at, at))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(ErrorCode.INVALID_SEAT_HISTORY_RANGE.getMessage());
+	}
+
+	@Test
+	void 조회_구간이_최대_기간을_넘으면_예외가_발생한다() {
+		LocalDateTime from = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+		assertThatThrownBy(() -> store.getOccupancyTimeline(1L, from, from.plusDays(8)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(ErrorCode.SEAT_HISTORY_RANGE_TOO_LONG.getMessage());
+	}
+
+	@Test
+	void 세그먼트가_아닌_파일이_있어도_모든_카페의_만료_세그먼트를_지운다(@TempDir Path dir) throws Exception {
+		LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+		Path expired1 = createFile(dir.resolve("1"), "2020-01-01.seg");
+		Path stray = createFile(dir.resolve("1"), "backup-old.seg");
+		Path expired2 = createFile(dir.resolve("2"), "2020-01-01.idx");
+		Path recent = createFile(dir.resolve("2"), today + ".seg");
+		Files.createFile(dir.resolve("README"));
+		SeatHistoryStore enabledStore = new SeatHistoryStore(null, true, dir.toString(), "Asia/Seoul",
+			600_000, 90, 7, 10);
+
+		try {
+			enabledStore.deleteExpiredSegments();
+		} finally {
+			enabledStore.shutdown();
+		}
+
+		assertThat(expired1).doesNotExist();
+		assertThat(expired2).doesNotExist();
+		assertThat(stray).exists();
+		assertThat(recent).exists();
+	}
+
+	private Path createFile(Path cafeDir, String name) throws Exception {
+		Files.createDirectories(cafeDir);
+		return Files.createFile(cafeDir.resolve(name));
+	}
+}
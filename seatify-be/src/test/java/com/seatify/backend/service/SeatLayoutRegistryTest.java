@@ -0,0 +1,122 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.seat.entity.Seat;
+import com.seatify.backend.domain.seat.repository.SeatRepository;
+import com.seatify.backend.domain.seat.service.SeatGeometry;
+import com.seatify.backend.domain.seat.service.SeatLayoutRegistry;
+import com.seatify.backend.domain.seat.service.SeatLayoutSnapshot;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class SeatLayoutRegistryTest {
+
+	private static final Long CAFE_ID = 1L;
+
+	@Mock
+	private CafeRepository cafeRepository;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void 보관_중인_이전_버전은_버전_번호로_찾을_수_있다() {
+		SeatLayoutRegistry registry = registry(300_000L, 5);
+		given(seatRepository.findByCafe_CafeId(CAFE_ID))
+			.willReturn(List.of(seat(1)))
+			.willReturn(List.of(seat(1), seat(2)));
+
+		SeatLayoutSnapshot first = registry.current(CAFE_ID);
+		SeatLayoutSnapshot second = registry.reload(CAFE_ID);
+
+		assertThat(registry.find(CAFE_ID, first.getVersion())).containsSame(first);
+		assertThat(registry.find(CAFE_ID, second.getVersion())).containsSame(second);
+		assertThat(registry.find(CAFE_ID, 99L)).isEmpty();
+		assertThat(seatNumbers(registry.find(CAFE_ID, first.getVersion()).orElseThrow())).containsExactly(1);
+	}
+
+	@Test
+	void 보관_개수를_넘은_버전은_오래된_것부터_버린다() {
+		SeatLayoutRegistry registry = registry(300_000L, 1);
+		given(seatRepository.findByCafe_CafeId(CAFE_ID)).willReturn(List.of(seat(1)));
+
+		registry.current(CAFE_ID);
+		registry.reload(CAFE_ID);
+		registry.reload(CAFE_ID);
+
+		assertThat(registry.find(CAFE_ID, 1L)).isEmpty();
+		assertThat(registry.find(CAFE_ID, 2L)).isPresent();
+		assertThat(registry.find(CAFE_ID, 3L)).isPresent();
+	}
+
+	@Test
+	void 보관_기간이_지난_이전_버전은_정리된다() throws InterruptedException {
+		SeatLayoutRegistry registry = registry(0L, 5);
+		given(seatRepository.findByCafe_CafeId(CAFE_ID)).willReturn(List.of(seat(1)));
+		registry.current(CAFE_ID);
+		registry.reload(CAFE_ID);
+		Thread.sleep(5);
+
+		registry.purgeRetired();
+
+		assertThat(registry.find(CAFE_ID, 1L)).isEmpty();
+		assertThat(registry.current(CAFE_ID).getVersion()).isEqualTo(2L);
+	}
+
+	@Test
+	void 같은_카페의_reload는_하나씩_실행된다() throws Exception {
+		SeatLayoutRegistry registry = registry(300_000L, 5);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		given(seatRepository.findByCafe_CafeId(CAFE_ID)).willAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(50);
+			running.decrementAndGet();
+			return List.of(seat(1));
+		});
+		registry.current(CAFE_ID);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<SeatLayoutSnapshot> first = executor.submit(() -> registry.reload(CAFE_ID));
+			Future<SeatLayoutSnapshot> second = executor.submit(() -> registry.reload(CAFE_ID));
+
+			assertThat(List.of(first.get(5, TimeUnit.SECONDS).getVersion(), second.get(5, TimeUnit.SECONDS).getVersion()))
+				.containsExactlyInAnyOrder(2L, 3L);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(maxRunning.get()).isEqualTo(1);
+		assertThat(registry.current(CAFE_ID).getVersion()).isEqualTo(3L);
+	}
+
+	private SeatLayoutRegistry registry(long retentionMillis, int maxRetained) {
+		return new SeatLayoutRegistry(cafeRepository, seatRepository, eventPublisher, retentionMillis, maxRetained);
+	}
+
+	private Seat seat(int seatNumber) {
+		return Seat.builder().seatNumber(seatNumber).x(seatNumber * 10).y(0).width(10).height(10).build();
+	}
+
+	private List<Integer> seatNumbers(SeatLayoutSnapshot snapshot) {
+		return snapshot.getSeats().stream().map(SeatGeometry::getSeatNumber).collect(Collectors.toList());
+	}
+}
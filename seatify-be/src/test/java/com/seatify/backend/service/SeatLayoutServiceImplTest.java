@@ -0,0 +1,143 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seatify.backend.domain.cafe.entity.Cafe;
+import com.seatify.backend.domain.cafe.repository.CafeRepository;
+import com.seatify.backend.domain.seat.entity.Seat;
+import com.seatify.backend.domain.seat.entity.SeatLayout;
+import com.seatify.backend.domain.seat.repository.SeatLayoutRepository;
+import com.seatify.backend.domain.seat.repository.SeatRepository;
+import com.seatify.backend.domain.seat.repository.SeatStatusRepository;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.domain.seat.service.SeatLayoutServiceImpl;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class SeatLayoutServiceImplTest {
+
+	private static final Long CAFE_ID = 1L;
+
+	@Mock
+	private CafeRepository cafeRepository;
+
+	@Mock
+	private SeatLayoutRepository seatLayoutRepository;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private SeatStatusRepository seatStatusRepository;
+
+	@Mock
+	private LiveSeatStateStore liveSeatStateStore;
+
+	@Mock
+	private Cafe cafe;
+
+	private SeatLayoutServiceImpl seatLayoutService;
+
+	@BeforeEach
+	void setUp() {
+		seatLayoutService = new SeatLayoutServiceImpl(cafeRepository, seatLayoutRepository, seatRepository,
+			seatStatusRepository, new ObjectMapper(), liveSeatStateStore, 2);
+	}
+
+	@Test
+	void 새_좌석은_추가하고_사라진_좌석은_상태_행까지_지운다() {
+		givenStored(seat(1, 10), seat(2, 20));
+
+		seatLayoutService.saveSeatLayoutFromJson(CAFE_ID, layout(json(1, 10), json(3, 30)));
+
+		then(seatRepository).should().deleteAllInBatch(BDDMockito.<Iterable<Seat>>argThat(seats -> seatNumbers(seats).equals(List.of(2))));
+		then(seatRepository).should().saveAll(BDDMockito.<Iterable<Seat>>argThat(seats -> seatNumbers(seats).equals(List.of(3))));
+		then(seatLayoutRepository).should().saveAll(BDDMockito.<Iterable<SeatLayout>>argThat(layouts -> layoutNumbers(layouts).equals(List.of(3))));
+		then(seatStatusRepository).should().deleteByCafeIdAndSeatNumbers(CAFE_ID, Set.of(2));
+		then(liveSeatStateStore).should().reloadLayout(CAFE_ID);
+	}
+
+	@Test
+	void 허용_오차를_넘게_움직인_좌석은_행을_유지한_채_좌표만_바꾼다() {
+		Seat moved = seat(1, 10);
+		givenStored(moved);
+
+		seatLayoutService.saveSeatLayoutFromJson(CAFE_ID, layout(json(1, 25)));
+
+		assertThat(moved.getX()).isEqualTo(25);
+		then(seatRepository).should().deleteAllInBatch(List.of());
+		then(seatRepository).should().saveAll(List.of());
+		then(seatStatusRepository).shouldHaveNoInteractions();
+		then(liveSeatStateStore).should().reloadLayout(CAFE_ID);
+	}
+
+	@Test
+	void 허용_오차_안의_차이는_변경으로_보지_않는다() {
+		Seat seat = seat(1, 10);
+		givenStored(seat);
+
+		seatLayoutService.saveSeatLayoutFromJson(CAFE_ID, layout(json(1, 12)));
+
+		assertThat(seat.getX()).isEqualTo(10);
+		then(liveSeatStateStore).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void 직전과_같은_배치를_다시_보내면_DB를_읽지_않는다() {
+		givenStored(seat(1, 10));
+
+		seatLayoutService.saveSeatLayoutFromJson(CAFE_ID, layout(json(1, 10)));
+		seatLayoutService.saveSeatLayoutFromJson(CAFE_ID, layout(json(1, 10)));
+
+		then(cafeRepository).should(times(1)).findById(CAFE_ID);
+		then(seatRepository).should(times(1)).findByCafe_CafeId(CAFE_ID);
+	}
+
+	// 저장된 좌석과 같은 좌표의 레이아웃 행을 함께 준비한다
+	private void givenStored(Seat... seats) {
+		List<SeatLayout> layouts = new ArrayList<>();
+		for (Seat seat : seats) {
+			layouts.add(new SeatLayout(cafe, seat.getSeatNumber(), seat.getX(), seat.getY(), seat.getWidth(), seat.getHeight()));
+		}
+		given(cafe.getCafeId()).willReturn(CAFE_ID);
+		given(cafeRepository.findById(CAFE_ID)).willReturn(Optional.of(cafe));
+		given(seatLayoutRepository.findByCafe_CafeId(CAFE_ID)).willReturn(layouts);
+		given(seatRepository.findByCafe_CafeId(CAFE_ID)).willReturn(List.of(seats));
+	}
+
+	private Seat seat(int seatNumber, int x) {
+		return Seat.builder().cafe(cafe).seatNumber(seatNumber).x(x).y(0).width(10).height(10).build();
+	}
+
+	private String layout(String... seats) {
+		return "[" + String.join(", ", seats) + "]";
+	}
+
+	private String json(int seatNumber, int x) {
+		return "{\"seatID\": " + seatNumber + ", \"x\": " + x + ", \"y\": 0, \"width\": 10, \"height\": 10}";
+	}
+
+	private static List<Integer> seatNumbers(Iterable<Seat> seats) {
+		List<Integer> seatNumbers = new ArrayList<>();
+		seats.forEach(seat -> seatNumbers.add(seat.getSeatNumber()));
+		return seatNumbers;
+	}
+
+	private static List<Integer> layoutNumbers(Iterable<SeatLayout> layouts) {
+		List<Integer> seatNumbers = new ArrayList<>();
+		layouts.forEach(layout -> seatNumbers.add(layout.getSeatNumber()));
+		return seatNumbers;
+	}
+}
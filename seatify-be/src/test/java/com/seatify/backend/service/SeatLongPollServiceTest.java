@@ -0,0 +1,75 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.seatify.backend.api.seat.dto.SeatDeltaDTO;
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.event.SeatFrameAppliedEvent;
+import com.seatify.backend.domain.seat.service.LiveSeatStateStore;
+import com.seatify.backend.domain.seat.service.SeatLongPollService;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class SeatLongPollServiceTest {
+
+	private static final Long CAFE_ID = 1L;
+	private static final long EPOCH = 100L;
+
+	@Mock
+	private LiveSeatStateStore liveSeatStateStore;
+
+	private SeatLongPollService seatLongPollService;
+
+	@BeforeEach
+	void setUp() {
+		seatLongPollService = new SeatLongPollService(liveSeatStateStore, 25_000L, 60_000L);
+		given(liveSeatStateStore.getEpoch()).willReturn(EPOCH);
+	}
+
+	@Test
+	void 대기열에_등록하는_사이_반영된_프레임은_다시_확인해서_바로_돌려준다() {
+		SeatDeltaDTO changes = SeatDeltaDTO.of(EPOCH, 6L, Map.of(1, SeatState.OCCUPIED));
+		// 처음 확인할 때는 그대로였다가, 등록한 직후 다시 확인할 때는 이미 바뀌어 있다
+		given(liveSeatStateStore.getVersion(CAFE_ID)).willReturn(5L, 6L);
+		given(liveSeatStateStore.getChangesSince(CAFE_ID, 5L)).willReturn(changes);
+
+		DeferredResult<ResponseEntity<SeatDeltaDTO>> result = seatLongPollService.await(CAFE_ID, "100-5", null);
+
+		assertThat(result.hasResult()).isTrue();
+		assertThat(body(result)).isSameAs(changes);
+	}
+
+	@Test
+	void 직전_버전을_들고_기다리던_요청은_이벤트의_변경분으로_바로_깨운다() {
+		SeatDeltaDTO older = SeatDeltaDTO.of(EPOCH, 6L, Map.of(1, SeatState.EMPTY, 2, SeatState.OCCUPIED));
+		// 4번 버전에서 기다리는 요청과 5번 버전에서 기다리는 요청
+		given(liveSeatStateStore.getVersion(CAFE_ID)).willReturn(4L, 4L, 5L, 5L);
+		given(liveSeatStateStore.getChangesSince(CAFE_ID, 4L)).willReturn(older);
+		DeferredResult<ResponseEntity<SeatDeltaDTO>> behind = seatLongPollService.await(CAFE_ID, "100-4", null);
+		DeferredResult<ResponseEntity<SeatDeltaDTO>> latest = seatLongPollService.await(CAFE_ID, "100-5", null);
+		assertThat(seatLongPollService.waiterCount(CAFE_ID)).isEqualTo(2);
+
+		seatLongPollService.onSeatFrameApplied(
+			new SeatFrameAppliedEvent(CAFE_ID, 6L, Map.of(2, SeatState.OCCUPIED), null, System.currentTimeMillis()));
+
+		assertThat(body(latest).getVersion()).isEqualTo(6L);
+		assertThat(body(latest).getChanges()).extracting(SeatDeltaDTO.Change::getSeatNumber).containsExactly(2);
+		assertThat(body(behind)).isSameAs(older);
+		then(liveSeatStateStore).should(never()).getChangesSince(CAFE_ID, 5L);
+		assertThat(seatLongPollService.waiterCount(CAFE_ID)).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	private SeatDeltaDTO body(DeferredResult<ResponseEntity<SeatDeltaDTO>> result) {
+		return ((ResponseEntity<SeatDeltaDTO>) result.getResult()).getBody();
+	}
+}
@@ -0,0 +1,95 @@
+package com.seatify.backend.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.repository.SeatStatusBulkRepository;
+import com.seatify.backend.support.utils.ServiceTest;
+
+@ServiceTest
+class SeatStatusBulkRepositoryTest {
+
+	private static final Long CAFE_ID = 1L;
+
+	@InjectMocks
+	private SeatStatusBulkRepository seatStatusBulkRepository;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void 값이_바뀐_좌석만_갱신하고_상태_행이_없는_좌석은_새로_넣는다() {
+		// 1번: 그대로, 2번: EMPTY → STEP_OUT, 3번: 상태 행 없음
+		givenRows("SELECT id, seat_number, state FROM seat_status WHERE cafe_id = ?", List.of(
+			Map.of("id", 11L, "seat_number", 1, "state", "OCCUPIED"),
+			Map.of("id", 12L, "seat_number", 2, "state", "EMPTY")));
+		givenRows("SELECT seat_id, seat_number, is_occupied FROM seat WHERE cafe_id = ?", List.of(
+			Map.of("seat_id", 101L, "seat_number", 1, "is_occupied", true),
+			Map.of("seat_id", 102L, "seat_number", 2, "is_occupied", false),
+			Map.of("seat_id", 103L, "seat_number", 3, "is_occupied", false)));
+
+		seatStatusBulkRepository.upsert(CAFE_ID, new TreeMap<>(Map.of(
+			1, SeatState.OCCUPIED,
+			2, SeatState.STEP_OUT,
+			3, SeatState.OCCUPIED)));
+
+		then(jdbcTemplate).should().update("UPDATE seat_status SET state = ? WHERE id IN (?)", "STEP_OUT", 12L);
+		then(jdbcTemplate).should()
+			.update("INSERT INTO seat_status (cafe_id, seat_number, state) VALUES (?, ?, ?)", CAFE_ID, 3, "OCCUPIED");
+		then(jdbcTemplate).should().update("UPDATE seat SET is_occupied = ? WHERE seat_id IN (?, ?)", true, 102L, 103L);
+		then(jdbcTemplate).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void 바뀐_값이_없으면_조회만_하고_쓰지_않는다() {
+		givenRows("SELECT id, seat_number, state FROM seat_status WHERE cafe_id = ?", List.of(
+			Map.of("id", 11L, "seat_number", 1, "state", "STEP_OUT")));
+		givenRows("SELECT seat_id, seat_number, is_occupied FROM seat WHERE cafe_id = ?", List.of(
+			Map.of("seat_id", 101L, "seat_number", 1, "is_occupied", true)));
+
+		seatStatusBulkRepository.upsert(CAFE_ID, Map.of(1, SeatState.STEP_OUT));
+
+		then(jdbcTemplate).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void seat_행이_없는_좌석_번호는_상태_행을_만들지_않는다() {
+		givenRows("SELECT id, seat_number, state FROM seat_status WHERE cafe_id = ?", List.of());
+		givenRows("SELECT seat_id, seat_number, is_occupied FROM seat WHERE cafe_id = ?", List.of(
+			Map.of("seat_id", 101L, "seat_number", 1, "is_occupied", false)));
+
+		seatStatusBulkRepository.upsert(CAFE_ID, new TreeMap<>(Map.of(
+			1, SeatState.OCCUPIED,
+			7, SeatState.OCCUPIED)));
+
+		then(jdbcTemplate).should()
+			.update("INSERT INTO seat_status (cafe_id, seat_number, state) VALUES (?, ?, ?)", CAFE_ID, 1, "OCCUPIED");
+		then(jdbcTemplate).should().update("UPDATE seat SET is_occupied = ? WHERE seat_id IN (?)", true, 101L);
+		then(jdbcTemplate).shouldHaveNoMoreInteractions();
+	}
+
+	// 조회 결과 행마다 콜백을 불러 준다. 컬럼 이름으로 값을 꺼낸다
+	private void givenRows(String sql, List<Map<String, Object>> rows) {
+		willAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (Map<String, Object> row : rows) {
+				handler.processRow(mock(ResultSet.class, rowInvocation -> rowInvocation.getArguments().length == 1
+					? row.get(rowInvocation.getArgument(0))
+					: Answers.RETURNS_DEFAULTS.answer(rowInvocation)));
+			}
+			return null;
+		}).given(jdbcTemplate).query(eq(sql), any(RowCallbackHandler.class), eq(CAFE_ID));
+	}
+}
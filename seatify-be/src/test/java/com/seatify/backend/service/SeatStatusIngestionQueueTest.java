@@ -0,0 +1,169 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.seatify.backend.domain.seat.constant.SeatState;
+import com.seatify.backend.domain.seat.entity.SeatStatus;
+import com.seatify.backend.domain.seat.service.SeatFrame;
+import com.seatify.backend.domain.seat.service.SeatFrameResult;
+import com.seatify.backend.domain.seat.service.SeatStatusIngestionQueue;
+import com.seatify.backend.domain.seat.service.SeatStatusIngestionQueue.Admission;
+import com.seatify.backend.domain.seat.service.SeatStatusIngestionQueue.OverloadPolicy;
+import com.seatify.backend.domain.seat.service.SeatStatusIngestionQueue.Submission;
+import com.seatify.backend.domain.seat.service.SeatStatusService;
+
+class SeatStatusIngestionQueueTest {
+
+	private final BlockingSeatStatusService seatStatusService = new BlockingSeatStatusService();
+	private SeatStatusIngestionQueue queue;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		seatStatusService.release.countDown();
+		queue.shutdown();
+	}
+
+	@Test
+	void 처리_전에_들어온_프레임은_하나로_병합되고_오래된_프레임은_버린다() throws InterruptedException {
+		queue = new SeatStatusIngestionQueue(seatStatusService, true, 4, 1, OverloadPolicy.REJECT);
+
+		queue.submit(1L, frame(1L, 1, SeatState.OCCUPIED));
+		assertThat(seatStatusService.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Submission second = queue.submit(1L, frame(2L, 1, SeatState.EMPTY));
+		Submission third = queue.submit(1L, frame(3L, 2, SeatState.OCCUPIED));
+		Submission stale = queue.submit(1L, frame(2L, 3, SeatState.OCCUPIED));
+
+		assertThat(second.getAdmission()).isEqualTo(Admission.QUEUED);
+		assertThat(third.getAdmission()).isEqualTo(Admission.QUEUED);
+		assertThat(stale.getAdmission()).isEqualTo(Admission.STALE);
+		assertThat(stale.getResult().isStale()).isTrue();
+
+		seatStatusService.release.countDown();
+		awaitProcessed(2);
+
+		SeatFrame merged = seatStatusService.applied.get(1);
+		assertThat(merged.getSequence()).isEqualTo(3L);
+		assertThat(merged.getStates())
+			.containsEntry(1, SeatState.EMPTY)
+			.containsEntry(2, SeatState.OCCUPIED)
+			.doesNotContainKey(3);
+		assertThat(queue.stats().getSuperseded()).isEqualTo(1);
+		assertThat(queue.stats().getStale()).isEqualTo(1);
+	}
+
+	@Test
+	void 대기_카페_수가_capacity를_넘으면_거절한다() throws InterruptedException {
+		queue = new SeatStatusIngestionQueue(seatStatusService, true, 1, 1, OverloadPolicy.REJECT);
+
+		queue.submit(1L, frame(1L, 1, SeatState.OCCUPIED));
+		assertThat(seatStatusService.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 처리 중인 카페에는 계속 쌓을 수 있지만 새 카페는 자리가 없다
+		assertThat(queue.submit(1L, frame(2L, 1, SeatState.EMPTY)).getAdmission()).isEqualTo(Admission.QUEUED);
+		Submission rejected = queue.submit(2L, frame(1L, 1, SeatState.OCCUPIED));
+
+		assertThat(rejected.getAdmission()).isEqualTo(Admission.REJECTED);
+		assertThat(rejected.getResult()).isNull();
+		assertThat(queue.stats().getRejected()).isEqualTo(1);
+		assertThat(queue.stats().getPendingCafes()).isEqualTo(1);
+	}
+
+	@Test
+	void CALLER_RUNS이면_과부하_시_요청_스레드에서_처리하고_결과를_돌려준다() throws InterruptedException {
+		queue = new SeatStatusIngestionQueue(seatStatusService, true, 1, 1, OverloadPolicy.CALLER_RUNS);
+
+		queue.submit(1L, frame(1L, 1, SeatState.OCCUPIED));
+		assertThat(seatStatusService.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Submission processed = queue.submit(2L, frame(1L, 1, SeatState.OCCUPIED));
+
+		assertThat(processed.getAdmission()).isEqualTo(Admission.PROCESSED);
+		assertThat(processed.getResult().getChanged()).isEqualTo(1);
+		assertThat(queue.stats().getRejected()).isZero();
+	}
+
+	@Test
+	void 처리를_마친_카페도_다음_프레임을_다시_받아_처리한다() throws InterruptedException {
+		queue = new SeatStatusIngestionQueue(seatStatusService, true, 1, 1, OverloadPolicy.REJECT);
+		seatStatusService.release.countDown();
+
+		queue.submit(2L, frame(1L, 1, SeatState.OCCUPIED));
+		awaitProcessed(1);
+		awaitPendingCafes(0);
+
+		// 다 비운 슬롯은 치워지고, 다음 프레임은 새 슬롯으로 들어간다
+		assertThat(queue.submit(3L, frame(1L, 1, SeatState.OCCUPIED)).getAdmission()).isEqualTo(Admission.QUEUED);
+		awaitProcessed(2);
+		awaitPendingCafes(0);
+		assertThat(queue.submit(2L, frame(2L, 1, SeatState.EMPTY)).getAdmission()).isEqualTo(Admission.QUEUED);
+		awaitProcessed(3);
+	}
+
+	private SeatFrame frame(Long seq, int seatId, SeatState state) {
+		return new SeatFrame(Collections.singletonMap(seatId, state), seq, 0);
+	}
+
+	private void awaitProcessed(long count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (queue.stats().getProcessed() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(queue.stats().getProcessed()).isEqualTo(count);
+	}
+
+	private void awaitPendingCafes(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (queue.stats().getPendingCafes() != count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(queue.stats().getPendingCafes()).isEqualTo(count);
+	}
+
+	// 카페 1의 첫 프레임을 release 전까지 붙잡아 두어 작업자가 바쁜 상태를 만든다
+	private static class BlockingSeatStatusService implements SeatStatusService {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final List<SeatFrame> applied = new CopyOnWriteArrayList<>();
+
+		@Override
+		public SeatFrameResult applyFrame(Long cafeId, SeatFrame frame) {
+			applied.add(frame);
+			if (cafeId == 1L && started.getCount() > 0) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return SeatFrameResult.of(0, frame.getInvalid(), applied.size(), frame.getStates());
+		}
+
+		@Override
+		public SeatFrameResult updateSeatStatusFromJson(Long cafeId, String jsonData) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SeatFrameResult updateSeatStatusFromList(Long cafeId, List<Map<String, Object>> statusList, Long sequence) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<SeatStatus> findStatusByCafeId(Long cafeId) {
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.seatify.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.seatify.backend.domain.seat.service.SeatVersionToken;
+
+class SeatVersionTokenTest {
+
+	private static final long EPOCH = 1_718_000_000_000L;
+
+	@Test
+	void 같은_기동에서_발급한_토큰은_버전을_돌려준다() {
+		String token = SeatVersionToken.format(EPOCH, 42L);
+
+		assertThat(token).isEqualTo("1718000000000-42");
+		assertThat(SeatVersionToken.versionOf(token, EPOCH)).isEqualTo(42L);
+	}
+
+	@Test
+	void 재시작_전_토큰이나_형식이_다른_토큰은_null을_돌려준다() {
+		assertThat(SeatVersionToken.versionOf(SeatVersionToken.format(EPOCH - 1, 42L), EPOCH)).isNull();
+		assertThat(SeatVersionToken.versionOf("42", EPOCH)).isNull();
+		assertThat(SeatVersionToken.versionOf("abc-1", EPOCH)).isNull();
+		assertThat(SeatVersionToken.versionOf(EPOCH + "-", EPOCH)).isNull();
+		assertThat(SeatVersionToken.versionOf(null, EPOCH)).isNull();
+	}
+}